@@ -42,7 +42,6 @@ import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * TODO:
@@ -324,7 +323,8 @@ public class JdkHttpClientImpl implements HttpClient {
       newBuilder.connectTimeout(this.builder.readTimeout);
     }
 
-    AtomicLong queueSize = new AtomicLong();
+    JdkWebSocketImpl.QueueSize queueSize = new JdkWebSocketImpl.QueueSize();
+    JdkWebSocketImpl.Demand demand = new JdkWebSocketImpl.Demand();
 
     // use a responseholder to convey both the exception and the websocket
     CompletableFuture<WebSocketResponse> response = new CompletableFuture<>();
@@ -336,16 +336,16 @@ public class JdkHttpClientImpl implements HttpClient {
       // to convert back to http(s) ...
       uri = URI.create("ws" + uri.toString().substring(4));
     }
-    newBuilder.buildAsync(uri, new JdkWebSocketImpl.ListenerAdapter(listener, queueSize)).whenComplete((w, t) -> {
+    newBuilder.buildAsync(uri, new JdkWebSocketImpl.ListenerAdapter(listener, queueSize, demand)).whenComplete((w, t) -> {
       if (t instanceof CompletionException && t.getCause() != null) {
         t = t.getCause();
       }
       if (t instanceof java.net.http.WebSocketHandshakeException) {
-        response.complete(new WebSocketResponse(new JdkWebSocketImpl(queueSize, w), (WebSocketHandshakeException) t));
+        response.complete(new WebSocketResponse(new JdkWebSocketImpl(queueSize, demand, w), (WebSocketHandshakeException) t));
       } else if (t != null) {
         response.completeExceptionally(t);
       } else {
-        response.complete(new WebSocketResponse(new JdkWebSocketImpl(queueSize, w), null));
+        response.complete(new WebSocketResponse(new JdkWebSocketImpl(queueSize, demand, w), null));
       }
     });
 
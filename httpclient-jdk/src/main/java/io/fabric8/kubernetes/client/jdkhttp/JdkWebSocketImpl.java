@@ -25,9 +25,12 @@ import java.net.http.HttpRequest;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.atomic.AtomicLong;
 
 class JdkWebSocketImpl implements WebSocket {
 
@@ -85,17 +88,103 @@ class JdkWebSocketImpl implements WebSocket {
 
   }
 
+  /**
+   * The size of the messages not yet sent, shared by the instances wrapping the same websocket. Waiters
+   * are completed as the sends complete.
+   */
+  static final class QueueSize {
+
+    private long size;
+    private final Map<CompletableFuture<Void>, Long> waiters = new LinkedHashMap<>();
+
+    synchronized void add(long bytes) {
+      size += bytes;
+    }
+
+    void sent(long bytes) {
+      List<CompletableFuture<Void>> ready = new ArrayList<>();
+      synchronized (this) {
+        size -= bytes;
+        waiters.entrySet().removeIf(e -> {
+          if (size <= e.getValue()) {
+            ready.add(e.getKey());
+            return true;
+          }
+          return false;
+        });
+      }
+      ready.forEach(f -> f.complete(null));
+    }
+
+    synchronized long get() {
+      return size;
+    }
+
+    CompletableFuture<Void> whenAtMost(long max) {
+      CompletableFuture<Void> result = new CompletableFuture<>();
+      synchronized (this) {
+        if (size <= max) {
+          return CompletableFuture.completedFuture(null);
+        }
+        waiters.put(result, max);
+      }
+      result.whenComplete((r, t) -> {
+        synchronized (this) {
+          waiters.remove(result);
+        }
+      });
+      return result;
+    }
+
+  }
+
+  /**
+   * Whether delivery to the listener is suspended, shared by the instances wrapping the same websocket.
+   * The next message is only requested from the websocket once the listener has returned and is not suspended.
+   */
+  static final class Demand {
+
+    private boolean suspended;
+    // the listener has returned while suspended, so the next message is yet to be requested
+    private boolean owed;
+
+    synchronized void suspend() {
+      suspended = true;
+    }
+
+    /**
+     * @return true if the next message should be requested now
+     */
+    synchronized boolean next() {
+      owed = suspended;
+      return !suspended;
+    }
+
+    /**
+     * @return true if the next message should be requested now
+     */
+    synchronized boolean resume() {
+      suspended = false;
+      boolean result = owed;
+      owed = false;
+      return result;
+    }
+
+  }
+
   static final class ListenerAdapter implements java.net.http.WebSocket.Listener {
 
     private final Listener listener;
-    private final AtomicLong queueSize;
+    private final QueueSize queueSize;
+    private final Demand demand;
     private final StringBuilder stringBuilder = new StringBuilder();
     private final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
     private final WritableByteChannel byteChannel = Channels.newChannel(byteArrayOutputStream);
 
-    ListenerAdapter(Listener listener, AtomicLong queueSize) {
+    ListenerAdapter(Listener listener, QueueSize queueSize, Demand demand) {
       this.listener = listener;
       this.queueSize = queueSize;
+      this.demand = demand;
     }
 
     @Override
@@ -105,11 +194,13 @@ class JdkWebSocketImpl implements WebSocket {
       } catch (IOException e) {
         throw new RuntimeException(e);
       }
-      webSocket.request(1);
       if (last) {
         ByteBuffer value = ByteBuffer.wrap(byteArrayOutputStream.toByteArray());
         byteArrayOutputStream.reset();
-        listener.onMessage(new JdkWebSocketImpl(queueSize, webSocket), value);
+        listener.onMessage(new JdkWebSocketImpl(queueSize, demand, webSocket), value);
+        requestNext(webSocket);
+      } else {
+        webSocket.request(1);
       }
       return null;
     }
@@ -117,47 +208,57 @@ class JdkWebSocketImpl implements WebSocket {
     @Override
     public CompletionStage<?> onText(java.net.http.WebSocket webSocket, CharSequence data, boolean last) {
       stringBuilder.append(data);
-      webSocket.request(1);
       if (last) {
         String value = stringBuilder.toString();
         stringBuilder.setLength(0);
-        listener.onMessage(new JdkWebSocketImpl(queueSize, webSocket), value);
+        listener.onMessage(new JdkWebSocketImpl(queueSize, demand, webSocket), value);
+        requestNext(webSocket);
+      } else {
+        webSocket.request(1);
       }
       return null;
     }
 
+    private void requestNext(java.net.http.WebSocket webSocket) {
+      if (demand.next()) {
+        webSocket.request(1);
+      }
+    }
+
     @Override
     public CompletionStage<?> onClose(java.net.http.WebSocket webSocket, int statusCode, String reason) {
-      listener.onClose(new JdkWebSocketImpl(queueSize, webSocket), statusCode, reason);
+      listener.onClose(new JdkWebSocketImpl(queueSize, demand, webSocket), statusCode, reason);
       return null;
     }
 
     @Override
     public void onError(java.net.http.WebSocket webSocket, Throwable error) {
-      listener.onError(new JdkWebSocketImpl(queueSize, webSocket), error);
+      listener.onError(new JdkWebSocketImpl(queueSize, demand, webSocket), error);
     }
 
     @Override
     public void onOpen(java.net.http.WebSocket webSocket) {
       webSocket.request(1);
-      listener.onOpen(new JdkWebSocketImpl(queueSize, webSocket));
+      listener.onOpen(new JdkWebSocketImpl(queueSize, demand, webSocket));
     }
   }
 
   private java.net.http.WebSocket webSocket;
-  private AtomicLong queueSize;
+  private QueueSize queueSize;
+  private Demand demand;
 
-  public JdkWebSocketImpl(AtomicLong queueSize, java.net.http.WebSocket webSocket) {
+  public JdkWebSocketImpl(QueueSize queueSize, Demand demand, java.net.http.WebSocket webSocket) {
     this.queueSize = queueSize;
+    this.demand = demand;
     this.webSocket = webSocket;
   }
 
   @Override
   public boolean send(ByteBuffer buffer) {
     final int size = buffer.remaining();
-    queueSize.addAndGet(size);
+    queueSize.add(size);
     CompletableFuture<java.net.http.WebSocket> cf = webSocket.sendBinary(buffer, true);
-    cf.whenComplete((b, t) -> queueSize.addAndGet(-size));
+    cf.whenComplete((b, t) -> queueSize.sent(size));
     return asBoolean(cf);
   }
 
@@ -176,6 +277,8 @@ class JdkWebSocketImpl implements WebSocket {
 
   @Override
   public boolean sendClose(int code, String reason) {
+    // the close response is delivered like any other message
+    resume();
     CompletableFuture<java.net.http.WebSocket> cf = webSocket.sendClose(code, reason == null ? "Closing" : reason);
     return asBoolean(cf);
   }
@@ -185,4 +288,21 @@ class JdkWebSocketImpl implements WebSocket {
     return queueSize.get();
   }
 
+  @Override
+  public CompletableFuture<Void> whenQueueSizeAtMost(long size) {
+    return queueSize.whenAtMost(size);
+  }
+
+  @Override
+  public void suspend() {
+    demand.suspend();
+  }
+
+  @Override
+  public void resume() {
+    if (demand.resume()) {
+      webSocket.request(1);
+    }
+  }
+
 }
@@ -19,6 +19,7 @@ package io.fabric8.kubernetes.client.okhttp;
 import io.fabric8.kubernetes.client.http.WebSocket;
 import io.fabric8.kubernetes.client.http.WebSocketHandshakeException;
 import io.fabric8.kubernetes.client.okhttp.OkHttpClientImpl.OkHttpResponseImpl;
+import io.fabric8.kubernetes.client.utils.Utils;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -29,7 +30,13 @@ import okio.ByteString;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 class OkHttpWebSocketImpl implements WebSocket {
 
@@ -52,6 +59,7 @@ class OkHttpWebSocketImpl implements WebSocket {
     public CompletableFuture<WebSocket> buildAsync(Listener listener) {
       Request request = builder.build();
       CompletableFuture<WebSocket> future = new CompletableFuture<>();
+      Demand demand = new Demand();
       httpClient.newWebSocket(request, new WebSocketListener() {
         private volatile boolean opened;
 
@@ -72,7 +80,7 @@ class OkHttpWebSocketImpl implements WebSocket {
               future.completeExceptionally(t);
             }
           } else {
-            listener.onError(new OkHttpWebSocketImpl(webSocket), t);
+            listener.onError(new OkHttpWebSocketImpl(webSocket, demand), t);
           }
         }
 
@@ -82,24 +90,26 @@ class OkHttpWebSocketImpl implements WebSocket {
           if (response != null) {
             response.close();
           }
-          OkHttpWebSocketImpl value = new OkHttpWebSocketImpl(webSocket);
+          OkHttpWebSocketImpl value = new OkHttpWebSocketImpl(webSocket, demand);
           listener.onOpen(value);
           future.complete(value);
         }
 
         @Override
         public void onMessage(okhttp3.WebSocket webSocket, ByteString bytes) {
-          listener.onMessage(new OkHttpWebSocketImpl(webSocket), bytes.asByteBuffer());
+          listener.onMessage(new OkHttpWebSocketImpl(webSocket, demand), bytes.asByteBuffer());
+          demand.awaitResume();
         }
 
         @Override
         public void onMessage(okhttp3.WebSocket webSocket, String text) {
-          listener.onMessage(new OkHttpWebSocketImpl(webSocket), text);
+          listener.onMessage(new OkHttpWebSocketImpl(webSocket, demand), text);
+          demand.awaitResume();
         }
 
         @Override
         public void onClosing(okhttp3.WebSocket webSocket, int code, String reason) {
-          listener.onClose(new OkHttpWebSocketImpl(webSocket), code, reason);
+          listener.onClose(new OkHttpWebSocketImpl(webSocket, demand), code, reason);
         }
 
       });
@@ -126,10 +136,95 @@ class OkHttpWebSocketImpl implements WebSocket {
 
   }
 
+  /**
+   * The state shared by the instances wrapping the same websocket.
+   * <br>
+   * OkHttp reads the next message as soon as the listener returns, and offers no other way to stop reading,
+   * so while suspended the websocket's reader thread is held after the listener returns. The listener's
+   * own thread is never blocked.
+   * <br>
+   * OkHttp also does not report when a queued message has been sent, so while there is a queue size waiter
+   * a single check of the queue size is scheduled for the websocket.
+   */
+  static final class Demand {
+
+    private boolean suspended;
+    private final Map<CompletableFuture<Void>, Long> waiters = new LinkedHashMap<>();
+    private ScheduledFuture<?> check;
+
+    synchronized void suspend() {
+      suspended = true;
+    }
+
+    synchronized void resume() {
+      suspended = false;
+      notifyAll();
+    }
+
+    synchronized void awaitResume() {
+      try {
+        while (suspended) {
+          wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    CompletableFuture<Void> whenQueueSizeAtMost(okhttp3.WebSocket webSocket, long max) {
+      if (webSocket.queueSize() <= max) {
+        return CompletableFuture.completedFuture(null);
+      }
+      CompletableFuture<Void> result = new CompletableFuture<>();
+      synchronized (this) {
+        waiters.put(result, max);
+        if (check == null) {
+          check = Utils.scheduleAtFixedRate(Runnable::run, () -> checkQueueSize(webSocket), QUEUE_CHECK_MILLIS,
+              QUEUE_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+      }
+      result.whenComplete((r, t) -> {
+        synchronized (this) {
+          waiters.remove(result);
+          stopCheckIfIdle();
+        }
+      });
+      return result;
+    }
+
+    private void checkQueueSize(okhttp3.WebSocket webSocket) {
+      long size = webSocket.queueSize();
+      List<CompletableFuture<Void>> ready = new ArrayList<>();
+      synchronized (this) {
+        waiters.entrySet().removeIf(e -> {
+          if (size <= e.getValue()) {
+            ready.add(e.getKey());
+            return true;
+          }
+          return false;
+        });
+        stopCheckIfIdle();
+      }
+      ready.forEach(f -> f.complete(null));
+    }
+
+    private void stopCheckIfIdle() {
+      if (waiters.isEmpty() && check != null) {
+        check.cancel(false);
+        check = null;
+      }
+    }
+
+  }
+
+  static final long QUEUE_CHECK_MILLIS = 10;
+
   private okhttp3.WebSocket webSocket;
+  private Demand demand;
 
-  public OkHttpWebSocketImpl(okhttp3.WebSocket webSocket) {
+  public OkHttpWebSocketImpl(okhttp3.WebSocket webSocket, Demand demand) {
     this.webSocket = webSocket;
+    this.demand = demand;
   }
 
   @Override
@@ -139,6 +234,8 @@ class OkHttpWebSocketImpl implements WebSocket {
 
   @Override
   public boolean sendClose(int code, String reason) {
+    // the reader has to continue for the close response to be received
+    resume();
     return webSocket.close(code, reason);
   }
 
@@ -147,4 +244,19 @@ class OkHttpWebSocketImpl implements WebSocket {
     return webSocket.queueSize();
   }
 
+  @Override
+  public CompletableFuture<Void> whenQueueSizeAtMost(long size) {
+    return demand.whenQueueSizeAtMost(webSocket, size);
+  }
+
+  @Override
+  public void suspend() {
+    demand.suspend();
+  }
+
+  @Override
+  public void resume() {
+    demand.resume();
+  }
+
 }
\ No newline at end of file
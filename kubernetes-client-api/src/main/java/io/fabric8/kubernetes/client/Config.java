@@ -99,6 +99,9 @@ public class Config {
   public static final String KUBERNETES_WEBSOCKET_PING_INTERVAL_SYSTEM_PROPERTY = "kubernetes.websocket.ping.interval";
   public static final String KUBERNETES_MAX_CONCURRENT_REQUESTS = "kubernetes.max.concurrent.requests";
   public static final String KUBERNETES_MAX_CONCURRENT_REQUESTS_PER_HOST = "kubernetes.max.concurrent.requests.per.host";
+  public static final String KUBERNETES_MAX_REQUESTS_PER_SECOND = "kubernetes.max.requests.per.second";
+  public static final String KUBERNETES_MAX_REQUEST_BURST = "kubernetes.max.request.burst";
+  public static final String KUBERNETES_WATCH_MULTIPLEXING = "kubernetes.watch.multiplexing";
 
   public static final String KUBERNETES_IMPERSONATE_USERNAME = "kubernetes.impersonate.username";
   public static final String KUBERNETES_IMPERSONATE_GROUP = "kubernetes.impersonate.group";
@@ -170,6 +173,10 @@ public class Config {
   private String keyStoreFile;
   private String keyStorePassphrase;
   private AuthProviderConfig authProvider;
+  private String oauthTokenExpirationTimestamp;
+  private double maxRequestsPerSecond;
+  private int maxRequestBurst;
+  private boolean watchMultiplexing;
 
   private RequestConfig requestConfig = new RequestConfig();
 
@@ -324,7 +331,7 @@ public class Config {
         errorMessages, userAgent, tlsVersions, websocketTimeout, websocketPingInterval, proxyUsername, proxyPassword,
         trustStoreFile, trustStorePassphrase, keyStoreFile, keyStorePassphrase, impersonateUsername, impersonateGroups,
         impersonateExtras, null, null, DEFAULT_REQUEST_RETRY_BACKOFFLIMIT, DEFAULT_REQUEST_RETRY_BACKOFFINTERVAL,
-        DEFAULT_UPLOAD_CONNECTION_TIMEOUT, DEFAULT_UPLOAD_REQUEST_TIMEOUT);
+        DEFAULT_UPLOAD_CONNECTION_TIMEOUT, DEFAULT_UPLOAD_REQUEST_TIMEOUT, null, 0, 0, false);
   }
 
   @Buildable(builderPackage = "io.fabric8.kubernetes.api.builder", editableEnabled = false)
@@ -338,7 +345,9 @@ public class Config {
       String proxyPassword, String trustStoreFile, String trustStorePassphrase, String keyStoreFile, String keyStorePassphrase,
       String impersonateUsername, String[] impersonateGroups, Map<String, List<String>> impersonateExtras,
       OAuthTokenProvider oauthTokenProvider, Map<String, String> customHeaders, int requestRetryBackoffLimit,
-      int requestRetryBackoffInterval, int uploadConnectionTimeout, int uploadRequestTimeout) {
+      int requestRetryBackoffInterval, int uploadConnectionTimeout, int uploadRequestTimeout,
+      String oauthTokenExpirationTimestamp, double maxRequestsPerSecond, int maxRequestBurst,
+      boolean watchMultiplexing) {
     this.masterUrl = masterUrl;
     this.apiVersion = apiVersion;
     this.namespace = namespace;
@@ -386,6 +395,10 @@ public class Config {
     this.keyStorePassphrase = keyStorePassphrase;
     this.oauthTokenProvider = oauthTokenProvider;
     this.customHeaders = customHeaders;
+    this.watchMultiplexing = watchMultiplexing;
+    this.maxRequestsPerSecond = maxRequestsPerSecond;
+    this.maxRequestBurst = maxRequestBurst;
+    this.oauthTokenExpirationTimestamp = oauthTokenExpirationTimestamp;
   }
 
   public static void configFromSysPropsOrEnvVars(Config config) {
@@ -498,6 +511,13 @@ public class Config {
       config.setMaxConcurrentRequestsPerHost(Integer.parseInt(configuredMaxConcurrentReqeustsPerHost));
     }
 
+    String configuredMaxRequestsPerSecond = Utils.getSystemPropertyOrEnvVar(KUBERNETES_MAX_REQUESTS_PER_SECOND);
+    if (configuredMaxRequestsPerSecond != null) {
+      config.setMaxRequestsPerSecond(Double.parseDouble(configuredMaxRequestsPerSecond));
+    }
+    config.setMaxRequestBurst(Utils.getSystemPropertyOrEnvVar(KUBERNETES_MAX_REQUEST_BURST, config.getMaxRequestBurst()));
+    config.setWatchMultiplexing(Utils.getSystemPropertyOrEnvVar(KUBERNETES_WATCH_MULTIPLEXING, config.isWatchMultiplexing()));
+
     config.setHttp2Disable(Utils.getSystemPropertyOrEnvVar(KUBERNETES_HTTP2_DISABLE, config.isHttp2Disable()));
 
     config.setHttpProxy(Utils.getSystemPropertyOrEnvVar(KUBERNETES_ALL_PROXY, config.getHttpProxy()));
@@ -703,6 +723,7 @@ public class Config {
               ExecCredential ec = getExecCredentialFromExecConfig(exec, configFile);
               if (ec != null && ec.status != null && ec.status.token != null) {
                 config.setOauthToken(ec.status.token);
+                config.setOauthTokenExpirationTimestamp(ec.status.expirationTimestamp);
               } else {
                 LOGGER.warn("No token returned");
               }
@@ -814,7 +835,8 @@ public class Config {
   @JsonIgnoreProperties(ignoreUnknown = true)
   private static final class ExecCredentialStatus {
     public String token;
-    // TODO clientCertificateData, clientKeyData, expirationTimestamp
+    public String expirationTimestamp;
+    // TODO clientCertificateData, clientKeyData
   }
 
   private static boolean tryNamespaceFromPath(Config config) {
@@ -1294,6 +1316,50 @@ public class Config {
     this.requestConfig.setMaxConcurrentRequests(maxConcurrentRequests);
   }
 
+  /**
+   * Returns the sustained rate of requests a client may make. 0 or less, the default, is unlimited.
+   *
+   * @return the maximum requests per second
+   */
+  @JsonProperty("maxRequestsPerSecond")
+  public double getMaxRequestsPerSecond() {
+    return maxRequestsPerSecond;
+  }
+
+  public void setMaxRequestsPerSecond(double maxRequestsPerSecond) {
+    this.maxRequestsPerSecond = maxRequestsPerSecond;
+  }
+
+  /**
+   * Returns the number of requests that may be made at once above the {@link #getMaxRequestsPerSecond()} rate.
+   * 0 or less, the default, uses the rate.
+   *
+   * @return the maximum request burst
+   */
+  @JsonProperty("maxRequestBurst")
+  public int getMaxRequestBurst() {
+    return maxRequestBurst;
+  }
+
+  public void setMaxRequestBurst(int maxRequestBurst) {
+    this.maxRequestBurst = maxRequestBurst;
+  }
+
+  /**
+   * Returns true if watches on the same resource and namespace made through a client share one connection
+   * to the api server. Label selectors, and name or namespace field selectors, are then applied by the client.
+   *
+   * @return true if watches are multiplexed
+   */
+  @JsonProperty("watchMultiplexing")
+  public boolean isWatchMultiplexing() {
+    return watchMultiplexing;
+  }
+
+  public void setWatchMultiplexing(boolean watchMultiplexing) {
+    this.watchMultiplexing = watchMultiplexing;
+  }
+
   public int getMaxConcurrentRequestsPerHost() {
     return getRequestConfig().getMaxConcurrentRequestsPerHost();
   }
@@ -1436,6 +1502,21 @@ public class Config {
     return authProvider;
   }
 
+  /**
+   * Returns the RFC 3339 expiration of the oauth token, if it was provided by an exec credential plugin.
+   * Returns {@code null} if unknown.
+   *
+   * @return the token expiration timestamp
+   */
+  @JsonIgnore
+  public String getOauthTokenExpirationTimestamp() {
+    return oauthTokenExpirationTimestamp;
+  }
+
+  public void setOauthTokenExpirationTimestamp(String oauthTokenExpirationTimestamp) {
+    this.oauthTokenExpirationTimestamp = oauthTokenExpirationTimestamp;
+  }
+
   @JsonAnyGetter
   public Map<String, Object> getAdditionalProperties() {
     return this.additionalProperties;
@@ -18,6 +18,9 @@ package io.fabric8.kubernetes.client.dsl;
 import java.io.Closeable;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 
 public interface ExecWatch extends Closeable {
 
@@ -29,6 +32,47 @@ public interface ExecWatch extends Closeable {
 
   InputStream getErrorChannel();
 
+  /**
+   * The input as a channel. When the input is redirected the bytes are sent to the websocket
+   * without an intermediate pipe.
+   *
+   * @return the channel, or null if the input is not redirected
+   */
+  default WritableByteChannel getInputByteChannel() {
+    OutputStream input = getInput();
+    if (input instanceof WritableByteChannel) {
+      return (WritableByteChannel) input;
+    }
+    return input == null ? null : Channels.newChannel(input);
+  }
+
+  /**
+   * The output as a channel. When the output is redirected the received websocket buffers are
+   * copied directly into the buffer given to {@link ReadableByteChannel#read(java.nio.ByteBuffer)}.
+   *
+   * @return the channel, or null if the output is not redirected
+   */
+  default ReadableByteChannel getOutputByteChannel() {
+    InputStream output = getOutput();
+    if (output instanceof ReadableByteChannel) {
+      return (ReadableByteChannel) output;
+    }
+    return output == null ? null : Channels.newChannel(output);
+  }
+
+  /**
+   * The error as a channel, see {@link #getOutputByteChannel()}.
+   *
+   * @return the channel, or null if the error is not redirected
+   */
+  default ReadableByteChannel getErrorByteChannel() {
+    InputStream error = getError();
+    if (error instanceof ReadableByteChannel) {
+      return (ReadableByteChannel) error;
+    }
+    return error == null ? null : Channels.newChannel(error);
+  }
+
   /**
    * Close the Watch.
    */
@@ -58,6 +58,23 @@ public interface Informable<T> {
    */
   Informable<T> withLimit(Long limit);
 
+  /**
+   * Have informers created by subsequent inform calls request only the metadata of each resource.
+   * <p>
+   * The server returns PartialObjectMetadata in place of the full resource, so the items in the informer
+   * store will only have their kind, apiVersion and metadata populated. This greatly reduces the memory and
+   * bandwidth used when the handlers only need names, labels, annotations or owner references.
+   * <p>
+   * Only the requests made by the informer are affected, other operations such as list or watch still
+   * return the full resources.
+   * <p>
+   * See also {@link SharedInformer#withTransform(java.util.function.UnaryOperator)} for trimming
+   * objects on the client side.
+   *
+   * @return the current {@link Informable}
+   */
+  Informable<T> withMetadataOnly();
+
   /**
    * Similar to a {@link Watch}, but will attempt to handle failures after successfully started.
    * and provides a store of all the current resources.
@@ -60,4 +60,7 @@ public interface ExtensibleResource<T> extends Resource<T> {
   @Override
   ExtensibleResource<T> withLimit(Long limit);
 
+  @Override
+  ExtensibleResource<T> withMetadataOnly();
+
 }
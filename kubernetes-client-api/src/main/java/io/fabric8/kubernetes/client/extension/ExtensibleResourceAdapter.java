@@ -97,4 +97,9 @@ public abstract class ExtensibleResourceAdapter<T> extends ResourceAdapter<T> im
     return newInstance().init(resource.withLimit(limit), client);
   }
 
+  @Override
+  public ExtensibleResource<T> withMetadataOnly() {
+    return newInstance().init(resource.withMetadataOnly(), client);
+  }
+
 }
@@ -216,6 +216,11 @@ public class ResourceAdapter<T> implements Resource<T> {
     return resource.withLimit(limit);
   }
 
+  @Override
+  public Informable<T> withMetadataOnly() {
+    return resource.withMetadataOnly();
+  }
+
   @Override
   public <V> T edit(Class<V> visitorType, Visitor<V> visitor) {
     return resource.edit(visitorType, visitor);
@@ -85,4 +85,26 @@ public interface WebSocket {
    */
   long queueSize();
 
+  /**
+   * Returns a future that completes once the {@link #queueSize()} is at or below the given size.
+   *
+   * @param size the queue size to wait for
+   * @return a future that completes when the queue is at or below the size
+   */
+  CompletableFuture<Void> whenQueueSizeAtMost(long size);
+
+  /**
+   * Stop delivering messages to the listener once the current callback returns, until {@link #resume()}
+   * is called.
+   * <br>
+   * This allows a listener that can't keep up to apply back pressure to the sender without blocking the
+   * thread delivering its messages.
+   */
+  void suspend();
+
+  /**
+   * Continue delivering messages to the listener after {@link #suspend()}. May be called from any thread.
+   */
+  void resume();
+
 }
@@ -0,0 +1,208 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.client.Watcher;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link InformerMetrics} that keeps running totals and maximums in memory.
+ * <br>
+ * An instance may be shared by several informers to get combined values.
+ */
+public class CountingInformerMetrics implements InformerMetrics {
+
+  private final LongAdder lists = new LongAdder();
+  private final LongAdder relists = new LongAdder();
+  private final LongAdder listedItems = new LongAdder();
+  private final LongAdder listNanos = new LongAdder();
+  private final LongAdder watchStarts = new LongAdder();
+  private final LongAdder watchReconnects = new LongAdder();
+  private final LongAdder decodedEvents = new LongAdder();
+  private final LongAdder decodeNanos = new LongAdder();
+  private final Map<Watcher.Action, LongAdder> appliedEvents = new EnumMap<>(Watcher.Action.class);
+  private final LongAdder applyNanos = new LongAdder();
+  private final AtomicLong maxApplyNanos = new AtomicLong();
+  private final LongAdder queuedNotifications = new LongAdder();
+  private final AtomicInteger maxQueueSize = new AtomicInteger();
+  private final LongAdder droppedNotifications = new LongAdder();
+  private final LongAdder handledNotifications = new LongAdder();
+  private final LongAdder queuedNanos = new LongAdder();
+  private final AtomicLong maxQueuedNanos = new AtomicLong();
+  private final LongAdder handlerNanos = new LongAdder();
+  private final AtomicLong maxHandlerNanos = new AtomicLong();
+
+  public CountingInformerMetrics() {
+    for (Watcher.Action action : Watcher.Action.values()) {
+      appliedEvents.put(action, new LongAdder());
+    }
+  }
+
+  @Override
+  public void listCompleted(int items, long nanos, boolean relist) {
+    lists.increment();
+    if (relist) {
+      relists.increment();
+    }
+    listedItems.add(items);
+    listNanos.add(nanos);
+  }
+
+  @Override
+  public void watchStarted() {
+    watchStarts.increment();
+  }
+
+  @Override
+  public void watchReconnectScheduled() {
+    watchReconnects.increment();
+  }
+
+  @Override
+  public void eventDecoded(long nanos) {
+    decodedEvents.increment();
+    decodeNanos.add(nanos);
+  }
+
+  @Override
+  public void eventApplied(Watcher.Action action, long nanos) {
+    appliedEvents.get(action).increment();
+    applyNanos.add(nanos);
+    maxApplyNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  @Override
+  public void notificationQueued(int queueSize) {
+    queuedNotifications.increment();
+    maxQueueSize.accumulateAndGet(queueSize, Math::max);
+  }
+
+  @Override
+  public void notificationDropped() {
+    droppedNotifications.increment();
+  }
+
+  @Override
+  public void notificationHandled(long queuedNanos, long handlerNanos) {
+    handledNotifications.increment();
+    this.queuedNanos.add(queuedNanos);
+    maxQueuedNanos.accumulateAndGet(queuedNanos, Math::max);
+    this.handlerNanos.add(handlerNanos);
+    maxHandlerNanos.accumulateAndGet(handlerNanos, Math::max);
+  }
+
+  /**
+   * @return the number of completed lists, including relists
+   */
+  public long getLists() {
+    return lists.sum();
+  }
+
+  /**
+   * @return the number of lists needed because the watch could not resume
+   */
+  public long getRelists() {
+    return relists.sum();
+  }
+
+  public long getListedItems() {
+    return listedItems.sum();
+  }
+
+  public long getListTime(TimeUnit unit) {
+    return unit.convert(listNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  public long getWatchStarts() {
+    return watchStarts.sum();
+  }
+
+  public long getWatchReconnects() {
+    return watchReconnects.sum();
+  }
+
+  public long getDecodedEvents() {
+    return decodedEvents.sum();
+  }
+
+  public long getDecodeTime(TimeUnit unit) {
+    return unit.convert(decodeNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @return the number of watch events of the given type applied to the store
+   */
+  public long getAppliedEvents(Watcher.Action action) {
+    return appliedEvents.get(action).sum();
+  }
+
+  public long getAppliedEvents() {
+    return appliedEvents.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  public long getApplyTime(TimeUnit unit) {
+    return unit.convert(applyNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  public long getMaxApplyTime(TimeUnit unit) {
+    return unit.convert(maxApplyNanos.get(), TimeUnit.NANOSECONDS);
+  }
+
+  public long getQueuedNotifications() {
+    return queuedNotifications.sum();
+  }
+
+  /**
+   * @return the largest number of notifications seen pending for a single handler
+   */
+  public int getMaxQueueSize() {
+    return maxQueueSize.get();
+  }
+
+  public long getDroppedNotifications() {
+    return droppedNotifications.sum();
+  }
+
+  public long getHandledNotifications() {
+    return handledNotifications.sum();
+  }
+
+  /**
+   * @return the total time notifications waited before being delivered to a handler
+   */
+  public long getQueuedTime(TimeUnit unit) {
+    return unit.convert(queuedNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  public long getMaxQueuedTime(TimeUnit unit) {
+    return unit.convert(maxQueuedNanos.get(), TimeUnit.NANOSECONDS);
+  }
+
+  public long getHandlerTime(TimeUnit unit) {
+    return unit.convert(handlerNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  public long getMaxHandlerTime(TimeUnit unit) {
+    return unit.convert(maxHandlerNanos.get(), TimeUnit.NANOSECONDS);
+  }
+
+}
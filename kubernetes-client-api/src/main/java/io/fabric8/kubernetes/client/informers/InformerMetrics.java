@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.client.Watcher;
+
+/**
+ * Receives measurements from an informer, see {@link SharedInformer#withMetrics(InformerMetrics)}.
+ * <br>
+ * The methods are called inline by the informer threads, so implementations should only record
+ * the values. All durations are in nanoseconds.
+ * <br>
+ * {@link CountingInformerMetrics} is a simple implementation that keeps totals in memory. Bindings
+ * to a metrics library can implement this interface directly.
+ */
+public interface InformerMetrics {
+
+  InformerMetrics NOOP = new InformerMetrics() {
+  };
+
+  /**
+   * A list, including all of its pages, was applied to the store
+   *
+   * @param items the number of items listed
+   * @param nanos the time taken to list and apply the items
+   * @param relist true if the list was needed because the watch could not resume
+   */
+  default void listCompleted(int items, long nanos, boolean relist) {
+  }
+
+  /**
+   * A watch was established
+   */
+  default void watchStarted() {
+  }
+
+  /**
+   * A watch reconnect was scheduled after the connection was lost
+   */
+  default void watchReconnectScheduled() {
+  }
+
+  /**
+   * A watch event was read from the connection
+   *
+   * @param nanos the time taken to deserialize the event
+   */
+  default void eventDecoded(long nanos) {
+  }
+
+  /**
+   * A watch event was applied to the store
+   *
+   * @param action the event type
+   * @param nanos the time taken to update the store and distribute the notifications
+   */
+  default void eventApplied(Watcher.Action action, long nanos) {
+  }
+
+  /**
+   * A notification was queued for an event handler
+   *
+   * @param queueSize the number of notifications pending for that handler, including this one
+   */
+  default void notificationQueued(int queueSize) {
+  }
+
+  /**
+   * A pending notification was discarded because the handler queue was full
+   */
+  default void notificationDropped() {
+  }
+
+  /**
+   * A notification was delivered to an event handler
+   *
+   * @param queuedNanos the time the notification waited in the queue
+   * @param handlerNanos the time taken by the handler
+   */
+  default void notificationHandled(long queuedNanos, long handlerNanos) {
+  }
+
+}
@@ -19,6 +19,8 @@ import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * ListerWatcher is any object that knows how to perform an initial list and
  * start a watch on a resource.
@@ -30,7 +32,23 @@ public interface ListerWatcher<T, L> {
   Watch watch(ListOptions params, Watcher<T> watcher);
 
   L list(ListOptions listOptions);
-  
+
+  /**
+   * Start a list without blocking the caller. The default implementation performs the list
+   * synchronously; implementations backed by an asynchronous client should override this so
+   * that the returned future is completed independently of any informer thread.
+   */
+  default CompletableFuture<L> submitList(ListOptions listOptions) {
+    return CompletableFuture.completedFuture(list(listOptions));
+  }
+
+  /**
+   * Set the metrics that subsequent and already open watches report decoding and reconnects to.
+   * The default implementation ignores them.
+   */
+  default void setMetrics(InformerMetrics metrics) {
+  }
+
   Long getLimit();
 
   String getNamespace();
@@ -0,0 +1,41 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * Determines what happens when the queue of pending notifications for an event handler is full.
+ */
+public enum QueueOverflowPolicy {
+
+  /**
+   * Wait for the handler to catch up. This applies back pressure to the informer, which
+   * delays the other handlers as well.
+   */
+  BLOCK,
+
+  /**
+   * Collapse the notification into a pending update for the same object, keeping the oldest old
+   * object and the newest new object. If there is no such update, wait as with {@link #BLOCK}.
+   */
+  COALESCE,
+
+  /**
+   * Discard the oldest pending notification. The handler may miss events, so this is only appropriate
+   * for handlers that periodically reconcile against the informer store.
+   */
+  DROP_OLDEST
+
+}
@@ -17,6 +17,8 @@ package io.fabric8.kubernetes.client.informers;
 
 import io.fabric8.kubernetes.client.informers.cache.Store;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 /**
@@ -44,6 +46,56 @@ public interface SharedInformer<T> extends AutoCloseable {
    */
   void addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handle, long resyncPeriod);
 
+  /**
+   * Limits the number of notifications that may be pending for each event handler subsequently added.
+   * Each handler receives its notifications from its own queue, so a slow handler does not delay the others.
+   * <br>
+   * By default the queues are unbounded.
+   *
+   * @param capacity the maximum number of pending notifications for each handler
+   * @param policy what to do when a queue is full
+   * @return this
+   */
+  SharedIndexInformer<T> withEventQueueLimit(int capacity, QueueOverflowPolicy policy);
+
+  /**
+   * Controls whether update notifications are merged for event handlers subsequently added.
+   * <br>
+   * When enabled, an update to an object that already has an update pending delivery to a handler is merged
+   * into that pending update, keeping the oldest old object and the newest new object. A handler that has
+   * fallen behind then sees each object once, rather than every intermediate version.
+   * <br>
+   * This is disabled by default.
+   *
+   * @param coalesce true to merge updates
+   * @return this
+   */
+  SharedIndexInformer<T> withUpdateCoalescing(boolean coalesce);
+
+  /**
+   * Sets a function to apply to each object before it is added to the store and passed to the event handlers.
+   * <br>
+   * This is useful for reducing the memory held by the informer, for example by clearing the managedFields
+   * or the parts of the spec and status that the handlers do not need. The function may modify and return the
+   * object it is given, but must not change its namespace, name or resourceVersion.
+   * <br>
+   * This should be set before the informer is started.
+   *
+   * @param transform the function to apply, or null for none
+   * @return this
+   */
+  SharedIndexInformer<T> withTransform(UnaryOperator<T> transform);
+
+  /**
+   * Report list, watch, store and event handler measurements to the given {@link InformerMetrics}.
+   * <br>
+   * This should be set before the informer is started.
+   *
+   * @param metrics the metrics to report to, or null for none
+   * @return this
+   */
+  SharedIndexInformer<T> withMetrics(InformerMetrics metrics);
+
   /**
    * Starts the shared informer, which will be stopped when {@link #stop()} is called.
    *
@@ -55,6 +107,17 @@ public interface SharedInformer<T> extends AutoCloseable {
    */
   void run();
 
+  /**
+   * Starts the shared informer without blocking, which will be stopped when {@link #stop()} is called.
+   *
+   * <br>
+   * Only one start attempt is made - subsequent calls will not re-start the informer.
+   *
+   * @return a future that completes once the initial list has been processed and the watch established,
+   *         or exceptionally if either fails
+   */
+  CompletableFuture<Void> start();
+
   /**
    * Stops the shared informer. The informer cannot be started again.
    */
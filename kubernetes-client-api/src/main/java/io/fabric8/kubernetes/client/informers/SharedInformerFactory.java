@@ -48,6 +48,35 @@ public interface SharedInformerFactory {
     @Deprecated
     SharedInformerFactory withName(String name);
 
+    /**
+     * Give each informer subsequently created by this factory its own bounded executor for delivering
+     * events to its handlers, so that a busy informer cannot delay the others.
+     * <br>
+     * These executors are shut down when the informers are stopped through this factory.
+     *
+     * @param maxThreads the maximum number of threads for each informer
+     * @return {@link SharedInformerFactory} with per informer executors configured
+     */
+    SharedInformerFactory withExecutorPerInformer(int maxThreads);
+
+    /**
+     * Deliver the events of informers subsequently created by this factory using a new virtual thread
+     * for each task.
+     *
+     * @return {@link SharedInformerFactory} with virtual threads configured
+     * @throws UnsupportedOperationException if the runtime is older than Java 21
+     */
+    SharedInformerFactory withVirtualThreads();
+
+    /**
+     * Configure the prefix of the names of threads created for individual informers, the default is "informer".
+     * Thread names also include the informer type and a sequence number.
+     *
+     * @param prefix thread name prefix
+     * @return {@link SharedInformerFactory} with the prefix configured
+     */
+    SharedInformerFactory withThreadNamePrefix(String prefix);
+
     /**
      * Constructs and returns a shared index informer with resync period specified. And the
      * informer cache will be overwritten.
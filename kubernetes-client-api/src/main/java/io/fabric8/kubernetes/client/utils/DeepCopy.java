@@ -0,0 +1,196 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Field by field deep copy of model objects.
+ * <p>
+ * The fields and no-arg constructor of each class are looked up once and cached. Only classes in the
+ * {@code io.fabric8} packages are copied this way - for anything else, such as user defined custom resource
+ * classes, {@link #copy(Object)} throws {@link UnsupportedTypeException} so that the caller can fall back to
+ * a serialization round-trip.
+ */
+final class DeepCopy {
+
+  private static final String MODEL_PACKAGE_PREFIX = "io.fabric8.";
+
+  private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>();
+  static {
+    IMMUTABLE_TYPES.add(String.class);
+    IMMUTABLE_TYPES.add(Boolean.class);
+    IMMUTABLE_TYPES.add(Character.class);
+    IMMUTABLE_TYPES.add(Byte.class);
+    IMMUTABLE_TYPES.add(Short.class);
+    IMMUTABLE_TYPES.add(Integer.class);
+    IMMUTABLE_TYPES.add(Long.class);
+    IMMUTABLE_TYPES.add(Float.class);
+    IMMUTABLE_TYPES.add(Double.class);
+    IMMUTABLE_TYPES.add(BigInteger.class);
+    IMMUTABLE_TYPES.add(BigDecimal.class);
+    IMMUTABLE_TYPES.add(UUID.class);
+  }
+
+  private static final Map<Class<?>, ClassCopier> COPIERS = new ConcurrentHashMap<>();
+
+  private DeepCopy() {
+  }
+
+  static class UnsupportedTypeException extends RuntimeException {
+    UnsupportedTypeException(Class<?> type) {
+      super("Cannot deep copy " + type.getName(), null, false, false);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> T copy(T value) {
+    if (value == null) {
+      return null;
+    }
+    Class<?> type = value.getClass();
+    if (isImmutable(type)) {
+      return value;
+    }
+    if (value instanceof JsonNode) {
+      return (T) ((JsonNode) value).deepCopy();
+    }
+    if (value instanceof List) {
+      return (T) copyInto((Collection<?>) value, new ArrayList<>(((List<?>) value).size()));
+    }
+    if (value instanceof Set) {
+      return (T) copyInto((Collection<?>) value, new LinkedHashSet<>());
+    }
+    if (value instanceof Map) {
+      return (T) copyMap((Map<?, ?>) value);
+    }
+    if (type.isArray()) {
+      return (T) copyArray(value);
+    }
+    return (T) COPIERS.computeIfAbsent(type, ClassCopier::new).copy(value);
+  }
+
+  private static boolean isImmutable(Class<?> type) {
+    return IMMUTABLE_TYPES.contains(type) || type.isEnum()
+        || (type.getSuperclass() != null && type.getSuperclass().isEnum())
+        || (type.getName().startsWith("java.time.") && Modifier.isFinal(type.getModifiers()));
+  }
+
+  private static <C extends Collection<Object>> C copyInto(Collection<?> source, C target) {
+    for (Object item : source) {
+      target.add(copy(item));
+    }
+    return target;
+  }
+
+  private static Map<Object, Object> copyMap(Map<?, ?> source) {
+    Map<Object, Object> result = new LinkedHashMap<>(capacity(source.size()));
+    for (Map.Entry<?, ?> entry : source.entrySet()) {
+      result.put(copy(entry.getKey()), copy(entry.getValue()));
+    }
+    return result;
+  }
+
+  private static int capacity(int size) {
+    return size < 3 ? size + 1 : (int) (size / 0.75f + 1);
+  }
+
+  private static Object copyArray(Object array) {
+    Class<?> componentType = array.getClass().getComponentType();
+    int length = Array.getLength(array);
+    Object result = Array.newInstance(componentType, length);
+    if (componentType.isPrimitive() || isImmutable(componentType)) {
+      System.arraycopy(array, 0, result, 0, length);
+    } else {
+      for (int i = 0; i < length; i++) {
+        Array.set(result, i, copy(Array.get(array, i)));
+      }
+    }
+    return result;
+  }
+
+  private static final class ClassCopier {
+
+    private final Class<?> type;
+    private final Constructor<?> constructor;
+    private final Field[] fields;
+
+    private ClassCopier(Class<?> type) {
+      this.type = type;
+      Constructor<?> noArgs = null;
+      List<Field> copied = new ArrayList<>();
+      if (type.getName().startsWith(MODEL_PACKAGE_PREFIX) && !Modifier.isAbstract(type.getModifiers())
+          && (type.getEnclosingClass() == null || Modifier.isStatic(type.getModifiers()))) {
+        try {
+          noArgs = type.getDeclaredConstructor();
+          noArgs.setAccessible(true);
+          for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+              if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                field.setAccessible(true);
+                copied.add(field);
+              }
+            }
+          }
+        } catch (NoSuchMethodException | RuntimeException e) {
+          // no default constructor or not accessible
+          noArgs = null;
+        }
+      }
+      this.constructor = noArgs;
+      this.fields = copied.toArray(new Field[0]);
+    }
+
+    private Object copy(Object value) {
+      if (constructor == null) {
+        throw new UnsupportedTypeException(type);
+      }
+      try {
+        Object result = constructor.newInstance();
+        for (Field field : fields) {
+          Class<?> fieldType = field.getType();
+          if (fieldType.isPrimitive()) {
+            field.set(result, field.get(value));
+          } else {
+            field.set(result, DeepCopy.copy(field.get(value)));
+          }
+        }
+        return result;
+      } catch (ReflectiveOperationException | IllegalArgumentException e) {
+        // IllegalArgumentException if a copied value doesn't fit the field, such as a list copy for a LinkedList field
+        throw new UnsupportedTypeException(type);
+      }
+    }
+  }
+
+}
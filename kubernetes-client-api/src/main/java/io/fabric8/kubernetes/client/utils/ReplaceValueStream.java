@@ -15,23 +15,21 @@
  */
 package io.fabric8.kubernetes.client.utils;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
-import static io.fabric8.kubernetes.client.utils.Utils.interpolateString;
-
 /**
  * Replaces template parameter values in the stream to avoid
  * parsing issues of templates with numeric expressions
+ *
+ * @see TemplateInterpolator
  */
 public class ReplaceValueStream {
-  private final Map<String, String> valuesMap;
+  private final TemplateInterpolator interpolator;
 
   /**
-   * Returns a stream with the template parameter expressions replaced
+   * Returns a stream with the template parameter expressions replaced as it is read
    *
    * @param is {@link InputStream} inputstream for
    * @param valuesMap a hashmap containing parameters
@@ -43,11 +41,10 @@ public class ReplaceValueStream {
   }
 
   private ReplaceValueStream(Map<String, String> valuesMap) {
-    this.valuesMap = valuesMap;
+    this.interpolator = TemplateInterpolator.compile(valuesMap);
   }
 
-  private InputStream createInputStream(InputStream is) throws IOException {
-      return new ByteArrayInputStream(
-        interpolateString(IOHelpers.readFully(is), valuesMap).getBytes(StandardCharsets.UTF_8));
+  private InputStream createInputStream(InputStream is) {
+    return interpolator.interpolate(is);
   }
 }
@@ -15,6 +15,7 @@
  */
 package io.fabric8.kubernetes.client.utils;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,22 +23,26 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import io.fabric8.kubernetes.client.utils.serialization.UnmatchedFieldTypeModule;
 import org.yaml.snakeyaml.Yaml;
@@ -55,8 +60,6 @@ public class Serialization {
 
   private static volatile ObjectMapper YAML_MAPPER;
 
-  private static final String DOCUMENT_DELIMITER = "---";
-
   /**
    * {@link ObjectMapper} singleton instance used internally by the Kubernetes client.
    *
@@ -166,14 +169,105 @@ public class Serialization {
    */
   @SuppressWarnings("unchecked")
   public static <T> T unmarshal(InputStream is, Map<String, String> parameters) {
-    String specFile = readSpecFileFromInputStream(is);
-    if (containsMultipleDocuments(specFile)) {
-      return (T) getKubernetesResourceList(parameters, specFile);
-    } else if (specFile.contains(DOCUMENT_DELIMITER)) {
-      specFile = specFile.replaceAll("^---([ \\t].*?)?\\r?\\n","");
-      specFile = specFile.replaceAll("\\n---([ \\t].*?)?\\r?\\n?$","\n");
+    try {
+      Iterator<KubernetesResource> documents = documentIterator(is, parameters);
+      if (!documents.hasNext()) {
+        return null;
+      }
+      KubernetesResource first = documents.next();
+      if (!documents.hasNext()) {
+        return (T) first;
+      }
+      List<KubernetesResource> all = new ArrayList<>();
+      all.add(first);
+      documents.forEachRemaining(all::add);
+      return (T) all;
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  /**
+   * Unmarshals the documents of a multi-document YAML stream, or of a stream of JSON objects, one at a time as the
+   * returned {@link Stream} is consumed, rather than reading the whole input first. The items of list documents are
+   * returned in place of the list, documents that are not resources with metadata are skipped.
+   * <p>
+   * The input is not closed, that remains the responsibility of the caller.
+   *
+   * @param is          The {@link InputStream}.
+   * @param parameters  A {@link Map} with parameters for placeholder substitution, or null for none.
+   * @return the resources
+   */
+  public static Stream<HasMetadata> unmarshalDocuments(InputStream is, Map<String, String> parameters) {
+    Iterator<KubernetesResource> documents;
+    try {
+      documents = documentIterator(is, parameters);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(documents, Spliterator.ORDERED), false)
+      .flatMap(Serialization::asHasMetadata);
+  }
+
+  private static Stream<HasMetadata> asHasMetadata(KubernetesResource resource) {
+    if (resource instanceof KubernetesResourceList) {
+      return ((KubernetesResourceList<?>) resource).getItems().stream().map(HasMetadata.class::cast);
     }
-    return unmarshal(new ByteArrayInputStream(specFile.getBytes()), JSON_MAPPER, parameters);
+    if (resource instanceof HasMetadata) {
+      return Stream.of((HasMetadata) resource);
+    }
+    return Stream.empty();
+  }
+
+  /**
+   * JSON objects are read with Jackson, anything else as YAML documents. In both cases a document is only parsed
+   * when the iterator reaches it.
+   */
+  private static Iterator<KubernetesResource> documentIterator(InputStream is, Map<String, String> parameters)
+      throws IOException {
+    InputStream wrapped = parameters != null && !parameters.isEmpty() ? ReplaceValueStream.replaceValues(is, parameters) : is;
+    BufferedInputStream bis = new BufferedInputStream(wrapped);
+    if (firstNonWhitespace(bis) == '{') {
+      // the caller owns the input, so it must not be closed once the last value is read
+      return JSON_MAPPER.readerFor(KubernetesResource.class).without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+        .readValues(bis);
+    }
+    Iterator<Object> documents = new Yaml(new SafeConstructor()).loadAll(bis).iterator();
+    return new Iterator<KubernetesResource>() {
+      private Object next;
+
+      @Override
+      public boolean hasNext() {
+        // documents that are empty, or only a scalar, are skipped
+        while (!(next instanceof Map) && documents.hasNext()) {
+          next = documents.next();
+        }
+        return next instanceof Map;
+      }
+
+      @Override
+      public KubernetesResource next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        Object document = next;
+        next = null;
+        return JSON_MAPPER.convertValue(document, KubernetesResource.class);
+      }
+    };
+  }
+
+  /**
+   * @return the first character that isn't whitespace, leaving the stream positioned at the start
+   */
+  private static int firstNonWhitespace(BufferedInputStream bis) throws IOException {
+    bis.mark(-1);
+    int intch;
+    do {
+      intch = bis.read();
+    } while (intch > -1 && Character.isWhitespace(intch));
+    bis.reset();
+    return intch;
   }
 
   /**
@@ -200,14 +294,7 @@ public class Serialization {
       InputStream wrapped = parameters != null && !parameters.isEmpty() ? ReplaceValueStream.replaceValues(is, parameters) : is;
       BufferedInputStream bis = new BufferedInputStream(wrapped)
     ) {
-      bis.mark(-1);
-      int intch;
-      do {
-        intch = bis.read();
-      } while (intch > -1 && Character.isWhitespace(intch));
-      bis.reset();
-
-      if (intch != '{') {
+      if (firstNonWhitespace(bis) != '{') {
         return unmarshalYaml(bis, null);
       }
       return mapper.readerFor(KubernetesResource.class).readValue(bis);
@@ -318,15 +405,8 @@ public class Serialization {
       InputStream wrapped = parameters != null && !parameters.isEmpty() ? ReplaceValueStream.replaceValues(is, parameters) : is;
       BufferedInputStream bis = new BufferedInputStream(wrapped)
     ) {
-      bis.mark(-1);
-      int intch;
-      do {
-        intch = bis.read();
-      } while (intch > -1 && Character.isWhitespace(intch));
-      bis.reset();
-
       ObjectMapper mapper = JSON_MAPPER;
-      if (intch != '{') {
+      if (firstNonWhitespace(bis) != '{') {
         return unmarshalYaml(bis, type);
       }
       return mapper.readValue(bis, type);
@@ -335,55 +415,6 @@ public class Serialization {
     }
   }
 
-  private static List<KubernetesResource> getKubernetesResourceList(Map<String, String> parameters, String specFile) {
-    return splitSpecFile(specFile).stream().filter(Serialization::validate)
-      .map(document ->
-        (KubernetesResource)Serialization.unmarshal(new ByteArrayInputStream(document.getBytes()), parameters))
-      .collect(Collectors.toList());
-  }
-
-  static boolean containsMultipleDocuments(String specFile) {
-    final long validDocumentCount = splitSpecFile(specFile).stream().filter(Serialization::validate)
-      .count();
-    return validDocumentCount > 1;
-  }
-
-  private static List<String> splitSpecFile(String aSpecFile) {
-    final List<String> documents = new ArrayList<>();
-    final StringBuilder documentBuilder = new StringBuilder();
-    for (String line : aSpecFile.split("\r?\n")) {
-      if (line.startsWith(DOCUMENT_DELIMITER)) {
-        documents.add(documentBuilder.toString());
-        documentBuilder.setLength(0);
-      } else {
-        documentBuilder.append(line).append(System.lineSeparator());
-      }
-    }
-    if (documentBuilder.length() > 0) {
-      documents.add(documentBuilder.toString());
-    }
-    return documents;
-  }
-
-  private static boolean validate(String document) {
-    Matcher keyValueMatcher = Pattern.compile("(\\S+):\\s(\\S*)(?:\\b(?!:)|$)").matcher(document);
-    return !document.isEmpty() && keyValueMatcher.find();
-  }
-
-  private static String readSpecFileFromInputStream(InputStream inputStream) {
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    byte[] buffer = new byte[1024];
-    int length;
-    try {
-      while ((length = inputStream.read(buffer)) != -1) {
-        outputStream.write(buffer, 0, length);
-      }
-      return outputStream.toString();
-    } catch (IOException e) {
-      throw new RuntimeException("Unable to read InputStream." + e);
-    }
-  }
-
   private static <T> T unmarshalYaml(InputStream is, TypeReference<T> type) throws JsonProcessingException {
     final Yaml yaml = new Yaml(new SafeConstructor());
     Map<String, Object> obj = yaml.load(is);
@@ -399,13 +430,22 @@ public class Serialization {
   }
 
   /**
-   * Create a copy of the resource via serialization.
+   * Create a deep copy of the resource.
+   * <p>
+   * Model classes are copied field by field, other types such as user defined custom resources are copied via
+   * serialization.
    * @return a deep clone of the resource
    * @throws IllegalArgumentException if the cloning cannot be performed
    */
   public static <T> T clone(T resource) {
-    // if full serialization seems too expensive, there is also
-    //return (T) JSON_MAPPER.convertValue(resource, resource.getClass());
+    try {
+      return DeepCopy.copy(resource);
+    } catch (DeepCopy.UnsupportedTypeException e) {
+      return cloneBySerialization(resource);
+    }
+  }
+
+  static <T> T cloneBySerialization(T resource) {
     try {
       return JSON_MAPPER.readValue(
         JSON_MAPPER.writeValueAsString(resource), new TypeReference<T>() {
@@ -0,0 +1,283 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Replaces template parameter placeholders in a single pass.
+ * <p>
+ * The placeholders are those of {@link Utils#interpolateString(String, Map)}: {@code ${NAME}} and {@code ${{NAME}}}
+ * are replaced by the value, and so is {@code "${{NAME}}"} including the quotes so that numeric and boolean values
+ * can be used in json. Placeholders for unknown parameters are left as they are.
+ * <p>
+ * Values may themselves contain placeholders for other parameters, these are resolved once when the interpolator
+ * is compiled, in dependency order. Placeholders that would make a value depend on itself are left as they are.
+ * Substituted values are not scanned again.
+ */
+public class TemplateInterpolator {
+
+  private static final int NEEDS_MORE_INPUT = -1;
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Map<String, String> values;
+  private final int maxNameLength;
+
+  private TemplateInterpolator(Map<String, String> values) {
+    this.values = values;
+    this.maxNameLength = values.keySet().stream().mapToInt(String::length).max().orElse(0);
+  }
+
+  /**
+   * Prepares the parameters for substitution.
+   *
+   * @param parameters the parameter values, entries with a null name or value are ignored
+   * @return the interpolator
+   */
+  public static TemplateInterpolator compile(Map<String, String> parameters) {
+    Map<String, String> raw = new HashMap<>();
+    if (parameters != null) {
+      parameters.forEach((name, value) -> {
+        if (name != null && value != null) {
+          raw.put(name, value);
+        }
+      });
+    }
+    int maxNameLength = raw.keySet().stream().mapToInt(String::length).max().orElse(0);
+    Map<String, String> resolved = new HashMap<>(raw.size());
+    Set<String> resolving = new HashSet<>();
+    raw.keySet().forEach(name -> resolve(name, raw, resolved, resolving, maxNameLength));
+    return new TemplateInterpolator(Collections.unmodifiableMap(resolved));
+  }
+
+  /**
+   * Depth first, so that the parameters a value refers to are resolved before it
+   */
+  private static String resolve(String name, Map<String, String> raw, Map<String, String> resolved, Set<String> resolving,
+      int maxNameLength) {
+    String result = resolved.get(name);
+    if (result != null) {
+      return result;
+    }
+    String value = raw.get(name);
+    if (value.indexOf('$') < 0) {
+      result = value;
+    } else {
+      resolving.add(name);
+      StringBuilder out = new StringBuilder(value.length());
+      substitute(value, 0, value.length(), true, maxNameLength, out,
+          other -> raw.containsKey(other) && !resolving.contains(other)
+              ? resolve(other, raw, resolved, resolving, maxNameLength)
+              : null);
+      resolving.remove(name);
+      result = out.toString();
+    }
+    resolved.put(name, result);
+    return result;
+  }
+
+  /**
+   * @return the resolved parameter values
+   */
+  public Map<String, String> getValues() {
+    return values;
+  }
+
+  /**
+   * @param input the text to replace the placeholders in
+   * @return the text with the placeholders replaced
+   */
+  public String interpolate(String input) {
+    if (values.isEmpty() || input.indexOf('$') < 0) {
+      return input;
+    }
+    StringBuilder out = new StringBuilder(input.length());
+    substitute(input, 0, input.length(), true, maxNameLength, out, values::get);
+    return out.toString();
+  }
+
+  /**
+   * Replaces the placeholders as the returned stream is read, rather than reading the whole input first.
+   *
+   * @param input UTF-8 encoded text to replace the placeholders in
+   * @return UTF-8 encoded text with the placeholders replaced
+   */
+  public InputStream interpolate(InputStream input) {
+    if (values.isEmpty()) {
+      return input;
+    }
+    return new InterpolatingInputStream(new InputStreamReader(input, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Copies in[start, end) to out replacing the placeholders.
+   *
+   * @param endOfInput false if more input may follow end
+   * @return the index up to which the input was consumed, which is before end only if a placeholder may continue
+   *         after end
+   */
+  private static int substitute(CharSequence in, int start, int end, boolean endOfInput, int maxNameLength,
+      StringBuilder out, Function<String, String> lookup) {
+    int i = start;
+    while (i < end) {
+      int run = i;
+      while (i < end && in.charAt(i) != '$' && in.charAt(i) != '"') {
+        i++;
+      }
+      out.append(in, run, i);
+      if (i == end) {
+        break;
+      }
+      int matched;
+      if (in.charAt(i) == '"') {
+        matched = match(in, i, end, "\"${{", "}}\"", maxNameLength, out, lookup);
+      } else {
+        matched = match(in, i, end, "${{", "}}", maxNameLength, out, lookup);
+        if (matched == 0) {
+          matched = match(in, i, end, "${", "}", maxNameLength, out, lookup);
+        }
+      }
+      if (matched == NEEDS_MORE_INPUT && !endOfInput) {
+        return i;
+      }
+      if (matched > 0) {
+        i += matched;
+      } else {
+        out.append(in.charAt(i));
+        i++;
+      }
+    }
+    return i;
+  }
+
+  /**
+   * @return the length of the placeholder starting at start, which has been replaced in out, 0 if there is no
+   *         placeholder for a known parameter there or {@link #NEEDS_MORE_INPUT} if that depends on input after end
+   */
+  private static int match(CharSequence in, int start, int end, String prefix, String suffix, int maxNameLength,
+      StringBuilder out, Function<String, String> lookup) {
+    for (int k = 0; k < prefix.length(); k++) {
+      if (start + k >= end) {
+        return NEEDS_MORE_INPUT;
+      }
+      if (in.charAt(start + k) != prefix.charAt(k)) {
+        return 0;
+      }
+    }
+    int nameStart = start + prefix.length();
+    int nameEnd = nameStart;
+    while (nameEnd < end && in.charAt(nameEnd) != suffix.charAt(0)) {
+      if (nameEnd - nameStart >= maxNameLength) {
+        return 0;
+      }
+      nameEnd++;
+    }
+    for (int k = 0; k < suffix.length(); k++) {
+      if (nameEnd + k >= end) {
+        return NEEDS_MORE_INPUT;
+      }
+      if (in.charAt(nameEnd + k) != suffix.charAt(k)) {
+        return 0;
+      }
+    }
+    String value = lookup.apply(in.subSequence(nameStart, nameEnd).toString());
+    if (value == null) {
+      return 0;
+    }
+    out.append(value);
+    return nameEnd + suffix.length() - start;
+  }
+
+  private final class InterpolatingInputStream extends InputStream {
+    private final Reader reader;
+    private final char[] chunk = new char[BUFFER_SIZE];
+    // input that may be the start of a placeholder
+    private final StringBuilder pending = new StringBuilder();
+    private final StringBuilder out = new StringBuilder(BUFFER_SIZE);
+    private byte[] bytes = new byte[0];
+    private int position;
+    private boolean endOfInput;
+
+    private InterpolatingInputStream(Reader reader) {
+      this.reader = reader;
+    }
+
+    /**
+     * @return false if there is nothing more to read
+     */
+    private boolean fill() throws IOException {
+      while (position == bytes.length) {
+        if (endOfInput && pending.length() == 0) {
+          return false;
+        }
+        int read = reader.read(chunk);
+        if (read < 0) {
+          endOfInput = true;
+        } else {
+          pending.append(chunk, 0, read);
+        }
+        int end = pending.length();
+        // don't split a surrogate pair between two reads
+        if (!endOfInput && end > 0 && Character.isHighSurrogate(pending.charAt(end - 1))) {
+          end--;
+        }
+        out.setLength(0);
+        int consumed = substitute(pending, 0, end, endOfInput, maxNameLength, out, values::get);
+        pending.delete(0, consumed);
+        bytes = out.toString().getBytes(StandardCharsets.UTF_8);
+        position = 0;
+      }
+      return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (!fill()) {
+        return -1;
+      }
+      return bytes[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!fill()) {
+        return -1;
+      }
+      int count = Math.min(len, bytes.length - position);
+      System.arraycopy(bytes, position, b, off, count);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+  }
+}
@@ -15,52 +15,101 @@
  */
 package io.fabric8.kubernetes.client.utils;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.http.BasicBuilder;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpHeaders;
 import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.http.Interceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 /**
  * Interceptor for handling expired OIDC tokens.
+ * <p>
+ * Concurrent refreshes are coalesced into a single in-flight refresh, and tokens with a known expiry
+ * (JWT {@code exp} or an exec credential {@code expirationTimestamp}) are refreshed ahead of time.
  */
 public class TokenRefreshInterceptor implements Interceptor {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(TokenRefreshInterceptor.class);
+
   public static final String NAME = "TOKEN";
 
+  static final Duration REFRESH_BEFORE_EXPIRY = Duration.ofMinutes(1);
+  static final Duration MIN_PROACTIVE_REFRESH_INTERVAL = Duration.ofSeconds(10);
+
   private final Config config;
   private HttpClient.Factory factory;
 
+  // guarded by this
+  private CompletableFuture<String> refresh;
+  // replaced as a whole, so that the config and its last modified time are always read together
+  private volatile CachedConfig cachedConfig;
+  private volatile Instant nextProactiveRefresh = Instant.MIN;
+  private volatile TokenExpiry tokenExpiry;
+
   public TokenRefreshInterceptor(Config config, HttpClient.Factory factory) {
     this.config = config;
     this.factory = factory;
   }
 
+  @Override
+  public void before(BasicBuilder builder, HttpHeaders headers) {
+    // avoid decoding the token on every request
+    TokenExpiry current = tokenExpiry;
+    String token = config.getOauthToken();
+    String timestamp = config.getOauthTokenExpirationTimestamp();
+    if (current == null || !Objects.equals(current.token, token) || !Objects.equals(current.timestamp, timestamp)) {
+      current = new TokenExpiry(token, timestamp, getTokenExpiry(config));
+      tokenExpiry = current;
+    }
+    Instant expiry = current.expiry;
+    if (expiry == null) {
+      return;
+    }
+    Instant now = Instant.now();
+    if (now.isAfter(expiry.minus(REFRESH_BEFORE_EXPIRY)) && now.isAfter(nextProactiveRefresh)) {
+      // don't hold up this request, it can still use the current token
+      nextProactiveRefresh = now.plus(MIN_PROACTIVE_REFRESH_INTERVAL);
+      refresh().whenComplete((s, t) -> {
+        if (t != null) {
+          LOGGER.debug("Could not refresh the token ahead of expiry", t);
+        }
+      });
+    }
+  }
+
   @Override
   public CompletableFuture<Boolean> afterFailure(BasicBuilder headerBuilder, HttpResponse<?> response) {
     if (response.code() == HttpURLConnection.HTTP_UNAUTHORIZED) {
-      String currentContextName = null;
-      CompletableFuture<String> newAccessToken = null;
-
-      if (config.getCurrentContext() != null) {
-        currentContextName = config.getCurrentContext().getName();
-      }
-      Config newestConfig = Config.autoConfigure(currentContextName);
-      if (newestConfig.getAuthProvider() != null && newestConfig.getAuthProvider().getName().equalsIgnoreCase("oidc")) {
-        newAccessToken = OpenIDConnectionUtils.resolveOIDCTokenFromAuthConfig(newestConfig.getAuthProvider().getConfig(),
-            factory.newBuilder());
+      CompletableFuture<String> newAccessToken;
+      String current = config.getOauthToken();
+      if (current != null && !usedToken(response, current)) {
+        // another request has already refreshed the token
+        newAccessToken = CompletableFuture.completedFuture(current);
       } else {
-        newAccessToken = CompletableFuture.completedFuture(newestConfig.getOauthToken());
+        newAccessToken = refresh();
       }
 
       return newAccessToken.thenApply(s -> {
         if (s != null) {
           // Delete old Authorization header and append new one
           headerBuilder.setHeader("Authorization", "Bearer " + s);
-          config.setOauthToken(s);
           return true;
         }
         return false;
@@ -70,4 +119,143 @@ public class TokenRefreshInterceptor implements Interceptor {
     return CompletableFuture.completedFuture(false);
   }
 
+  /**
+   * Refresh the token, or join the refresh that is already in flight.
+   * <br>
+   * Resolving the token may re-read the kubeconfig or contact an OIDC provider, so it is not done on
+   * the calling thread.
+   */
+  CompletableFuture<String> refresh() {
+    CompletableFuture<String> result;
+    synchronized (this) {
+      if (refresh != null) {
+        return refresh;
+      }
+      result = new CompletableFuture<>();
+      refresh = result;
+    }
+    CompletableFuture.supplyAsync(this::resolveNewToken, Utils.getCommonExecutorSerive())
+        .thenCompose(Function.identity())
+        .whenComplete((s, t) -> {
+          synchronized (this) {
+            refresh = null;
+          }
+          if (t != null) {
+            result.completeExceptionally(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+          } else {
+            result.complete(s);
+          }
+        });
+    return result;
+  }
+
+  CompletableFuture<String> resolveNewToken() {
+    Config newestConfig = getNewestConfig();
+    CompletableFuture<String> newAccessToken;
+    if (newestConfig.getAuthProvider() != null && newestConfig.getAuthProvider().getName().equalsIgnoreCase("oidc")) {
+      newAccessToken = OpenIDConnectionUtils.resolveOIDCTokenFromAuthConfig(newestConfig.getAuthProvider().getConfig(),
+          factory.newBuilder());
+    } else {
+      newAccessToken = CompletableFuture.completedFuture(newestConfig.getOauthToken());
+    }
+    return newAccessToken.thenApply(s -> {
+      if (s != null) {
+        config.setOauthTokenExpirationTimestamp(newestConfig.getOauthTokenExpirationTimestamp());
+        config.setOauthToken(s);
+      }
+      return s;
+    });
+  }
+
+  /**
+   * Re-read the configuration, reusing the last parsed kubeconfig if it uses an auth provider and the file is unchanged.
+   * Tokens from the service account file or an exec credential plugin always have to be re-read.
+   */
+  private Config getNewestConfig() {
+    CachedConfig cached = cachedConfig;
+    if (cached != null) {
+      if (cached.config.getFile().lastModified() == cached.lastModified) {
+        return cached.config;
+      }
+      cachedConfig = null;
+    }
+    String currentContextName = null;
+    if (config.getCurrentContext() != null) {
+      currentContextName = config.getCurrentContext().getName();
+    }
+    Config newestConfig = Config.autoConfigure(currentContextName);
+    File file = newestConfig.getFile();
+    if (file != null && newestConfig.getAuthProvider() != null) {
+      cachedConfig = new CachedConfig(newestConfig, file.lastModified());
+    }
+    return newestConfig;
+  }
+
+  private static final class CachedConfig {
+    private final Config config;
+    private final long lastModified;
+
+    private CachedConfig(Config config, long lastModified) {
+      this.config = config;
+      this.lastModified = lastModified;
+    }
+  }
+
+  private static final class TokenExpiry {
+    private final String token;
+    private final String timestamp;
+    private final Instant expiry;
+
+    private TokenExpiry(String token, String timestamp, Instant expiry) {
+      this.token = token;
+      this.timestamp = timestamp;
+      this.expiry = expiry;
+    }
+  }
+
+  private static boolean usedToken(HttpResponse<?> response, String token) {
+    if (response.request() == null) {
+      return true;
+    }
+    List<String> authorization = response.request().headers("Authorization");
+    // if the header is not visible, assume the current token was used
+    return authorization == null || authorization.isEmpty()
+        || authorization.stream().anyMatch(h -> Objects.equals(h, "Bearer " + token));
+  }
+
+  /**
+   * @return the expiry of the current token, or null if unknown
+   */
+  static Instant getTokenExpiry(Config config) {
+    String timestamp = config.getOauthTokenExpirationTimestamp();
+    if (timestamp != null) {
+      try {
+        return Instant.parse(timestamp);
+      } catch (DateTimeParseException e) {
+        LOGGER.debug("Invalid token expirationTimestamp {}", timestamp);
+      }
+    }
+    return getJwtExpiry(config.getOauthToken());
+  }
+
+  static Instant getJwtExpiry(String token) {
+    if (token == null) {
+      return null;
+    }
+    String[] parts = token.split("\\.");
+    if (parts.length != 3) {
+      return null;
+    }
+    try {
+      String claims = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+      JsonNode exp = Serialization.jsonMapper().readTree(claims).get("exp");
+      if (exp != null && exp.canConvertToLong()) {
+        return Instant.ofEpochSecond(exp.asLong());
+      }
+    } catch (Exception e) {
+      // not a JWT
+    }
+    return null;
+  }
+
 }
@@ -463,6 +463,30 @@ public class ConfigTest {
     assertEquals(30000L, config.getWebsocketPingInterval());
   }
 
+  @Test
+  void shouldCopyOauthTokenExpirationTimestampWithBuilder() {
+    Config config = new ConfigBuilder().withOauthTokenExpirationTimestamp("2022-01-01T00:00:00Z").build();
+
+    assertEquals("2022-01-01T00:00:00Z", new ConfigBuilder(config).build().getOauthTokenExpirationTimestamp());
+  }
+
+  @Test
+  void shouldCopyRequestRateLimitsWithBuilder() {
+    Config config = new ConfigBuilder().withMaxRequestsPerSecond(5.5).withMaxRequestBurst(10).build();
+
+    Config copy = new ConfigBuilder(config).build();
+
+    assertEquals(5.5, copy.getMaxRequestsPerSecond());
+    assertEquals(10, copy.getMaxRequestBurst());
+  }
+
+  @Test
+  void shouldCopyWatchMultiplexingWithBuilder() {
+    Config config = new ConfigBuilder().withWatchMultiplexing(true).build();
+
+    assertTrue(new ConfigBuilder(config).build().isWatchMultiplexing());
+  }
+
   @Test
   void testKubeConfigWithAuthConfigProvider() throws URISyntaxException {
     System.setProperty("kubeconfig", new File(getClass().getResource("/test-kubeconfig").toURI()).getAbsolutePath());
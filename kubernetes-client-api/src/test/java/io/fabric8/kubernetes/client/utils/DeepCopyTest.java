@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.apiextensions.v1.JSONSchemaProps;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeepCopyTest {
+
+  @Test
+  void copiesModelIndependently() {
+    Pod pod = new PodBuilder()
+        .withNewMetadata().withName("pod").addToLabels("app", "test").endMetadata()
+        .withNewSpec()
+        .addNewContainer().withName("c").withNewResources().addToLimits("cpu", new Quantity("1")).endResources()
+        .addNewPort().withContainerPort(8080).endPort().endContainer()
+        .endSpec()
+        .build();
+
+    Pod copy = DeepCopy.copy(pod);
+    copy.getMetadata().getLabels().put("app", "changed");
+    copy.getSpec().getContainers().get(0).getResources().getLimits().get("cpu").setAmount("2");
+
+    assertThat(copy).isNotSameAs(pod);
+    assertThat(pod.getMetadata().getLabels()).containsEntry("app", "test");
+    assertThat(pod.getSpec().getContainers().get(0).getResources().getLimits().get("cpu").getAmount()).isEqualTo("1");
+    assertThat(copy.getSpec().getContainers().get(0).getPorts().get(0).getContainerPort()).isEqualTo(8080);
+  }
+
+  @Test
+  void copyEqualsSerializationClone() {
+    ConfigMap configMap = new ConfigMapBuilder()
+        .withNewMetadata().withName("cm").withResourceVersion("1").endMetadata()
+        .addToData("key", "value")
+        .build();
+
+    assertThat(DeepCopy.copy(configMap)).isEqualTo(Serialization.cloneBySerialization(configMap));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void copiesAdditionalProperties() {
+    GenericKubernetesResource resource = new GenericKubernetesResource();
+    resource.setKind("Thing");
+    Map<String, Object> spec = new HashMap<>();
+    spec.put("replicas", 1);
+    spec.put("items", Collections.singletonList(Collections.singletonMap("name", "a")));
+    resource.setAdditionalProperty("spec", spec);
+
+    GenericKubernetesResource copy = DeepCopy.copy(resource);
+    ((Map<String, Object>) copy.getAdditionalProperties().get("spec")).put("replicas", 2);
+
+    assertThat(spec).containsEntry("replicas", 1);
+    assertThat(copy.getAdditionalProperties().get("spec")).isNotSameAs(spec);
+    assertThat(copy.getKind()).isEqualTo("Thing");
+  }
+
+  @Test
+  void copiesJsonNodesAndAnyTypes() {
+    ObjectNode node = JsonNodeFactory.instance.objectNode().put("a", 1);
+    JSONSchemaProps props = new JSONSchemaProps();
+    props.setDefault(node);
+    IntOrString intOrString = new IntOrString("80%");
+
+    JSONSchemaProps copy = DeepCopy.copy(props);
+    node.put("a", 2);
+
+    assertThat(copy.getDefault().get("a").asInt()).isEqualTo(1);
+    assertThat(DeepCopy.copy(intOrString)).isEqualTo(intOrString).isNotSameAs(intOrString);
+  }
+
+  @Test
+  void unsupportedTypeThrows() {
+    Map<String, Object> map = Collections.singletonMap("date", new Date());
+
+    assertThrows(DeepCopy.UnsupportedTypeException.class, () -> DeepCopy.copy(map));
+  }
+
+  @Test
+  void fieldNotFittingCopyIsUnsupported() {
+    LinkedListHolder holder = new LinkedListHolder();
+    holder.setItems(new LinkedList<>(Collections.singletonList("a")));
+
+    // so that Serialization.clone falls back to serialization
+    assertThrows(DeepCopy.UnsupportedTypeException.class, () -> DeepCopy.copy(holder));
+  }
+
+  public static class LinkedListHolder {
+    private LinkedList<String> items;
+
+    public LinkedList<String> getItems() {
+      return items;
+    }
+
+    public void setItems(LinkedList<String> items) {
+      this.items = items;
+    }
+  }
+
+}
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.Namespace;
@@ -40,12 +41,20 @@ import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -107,50 +116,6 @@ class SerializationTest {
       .collect(Collectors.joining("\n"));
   }
 
-  @Test
-  @DisplayName("containsMultipleDocuments, multiple documents with windows line ends, should return true")
-  void containsMultipleDocumentsWithMultipleDocumentsAndWindowsLineEnds() {
-    // Given
-    final String multiDocument = "---\r\napiVersion: v1\r\nKind: Something\r\n\r\n---\r\napiVersion: v2\r\nKind: Other";
-    // When
-    final boolean result = Serialization.containsMultipleDocuments(multiDocument);
-    // Then
-    assertThat(result).isTrue();
-  }
-
-  @Test
-  @DisplayName("containsMultipleDocuments, single document with windows line ends, should return false")
-  void containsMultipleDocumentsWithSingleDocumentAndWindowsLineEnds() {
-    // Given
-    final String multiDocument = "---\r\napiVersion: v1\r\nKind: Something\r\n\r\n";
-    // When
-    final boolean result = Serialization.containsMultipleDocuments(multiDocument);
-    // Then
-    assertThat(result).isFalse();
-  }
-
-  @Test
-  @DisplayName("containsMultipleDocuments, multiple documents with linux line ends, should return true")
-  void containsMultipleDocumentsWithMultipleDocumentsAndLinuxLineEnds() {
-    // Given
-    final String multiDocument = "---\napiVersion: v1\nKind: Something\n\n---\napiVersion: v2\nKind: Other";
-    // When
-    final boolean result = Serialization.containsMultipleDocuments(multiDocument);
-    // Then
-    assertThat(result).isTrue();
-  }
-
-  @Test
-  @DisplayName("containsMultipleDocuments, single document with linux line ends, should return false")
-  void containsMultipleDocumentsWithSingleDocumentAndLinuxLineEnds() {
-    // Given
-    final String multiDocument = "---\napiVersion: v1\nKind: Something\n\n";
-    // When
-    final boolean result = Serialization.containsMultipleDocuments(multiDocument);
-    // Then
-    assertThat(result).isFalse();
-  }
-
   @Test
   void testSerializeYamlWithAlias() {
     // Given
@@ -318,4 +283,114 @@ class SerializationTest {
     assertThat(Serialization.asYaml(quantity)).isEqualTo("--- \"2Gi\"\n");
   }
 
+  @Test
+  @DisplayName("unmarshalDocuments, with multiple YAML documents, should return the resources and list items in order")
+  void unmarshalDocumentsWithMultipleYamlDocuments() {
+    // Given
+    final String yaml = "---\n" +
+      "apiVersion: v1\nkind: Pod\nmetadata:\n  name: ${NAME}\n" +
+      "---\n# only a comment\n" +
+      "---\n" +
+      "apiVersion: v1\nkind: List\nitems:\n" +
+      "- apiVersion: v1\n  kind: Service\n  metadata:\n    name: svc\n" +
+      "- apiVersion: v1\n  kind: Namespace\n  metadata:\n    name: ns\n" +
+      "---\n";
+    // When
+    final List<HasMetadata> result;
+    try (Stream<HasMetadata> documents = Serialization.unmarshalDocuments(
+      new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)), Collections.singletonMap("NAME", "pod"))) {
+      result = documents.collect(Collectors.toList());
+    }
+    // Then
+    assertThat(result)
+      .extracting(HasMetadata::getKind, r -> r.getMetadata().getName())
+      .containsExactly(Tuple.tuple("Pod", "pod"), Tuple.tuple("Service", "svc"), Tuple.tuple("Namespace", "ns"));
+  }
+
+  @Test
+  @DisplayName("unmarshalDocuments, with a stream of JSON objects, should return the resources")
+  void unmarshalDocumentsWithJsonObjects() {
+    // Given
+    final String json = "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"p1\"}}\n" +
+      "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"p2\"}}";
+    // When
+    final List<HasMetadata> result;
+    try (Stream<HasMetadata> documents = Serialization.unmarshalDocuments(
+      new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), null)) {
+      result = documents.collect(Collectors.toList());
+    }
+    // Then
+    assertThat(result)
+      .hasOnlyElementsOfType(Pod.class)
+      .extracting(r -> r.getMetadata().getName())
+      .containsExactly("p1", "p2");
+  }
+
+  @Test
+  @DisplayName("unmarshalDocuments, should leave the input open")
+  void unmarshalDocumentsDoesNotCloseInput() {
+    // Given
+    final String json = "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"p1\"}}";
+    final AtomicBoolean closed = new AtomicBoolean();
+    final InputStream is = new FilterInputStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))) {
+      @Override
+      public void close() {
+        closed.set(true);
+      }
+    };
+    // When
+    final List<HasMetadata> result;
+    try (Stream<HasMetadata> documents = Serialization.unmarshalDocuments(is, null)) {
+      result = documents.collect(Collectors.toList());
+    }
+    // Then
+    assertThat(result).hasSize(1);
+    assertThat(closed).isFalse();
+  }
+
+  @Test
+  @DisplayName("unmarshalDocuments, should only read the input needed for the documents consumed")
+  void unmarshalDocumentsReadsLazily() throws IOException {
+    // Given
+    final StringBuilder yaml = new StringBuilder();
+    for (int i = 0; i < 10000; i++) {
+      yaml.append("---\napiVersion: v1\nkind: ConfigMap\nmetadata:\n  name: cm-").append(i).append("\n");
+    }
+    final byte[] bytes = yaml.toString().getBytes(StandardCharsets.UTF_8);
+    final AtomicLong read = new AtomicLong();
+    final InputStream is = new FilterInputStream(new ByteArrayInputStream(bytes)) {
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        final int count = super.read(b, off, len);
+        read.addAndGet(Math.max(count, 0));
+        return count;
+      }
+    };
+    // When
+    final Optional<HasMetadata> first;
+    try (Stream<HasMetadata> documents = Serialization.unmarshalDocuments(is, null)) {
+      first = documents.findFirst();
+    }
+    // Then
+    assertThat(first).hasValueSatisfying(r -> assertThat(r.getMetadata().getName()).isEqualTo("cm-0"));
+    assertThat(read.get()).isLessThan(bytes.length / 10);
+  }
+
+  @Test
+  @DisplayName("unmarshal with parameters, with multiple YAML documents, should return a list of the resources")
+  void unmarshalWithParametersAndMultipleDocumentsShouldReturnList() {
+    // Given
+    final String yaml = "apiVersion: v1\nkind: Pod\nmetadata:\n  name: p1\n---\n" +
+      "apiVersion: v1\nkind: Service\nmetadata:\n  name: ${NAME}\n";
+    // When
+    final List<KubernetesResource> result = Serialization.unmarshal(
+      new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)), Collections.singletonMap("NAME", "svc"));
+    // Then
+    assertThat(result)
+      .hasSize(2)
+      .last()
+      .asInstanceOf(InstanceOfAssertFactories.type(Service.class))
+      .hasFieldOrPropertyWithValue("metadata.name", "svc");
+  }
+
 }
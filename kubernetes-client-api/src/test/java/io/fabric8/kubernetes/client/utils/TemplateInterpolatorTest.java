@@ -0,0 +1,151 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemplateInterpolatorTest {
+
+  @Test
+  @DisplayName("interpolate, with mixed placeholders, should replace known parameters")
+  void interpolateMixedPlaceholders() {
+    // Given
+    final Map<String, String> parameters = new HashMap<>();
+    parameters.put("SINGLE_CURLY_BRACE", "template string");
+    parameters.put("RENDER_UNQUOTED", "'1' === '1';");
+    parameters.put("ALREADY_UNQUOTED", "/* END */");
+    parameters.put(null, "NULL key is ignored");
+    parameters.put("NULL_VALUE", null);
+    // When
+    final String result = TemplateInterpolator.compile(parameters)
+      .interpolate("This is a \"${SINGLE_CURLY_BRACE}\" and the following is code ${NOT_REPLACED}: " +
+        "\"${{RENDER_UNQUOTED}}\" ${{ALREADY_UNQUOTED}} ${NULL_VALUE}");
+    // Then
+    assertThat(result).isEqualTo("This is a \"template string\" and the following is code ${NOT_REPLACED}: " +
+      "'1' === '1'; /* END */ ${NULL_VALUE}");
+  }
+
+  @Test
+  @DisplayName("compile, with values referring to other parameters, should resolve them in dependency order")
+  void compileResolvesDependencies() {
+    // Given
+    final Map<String, String> parameters = new LinkedHashMap<>();
+    parameters.put("URL", "http://${HOST}:${{PORT}}/${PATH}");
+    parameters.put("HOST", "${NAME}.${DOMAIN}");
+    parameters.put("NAME", "app");
+    parameters.put("DOMAIN", "example.com");
+    parameters.put("PORT", "8080");
+    parameters.put("PATH", "api");
+    // When
+    final TemplateInterpolator interpolator = TemplateInterpolator.compile(parameters);
+    // Then
+    assertThat(interpolator.getValues())
+      .containsEntry("URL", "http://app.example.com:8080/api")
+      .containsEntry("HOST", "app.example.com");
+    assertThat(interpolator.interpolate("{\"url\":\"${URL}\"}")).isEqualTo("{\"url\":\"http://app.example.com:8080/api\"}");
+  }
+
+  @Test
+  @DisplayName("compile, with values referring to each other, should leave the cyclic placeholder")
+  void compileWithCycleLeavesPlaceholder() {
+    // Given
+    final Map<String, String> parameters = new LinkedHashMap<>();
+    parameters.put("A", "a-${B}");
+    parameters.put("B", "b-${A}");
+    // When
+    final TemplateInterpolator interpolator = TemplateInterpolator.compile(parameters);
+    // Then
+    assertThat(interpolator.getValues())
+      .containsEntry("A", "a-b-${A}")
+      .containsEntry("B", "b-${A}");
+  }
+
+  @Test
+  @DisplayName("interpolate, substituted values should not be scanned again")
+  void interpolateDoesNotRescanValues() {
+    final TemplateInterpolator interpolator = TemplateInterpolator.compile(Collections.singletonMap("A", "$${"));
+
+    assertThat(interpolator.interpolate("${A}A}")).isEqualTo("$${A}");
+  }
+
+  @Test
+  @DisplayName("interpolate stream, with a large template, should match the interpolated string")
+  void interpolateStreamLargeTemplate() throws IOException {
+    // Given
+    final Map<String, String> parameters = new HashMap<>();
+    for (int i = 0; i < 500; i++) {
+      parameters.put("PARAM_" + i, "value-" + i + "-é😀");
+    }
+    parameters.put("REPLICAS", "3");
+    final StringBuilder template = new StringBuilder("{\"items\":[");
+    for (int i = 0; i < 5000; i++) {
+      template.append(i > 0 ? "," : "")
+        .append("{\"name\":\"${PARAM_").append(i % 500).append("}\",\"replicas\":\"${{REPLICAS}}\",")
+        .append("\"unknown\":\"${UNKNOWN_").append(i).append("}\",\"text\":\"ü $ \\\" ${\"}");
+    }
+    template.append("]}");
+    final TemplateInterpolator interpolator = TemplateInterpolator.compile(parameters);
+    final String expected = interpolator.interpolate(template.toString());
+    // When
+    final String result;
+    try (InputStream is = interpolator.interpolate(
+      new ByteArrayInputStream(template.toString().getBytes(StandardCharsets.UTF_8)))) {
+      result = readFully(is);
+    }
+    // Then
+    assertThat(result).isEqualTo(expected);
+    assertThat(result)
+      .contains("{\"name\":\"value-7-é😀\",\"replicas\":3,\"unknown\":\"${UNKNOWN_7}\"")
+      .doesNotContain("${PARAM_")
+      .doesNotContain("${{REPLICAS}}");
+  }
+
+  @Test
+  @DisplayName("interpolate stream, with a placeholder at the end, should replace it")
+  void interpolateStreamPlaceholderAtEnd() throws IOException {
+    final TemplateInterpolator interpolator = TemplateInterpolator.compile(Collections.singletonMap("A", "a"));
+
+    try (InputStream is = interpolator.interpolate(new ByteArrayInputStream("x ${A}".getBytes(StandardCharsets.UTF_8)))) {
+      assertThat(readFully(is)).isEqualTo("x a");
+    }
+    try (InputStream is = interpolator.interpolate(new ByteArrayInputStream("x ${A".getBytes(StandardCharsets.UTF_8)))) {
+      assertThat(readFully(is)).isEqualTo("x ${A");
+    }
+  }
+
+  private static String readFully(InputStream is) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[1000];
+    int read;
+    while ((read = is.read(buffer)) > 0) {
+      out.write(buffer, 0, read);
+    }
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
@@ -18,20 +18,34 @@ package io.fabric8.kubernetes.client.utils;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.io.File;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.fabric8.kubernetes.client.Config.KUBERNETES_AUTH_SERVICEACCOUNT_TOKEN_FILE_SYSTEM_PROPERTY;
 import static io.fabric8.kubernetes.client.Config.KUBERNETES_AUTH_TRYKUBECONFIG_SYSTEM_PROPERTY;
 import static io.fabric8.kubernetes.client.Config.KUBERNETES_KUBECONFIG_FILE;
 import static io.fabric8.kubernetes.client.MockHttpClientUtils.buildResponse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -78,7 +92,9 @@ class TokenRefreshInterceptorTest {
 
       // Write new value to token file to simulate renewal.
       Files.write(tokenFile.toPath(), "renewed".getBytes());
-      boolean reissue = interceptor.afterFailure(builder, buildResponse(HttpURLConnection.HTTP_UNAUTHORIZED, "foo")).get();
+      HttpResponse<InputStream> response = buildResponse(HttpURLConnection.HTTP_UNAUTHORIZED, "foo");
+      Mockito.when(response.request().headers("Authorization")).thenReturn(Collections.singletonList("Bearer expired"));
+      boolean reissue = interceptor.afterFailure(builder, response).get();
 
       // Make the call and check that renewed token was read at 401 Unauthorized.
       Mockito.verify(builder).setHeader("Authorization", "Bearer renewed");
@@ -115,7 +131,9 @@ class TokenRefreshInterceptorTest {
           Paths.get(tempFile.getPath()), StandardCopyOption.REPLACE_EXISTING);
 
       TokenRefreshInterceptor interceptor = new TokenRefreshInterceptor(config, Mockito.mock(HttpClient.Factory.class));
-      boolean reissue = interceptor.afterFailure(builder, buildResponse(HttpURLConnection.HTTP_UNAUTHORIZED, "foo")).get();
+      HttpResponse<InputStream> response = buildResponse(HttpURLConnection.HTTP_UNAUTHORIZED, "foo");
+      Mockito.when(response.request().headers("Authorization")).thenReturn(Collections.singletonList("Bearer expired"));
+      boolean reissue = interceptor.afterFailure(builder, response).get();
 
       // Make the call and check that renewed token was read at 401 Unauthorized.
       Mockito.verify(builder).setHeader("Authorization", "Bearer renewed");
@@ -126,4 +144,92 @@ class TokenRefreshInterceptorTest {
     }
 
   }
+
+  @Test
+  void shouldShareInFlightRefresh() throws Exception {
+    AtomicInteger refreshes = new AtomicInteger();
+    CompletableFuture<String> pending = new CompletableFuture<>();
+    TokenRefreshInterceptor interceptor = new TokenRefreshInterceptor(Config.empty(), null) {
+      @Override
+      CompletableFuture<String> resolveNewToken() {
+        refreshes.incrementAndGet();
+        return pending;
+      }
+    };
+
+    CompletableFuture<String> first = interceptor.refresh();
+    CompletableFuture<String> second = interceptor.refresh();
+    pending.complete("renewed");
+
+    assertSame(first, second);
+    assertEquals("renewed", second.get());
+    assertEquals(1, refreshes.get());
+
+    // once complete, a new refresh is started
+    interceptor.refresh().get();
+    assertEquals(2, refreshes.get());
+  }
+
+  @Test
+  void shouldRefreshAheadOfExpiryWithoutBlocking() throws Exception {
+    Config config = Config.empty();
+    config.setOauthToken("expiring");
+    config.setOauthTokenExpirationTimestamp(Instant.now().plusSeconds(10).toString());
+    CompletableFuture<Thread> resolvedOn = new CompletableFuture<>();
+    CompletableFuture<String> pending = new CompletableFuture<>();
+    TokenRefreshInterceptor interceptor = new TokenRefreshInterceptor(config, null) {
+      @Override
+      CompletableFuture<String> resolveNewToken() {
+        resolvedOn.complete(Thread.currentThread());
+        return pending;
+      }
+    };
+
+    // the request proceeds with the current token while the refresh is pending
+    interceptor.before(Mockito.mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF), null);
+
+    assertNotSame(Thread.currentThread(), resolvedOn.get(10, TimeUnit.SECONDS));
+    // a 401 waits on the refresh already in flight
+    HttpRequest.Builder builder = Mockito.mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF);
+    HttpResponse<InputStream> response = buildResponse(HttpURLConnection.HTTP_UNAUTHORIZED, "foo");
+    Mockito.when(response.request().headers("Authorization")).thenReturn(Collections.singletonList("Bearer expiring"));
+    CompletableFuture<Boolean> reissue = interceptor.afterFailure(builder, response);
+    assertFalse(reissue.isDone());
+    pending.complete("renewed");
+    assertTrue(reissue.get(10, TimeUnit.SECONDS));
+    Mockito.verify(builder).setHeader("Authorization", "Bearer renewed");
+  }
+
+  @Test
+  void shouldRetryWithAlreadyRefreshedToken() throws Exception {
+    Config config = Config.empty();
+    config.setOauthToken("renewed");
+    HttpRequest.Builder builder = Mockito.mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF);
+    HttpResponse<InputStream> response = buildResponse(HttpURLConnection.HTTP_UNAUTHORIZED, "foo");
+    Mockito.when(response.request().headers("Authorization")).thenReturn(Collections.singletonList("Bearer expired"));
+
+    boolean reissue = new TokenRefreshInterceptor(config, null).afterFailure(builder, response).get();
+
+    Mockito.verify(builder).setHeader("Authorization", "Bearer renewed");
+    assertTrue(reissue);
+  }
+
+  @Test
+  void shouldReadJwtExpiry() {
+    String claims = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString("{\"sub\":\"user\",\"exp\":1700000000}".getBytes(StandardCharsets.UTF_8));
+
+    assertEquals(Instant.ofEpochSecond(1700000000), TokenRefreshInterceptor.getJwtExpiry("header." + claims + ".signature"));
+    assertNull(TokenRefreshInterceptor.getJwtExpiry("opaque-token"));
+  }
+
+  @Test
+  void shouldPreferExecCredentialExpiry() {
+    Config config = Config.empty();
+    config.setOauthToken("opaque-token");
+    config.setOauthTokenExpirationTimestamp("2022-01-01T00:00:00Z");
+
+    assertEquals(Instant.parse("2022-01-01T00:00:00Z"), TokenRefreshInterceptor.getTokenExpiry(config));
+  }
+
 }
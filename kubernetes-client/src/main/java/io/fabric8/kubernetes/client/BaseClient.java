@@ -29,6 +29,7 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
 import io.fabric8.kubernetes.client.dsl.internal.OperationSupport;
+import io.fabric8.kubernetes.client.dsl.internal.WatchMultiplexer;
 import io.fabric8.kubernetes.client.extension.ExtensionAdapter;
 import io.fabric8.kubernetes.client.extension.SupportTestingClient;
 import io.fabric8.kubernetes.client.http.HttpClient;
@@ -37,6 +38,7 @@ import io.fabric8.kubernetes.client.utils.Utils;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 public abstract class BaseClient implements Client {
@@ -52,6 +54,8 @@ public abstract class BaseClient implements Client {
   protected Config config;
   protected HttpClient httpClient;
   private OperationSupport operationSupport;
+  private RequestScheduler requestScheduler;
+  private WatchMultiplexer watchMultiplexer;
 
   public BaseClient(Config config, BaseClient baseClient) {
     this.config = config;
@@ -59,6 +63,8 @@ public abstract class BaseClient implements Client {
     this.adapters = baseClient.adapters;
     this.handlers = baseClient.handlers;
     this.matchingGroupPredicate = baseClient.matchingGroupPredicate;
+    this.requestScheduler = baseClient.requestScheduler;
+    this.watchMultiplexer = baseClient.watchMultiplexer;
     setDerivedFields();
   }
 
@@ -67,6 +73,10 @@ public abstract class BaseClient implements Client {
     this.httpClient = httpClient;
     this.handlers = new Handlers();
     this.adapters = new Adapters(this.handlers);
+    this.requestScheduler = RequestScheduler.from(config);
+    if (config.isWatchMultiplexing()) {
+      this.watchMultiplexer = new WatchMultiplexer();
+    }
     setDerivedFields();
   }
 
@@ -92,6 +102,28 @@ public abstract class BaseClient implements Client {
     httpClient.close();
   }
 
+  /**
+   * The scheduler for requests made by this client and the clients derived from it
+   */
+  public RequestScheduler getRequestScheduler() {
+    return requestScheduler;
+  }
+
+  /**
+   * Replace the scheduler for requests made by this client. Clients already derived from this one are not affected.
+   */
+  public void setRequestScheduler(RequestScheduler requestScheduler) {
+    this.requestScheduler = Objects.requireNonNull(requestScheduler);
+  }
+
+  /**
+   * The multiplexer shared by the watches made through this client and the clients derived from it,
+   * or null if {@link Config#isWatchMultiplexing()} was not enabled
+   */
+  public WatchMultiplexer getWatchMultiplexer() {
+    return watchMultiplexer;
+  }
+
   @Override
   public URL getMasterUrl() {
     return masterUrl;
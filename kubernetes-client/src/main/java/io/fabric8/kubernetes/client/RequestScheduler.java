@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client;
+
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decides when a client request may be sent to the api server.
+ * <p>
+ * A single scheduler is shared by a client and all of the clients derived from it.
+ * Watches and other long running requests are not scheduled.
+ */
+public interface RequestScheduler {
+
+  /**
+   * A scheduler that sends every request immediately
+   */
+  RequestScheduler UNLIMITED = request -> CompletableFuture.completedFuture(null);
+
+  /**
+   * Request permission to send the request.
+   *
+   * @param request the request to send
+   * @return a future that completes when the request may be sent - implementations should not block
+   */
+  CompletableFuture<Void> acquire(HttpRequest request);
+
+  /**
+   * Called with each response, including those that will be retried, so that
+   * the scheduler can react to throttling by the api server.
+   *
+   * @param response the response
+   */
+  default void onResponse(HttpResponse<?> response) {
+  }
+
+  /**
+   * Create a token bucket scheduler from the {@link Config}, or {@link #UNLIMITED} if no rate limit is configured
+   *
+   * @param config the client config
+   * @return the scheduler
+   */
+  static RequestScheduler from(Config config) {
+    if (config == null || config.getMaxRequestsPerSecond() <= 0) {
+      return UNLIMITED;
+    }
+    return new TokenBucketRequestScheduler(config.getMaxRequestsPerSecond(), config.getMaxRequestBurst());
+  }
+
+}
@@ -0,0 +1,252 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client;
+
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link RequestScheduler} that limits the client to a sustained rate of requests per second,
+ * allowing bursts of up to the bucket size.
+ * <p>
+ * Each request takes a number of tokens determined by its http method, 1 by default. When the bucket is empty
+ * requests are queued in arrival order rather than rejected.
+ * <p>
+ * A 429 or 503 response with a Retry-After header pauses all dispatch for that long. Throttled responses
+ * are also counted by the API Priority and Fairness priority level reported in the X-Kubernetes-PF-PriorityLevel-UID header.
+ */
+public class TokenBucketRequestScheduler implements RequestScheduler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TokenBucketRequestScheduler.class);
+
+  public static final String RETRY_AFTER = "Retry-After";
+  public static final String PRIORITY_LEVEL_UID = "X-Kubernetes-PF-PriorityLevel-UID";
+  public static final String FLOW_SCHEMA_UID = "X-Kubernetes-PF-FlowSchema-UID";
+  public static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+  private final double permitsPerNano;
+  private final double burst;
+  private final Map<String, Integer> weights;
+  private final LongSupplier nanoTime;
+
+  // guarded by this - may be negative when requests are queued
+  private double tokens;
+  private long lastRefill;
+  private long pausedUntil;
+
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicLong totalRequests = new AtomicLong();
+  private final AtomicLong delayedRequests = new AtomicLong();
+  private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+  private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+  private final AtomicLong throttledResponses = new AtomicLong();
+  private final Map<String, AtomicLong> throttledByPriorityLevel = new ConcurrentHashMap<>();
+
+  /**
+   * @param requestsPerSecond the sustained rate
+   * @param burst the bucket size, if less than 1 the rate rounded up is used
+   */
+  public TokenBucketRequestScheduler(double requestsPerSecond, int burst) {
+    this(requestsPerSecond, burst, Collections.emptyMap());
+  }
+
+  /**
+   * @param requestsPerSecond the sustained rate
+   * @param burst the bucket size, if less than 1 the rate rounded up is used
+   * @param weights the number of tokens taken by each http method, such as {@code DELETE -> 2}. Others take 1.
+   */
+  public TokenBucketRequestScheduler(double requestsPerSecond, int burst, Map<String, Integer> weights) {
+    this(requestsPerSecond, burst, weights, System::nanoTime);
+  }
+
+  TokenBucketRequestScheduler(double requestsPerSecond, int burst, Map<String, Integer> weights, LongSupplier nanoTime) {
+    if (requestsPerSecond <= 0) {
+      throw new IllegalArgumentException("requestsPerSecond must be positive");
+    }
+    this.permitsPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+    this.burst = burst > 0 ? burst : Math.ceil(requestsPerSecond);
+    this.weights = new HashMap<>();
+    weights.forEach((k, v) -> this.weights.put(k.toUpperCase(Locale.ROOT), v));
+    this.nanoTime = nanoTime;
+    this.lastRefill = nanoTime.getAsLong();
+    this.pausedUntil = lastRefill;
+    this.tokens = this.burst;
+  }
+
+  @Override
+  public CompletableFuture<Void> acquire(HttpRequest request) {
+    long delay = reserve(weight(request));
+    totalRequests.incrementAndGet();
+    if (delay <= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    delayedRequests.incrementAndGet();
+    queued.incrementAndGet();
+    totalQueueWaitNanos.addAndGet(delay);
+    maxQueueWaitNanos.accumulateAndGet(delay, Math::max);
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    Utils.schedule(Utils.getCommonExecutorSerive(), () -> {
+      queued.decrementAndGet();
+      result.complete(null);
+    }, delay, TimeUnit.NANOSECONDS);
+    return result;
+  }
+
+  int weight(HttpRequest request) {
+    Integer weight = weights.get(request.method().toUpperCase(Locale.ROOT));
+    return weight != null ? weight : 1;
+  }
+
+  /**
+   * Take the tokens, returning how long the caller must wait in nanos before proceeding
+   */
+  synchronized long reserve(int weight) {
+    long now = nanoTime.getAsLong();
+    refill(now);
+    tokens -= weight;
+    long wait = Math.max(0, pausedUntil - now);
+    if (tokens < 0) {
+      // tokens only accumulate again after any pause
+      wait += (long) Math.ceil(-tokens / permitsPerNano);
+    }
+    return wait;
+  }
+
+  private void refill(long now) {
+    // no refill while paused, the pause already accounts for that time
+    long from = Math.max(lastRefill, pausedUntil);
+    if (now > from) {
+      tokens = Math.min(burst, tokens + (now - from) * permitsPerNano);
+    }
+    lastRefill = Math.max(lastRefill, now);
+  }
+
+  @Override
+  public void onResponse(HttpResponse<?> response) {
+    int code = response.code();
+    if (code != HTTP_TOO_MANY_REQUESTS && code != HttpURLConnection.HTTP_UNAVAILABLE) {
+      return;
+    }
+    throttledResponses.incrementAndGet();
+    String priorityLevel = firstHeader(response, PRIORITY_LEVEL_UID);
+    if (priorityLevel != null) {
+      throttledByPriorityLevel.computeIfAbsent(priorityLevel, k -> new AtomicLong()).incrementAndGet();
+    }
+    long retryAfterSeconds = getRetryAfterSeconds(response);
+    if (retryAfterSeconds > 0) {
+      LOGGER.debug("Throttled by the api server with priority level {} and flow schema {}, pausing for {} seconds",
+          priorityLevel, firstHeader(response, FLOW_SCHEMA_UID), retryAfterSeconds);
+      pause(TimeUnit.SECONDS.toNanos(retryAfterSeconds));
+    }
+  }
+
+  synchronized void pause(long nanos) {
+    long now = nanoTime.getAsLong();
+    refill(now);
+    pausedUntil = Math.max(pausedUntil, now + nanos);
+  }
+
+  /**
+   * @return the Retry-After header in seconds, or 0 if not present or not a number of seconds
+   */
+  public static long getRetryAfterSeconds(HttpResponse<?> response) {
+    String retryAfter = firstHeader(response, RETRY_AFTER);
+    if (retryAfter != null) {
+      try {
+        return Math.max(0, Long.parseLong(retryAfter.trim()));
+      } catch (NumberFormatException e) {
+        // http-date form is not used by the api server
+      }
+    }
+    return 0;
+  }
+
+  private static String firstHeader(HttpResponse<?> response, String name) {
+    List<String> values = response.headers(name);
+    if (values == null || values.isEmpty()) {
+      return null;
+    }
+    return values.get(0);
+  }
+
+  /**
+   * @return the number of requests currently waiting to be sent
+   */
+  public int getQueueLength() {
+    return queued.get();
+  }
+
+  /**
+   * @return the number of requests scheduled
+   */
+  public long getTotalRequests() {
+    return totalRequests.get();
+  }
+
+  /**
+   * @return the number of requests that had to wait
+   */
+  public long getDelayedRequests() {
+    return delayedRequests.get();
+  }
+
+  /**
+   * @return the total time requests spent waiting
+   */
+  public long getTotalQueueWait(TimeUnit unit) {
+    return unit.convert(totalQueueWaitNanos.get(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @return the longest time a single request spent waiting
+   */
+  public long getMaxQueueWait(TimeUnit unit) {
+    return unit.convert(maxQueueWaitNanos.get(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @return the number of 429 and 503 responses
+   */
+  public long getThrottledResponses() {
+    return throttledResponses.get();
+  }
+
+  /**
+   * @return the number of 429 and 503 responses by API Priority and Fairness priority level uid
+   */
+  public Map<String, Long> getThrottledResponsesByPriorityLevel() {
+    Map<String, Long> result = new HashMap<>();
+    throttledByPriorityLevel.forEach((k, v) -> result.put(k, v.get()));
+    return result;
+  }
+
+}
@@ -16,10 +16,13 @@
 package io.fabric8.kubernetes.client.dsl.internal;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.model.*;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
@@ -27,12 +30,15 @@ import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.Utils;
 import io.fabric8.kubernetes.client.utils.internal.ExponentialBackoffIntervalCalculator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.lang.reflect.Modifier;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.HashMap;
@@ -51,6 +57,12 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
   private static final Logger logger = LoggerFactory.getLogger(AbstractWatchManager.class);
 
+  private static final String TYPE = "type";
+  private static final String OBJECT = "object";
+  private static final String KIND = "kind";
+  private static final String STATUS_KIND = "Status";
+  private static final String TEMPLATE_KIND = "Template";
+
   final Watcher<T> watcher;
   final AtomicReference<String> resourceVersion;
 
@@ -91,6 +103,15 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     runWatch();
   }
   
+  /**
+   * Informer watches report decoding and reconnects to the informer metrics, which are looked up
+   * each time so that metrics set after the watch has started are used
+   */
+  private InformerMetrics metrics() {
+    InformerMetrics metrics = baseOperation.getMetrics();
+    return metrics == null ? InformerMetrics.NOOP : metrics;
+  }
+
   protected abstract void run(URL url, Map<String, String> headers);
   
   protected abstract void closeRequest();
@@ -146,6 +167,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     }
     
     logger.debug("Scheduling reconnect task");
+    metrics().watchReconnectScheduled();
     
     long delay = nextReconnectInterval();
     
@@ -199,6 +221,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     if (resource != null && !baseOperation.getType().isAssignableFrom(resource.getClass())) {
       resource = Serialization.jsonMapper().convertValue(resource, baseOperation.getType());
     }
+    baseOperation.restoreTypeMeta(resource);
     watcher.eventReceived(action, (T)resource);
   }
   
@@ -217,6 +240,9 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
     Map<String, String> headers = new HashMap<>();
     headers.put("Origin", origin);
+    if (baseOperation.isMetadataOnly()) {
+      headers.put("Accept", BaseOperation.METADATA_ONLY_ACCEPT);
+    }
     
     logger.debug("Watching {}...", url);
   
@@ -254,8 +280,78 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     }
   }
   
+  /**
+   * Decode the typical watch event in a single pass - the object is buffered as tokens rather than
+   * as a tree and then bound directly to the operation type.
+   *
+   * @return the event or null if the message should be handled by the general deserialization logic
+   */
+  WatchEvent readTypedWatchEvent(String messageSource) throws IOException {
+    Class<T> type = baseOperation.getType();
+    if (type == null || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+    ObjectMapper mapper = Serialization.jsonMapper();
+    try (JsonParser parser = mapper.getFactory().createParser(messageSource)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      String eventType = null;
+      TokenBuffer object = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        JsonToken token = parser.nextToken();
+        if (TYPE.equals(field) && token == JsonToken.VALUE_STRING) {
+          eventType = parser.getText();
+        } else if (OBJECT.equals(field) && token == JsonToken.START_OBJECT) {
+          object = new TokenBuffer(parser);
+          object.copyCurrentStructure(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      if (object == null) {
+        return null;
+      }
+      String kind = readKind(object, mapper);
+      Class<? extends KubernetesResource> targetType = type;
+      if (STATUS_KIND.equals(kind)) {
+        targetType = Status.class;
+      } else if (TEMPLATE_KIND.equals(kind)) {
+        // templates rely on the KubernetesDeserializer context
+        return null;
+      }
+      try (JsonParser objectParser = object.asParser(mapper)) {
+        return new WatchEvent(mapper.readValue(objectParser, targetType), eventType);
+      }
+    }
+  }
+
+  private static String readKind(TokenBuffer object, ObjectMapper mapper) throws IOException {
+    try (JsonParser parser = object.asParser(mapper)) {
+      parser.nextToken();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        JsonToken token = parser.nextToken();
+        if (KIND.equals(field)) {
+          return token == JsonToken.VALUE_STRING ? parser.getText() : null;
+        }
+        parser.skipChildren();
+      }
+      return null;
+    }
+  }
+
   protected WatchEvent readWatchEvent(String messageSource) {
-    WatchEvent event = contextAwareWatchEventDeserializer(messageSource);
+    WatchEvent event = null;
+    try {
+      event = readTypedWatchEvent(messageSource);
+    } catch (IOException e) {
+      logger.debug("Falling back to general deserialization of the watch event", e);
+    }
+    if (event == null) {
+      event = contextAwareWatchEventDeserializer(messageSource);
+    }
     KubernetesResource object = null;
     if (event != null) {
       object = event.getObject();
@@ -280,7 +376,9 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
   
   protected void onMessage(String message) {
     try {
+      long start = System.nanoTime();
       WatchEvent event = readWatchEvent(message);
+      metrics().eventDecoded(System.nanoTime() - start);
       Object object = event.getObject();
       if (object instanceof Status) {
         Status status = (Status) object;
@@ -41,6 +41,7 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.extension.ExtensibleResource;
 import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
 import io.fabric8.kubernetes.client.informers.ListerWatcher;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
@@ -59,6 +60,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Method;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -66,13 +68,17 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceList<T>, R extends Resource<T>>
@@ -86,6 +92,10 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   private static final String WATCH = "watch";
   private static final String READ_ONLY_UPDATE_EXCEPTION_MESSAGE = "Cannot update read-only resources";
   private static final String READ_ONLY_EDIT_EXCEPTION_MESSAGE = "Cannot edit read-only resources";
+  private static final String ACCEPT = "Accept";
+  private static final Map<Class<?>, Optional<Method>> KIND_SETTERS = new ConcurrentHashMap<>();
+  static final String METADATA_ONLY_LIST_ACCEPT = "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json";
+  static final String METADATA_ONLY_ACCEPT = "application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1,application/json";
 
   private final boolean cascading;
   private final T item;
@@ -101,6 +111,8 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   // informable state
   private Map<String, Function<T, List<String>>> indexers;
   private Long limit;
+  private boolean informMetadataOnly;
+  private volatile InformerMetrics metrics = InformerMetrics.NOOP;
 
   protected BaseOperation(OperationContext ctx) {
     super(ctx);
@@ -130,8 +142,12 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   private L listRequestHelper(URL url) {
     try {
       HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder().url(url);
+      if (isMetadataOnly()) {
+        requestBuilder.header(ACCEPT, METADATA_ONLY_LIST_ACCEPT);
+      }
       L answer = handleResponse(requestBuilder, listType);
       updateApiVersion(answer);
+      restoreTypeMeta(answer);
       return answer;
     } catch (InterruptedException ie) {
       Thread.currentThread().interrupt();
@@ -190,6 +206,44 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  /**
+   * The asynchronous form of {@link #get()}
+   *
+   * @return a future for the resource, or null if it does not exist
+   */
+  public CompletableFuture<T> getAsync() {
+    return getMandatoryAsync().handle((answer, t) -> {
+      if (t == null) {
+        return answer;
+      }
+      Throwable cause = unwrap(t);
+      if (cause instanceof KubernetesClientException
+          && ((KubernetesClientException) cause).getCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+        return null;
+      }
+      throw KubernetesClientException.launderThrowable(cause);
+    });
+  }
+
+  /**
+   * The asynchronous form of {@link #getMandatory()}
+   */
+  public CompletableFuture<T> getMandatoryAsync() {
+    if (item != null && !reloadingFromServer) {
+      return CompletableFuture.completedFuture(Serialization.clone(item));
+    }
+    CompletableFuture<T> answer;
+    try {
+      answer = handleGetAsync(getCompleteResourceUrl(), getType());
+    } catch (MalformedURLException e) {
+      answer = failedFuture(e);
+    }
+    return launderAsync(answer.thenApply(result -> {
+      updateApiVersion(result);
+      return result;
+    }), "get");
+  }
+
   @Override
   public T edit(UnaryOperator<T> function) {
     throw new KubernetesClientException(READ_ONLY_EDIT_EXCEPTION_MESSAGE);
@@ -418,6 +472,66 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  /**
+   * The asynchronous form of {@link #list()}
+   */
+  public CompletableFuture<L> listAsync() {
+    return listAsync(new ListOptions());
+  }
+
+  /**
+   * The asynchronous form of {@link #list(ListOptions)}
+   */
+  public CompletableFuture<L> listAsync(ListOptions listOptions) {
+    HttpRequest.Builder requestBuilder;
+    try {
+      requestBuilder = httpClient.newHttpRequestBuilder()
+          .url(fetchListUrl(getNamespacedUrl(), defaultListOptions(listOptions, null)));
+    } catch (MalformedURLException e) {
+      return launderAsync(failedFuture(e), "list");
+    }
+    if (isMetadataOnly()) {
+      requestBuilder.header(ACCEPT, METADATA_ONLY_LIST_ACCEPT);
+    }
+    return launderAsync(handleResponseAsync(requestBuilder, listType).thenApply(answer -> {
+      updateApiVersion(answer);
+      restoreTypeMeta(answer);
+      return answer;
+    }), "list");
+  }
+
+  @Override
+  public CompletableFuture<L> submitList(ListOptions listOptions) {
+    return listAsync(listOptions);
+  }
+
+  /**
+   * The asynchronous form of {@link #create(Object)}
+   */
+  public CompletableFuture<T> createAsync(T item) {
+    updateApiVersion(item);
+    return launderAsync(handleCreateAsync(item, getType()), "create");
+  }
+
+  /**
+   * Complete exceptionally with the same exception that the blocking form of the operation would throw
+   */
+  protected <X> CompletableFuture<X> launderAsync(CompletableFuture<X> future, String operationType) {
+    return future.handle((result, t) -> {
+      if (t == null) {
+        return result;
+      }
+      throw KubernetesClientException.launderThrowable(forOperationType(operationType), unwrap(t));
+    });
+  }
+
+  static Throwable unwrap(Throwable t) {
+    if (t instanceof CompletionException && t.getCause() != null) {
+      return t.getCause();
+    }
+    return t;
+  }
+
   /**
    * Override the options based upon the context / call
    */
@@ -470,25 +584,14 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   @Override
   public boolean delete(List<T> items) {
-    boolean deleted = true;
-    if (items != null) {
-      for (T toDelete : items) {
-        if (toDelete == null) {
-          continue;
-        }
-        updateApiVersion(toDelete);
-
-        try {
-          deleted &= resource(toDelete).delete();
-        } catch (KubernetesClientException e) {
-          if (e.getCode() != HttpURLConnection.HTTP_NOT_FOUND) {
-            throw e;
-          }
-          return false;
-        }
-      }
+    if (items == null) {
+      return true;
     }
-    return deleted;
+    List<T> toDelete = items.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    toDelete.forEach(this::updateApiVersion);
+    List<Boolean> deleted = new BulkOperation(config.getMaxConcurrentRequests())
+        .run(toDelete, item -> newInstance(itemContext(item)).deleteAsync(), true, "delete");
+    return !deleted.contains(Boolean.FALSE);
   }
 
   @Override
@@ -511,6 +614,10 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   @Override
   public R resource(T item) {
+    return newResource(itemContext(item));
+  }
+
+  private OperationContext itemContext(T item) {
     // set the name, namespace, and item - not all operations are looking at the item for the name
     // things like configMaps().load(...).watch(...) for example
     item = correctNamespace(item);
@@ -520,7 +627,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     if (Utils.isNotNullOrEmpty(itemNs)) {
       ctx = ctx.withNamespace(itemNs);
     }
-    return newResource(ctx);
+    return ctx;
   }
 
   void deleteThis() {
@@ -537,6 +644,40 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  /**
+   * The asynchronous form of {@link #delete()} for a single item or named resource
+   *
+   * @return a future for true if the resource was deleted, or false if it was not found
+   */
+  public CompletableFuture<Boolean> deleteAsync() {
+    CompletableFuture<Void> deleted;
+    try {
+      URL requestUrl;
+      if (item != null) {
+        updateApiVersion(item);
+        requestUrl = getResourceURLForWriteOperation(getResourceUrl(checkNamespace(item), checkName(item)));
+      } else if (name != null && !name.isEmpty()) {
+        requestUrl = getResourceURLForWriteOperation(getResourceUrl());
+      } else {
+        throw new IllegalStateException("An item or name is required to delete asynchronously");
+      }
+      deleted = handleDeleteAsync(requestUrl, gracePeriodSeconds, propagationPolicy, resourceVersion, cascading);
+    } catch (Exception e) {
+      deleted = failedFuture(e);
+    }
+    return launderAsync(deleted, "delete").handle((result, t) -> {
+      if (t == null) {
+        return true;
+      }
+      Throwable cause = unwrap(t);
+      if (cause instanceof KubernetesClientException
+          && ((KubernetesClientException) cause).getCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+        return false;
+      }
+      throw new CompletionException(cause);
+    });
+  }
+
   void deleteList() {
     delete(list().getItems());
   }
@@ -560,8 +701,22 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   @Override
   public Watch watch(ListOptions options, final Watcher<T> watcher) {
-    WatcherToggle<T> watcherToggle = new WatcherToggle<>(watcher, true);
     options = defaultListOptions(options, true);
+    WatchMultiplexer multiplexer = context.getWatchMultiplexer();
+    if (multiplexer != null) {
+      Watch shared = multiplexer.watch(this, options, watcher);
+      if (shared != null) {
+        return shared;
+      }
+    }
+    return watchDirectly(options, watcher);
+  }
+
+  /**
+   * Open a watch connection for this operation alone
+   */
+  Watch watchDirectly(ListOptions options, final Watcher<T> watcher) {
+    WatcherToggle<T> watcherToggle = new WatcherToggle<>(watcher, true);
     WatchConnectionManager<T, L> watch = null;
     try {
       watch = new WatchConnectionManager<>(
@@ -926,6 +1081,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     BaseOperation<T, L, R> result = newInstance(context);
     result.indexers = indexers;
     result.limit = this.limit;
+    result.informMetadataOnly = this.informMetadataOnly;
     return result;
   }
 
@@ -934,6 +1090,16 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     BaseOperation<T, L, R> result = newInstance(context);
     result.indexers = this.indexers;
     result.limit = limit;
+    result.informMetadataOnly = this.informMetadataOnly;
+    return result;
+  }
+
+  @Override
+  public BaseOperation<T, L, R> withMetadataOnly() {
+    BaseOperation<T, L, R> result = newInstance(context);
+    result.indexers = this.indexers;
+    result.limit = this.limit;
+    result.informMetadataOnly = true;
     return result;
   }
 
@@ -942,6 +1108,68 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return this.limit;
   }
 
+  public boolean isMetadataOnly() {
+    return context.isMetadataOnly();
+  }
+
+  private void restoreTypeMeta(KubernetesResourceList<T> list) {
+    if (isMetadataOnly() && list != null && list.getItems() != null) {
+      list.getItems().forEach(this::restoreTypeMeta);
+    }
+  }
+
+  /**
+   * Metadata-only responses are PartialObjectMetadata, which is decoded into the operation type but
+   * keeps the PartialObjectMetadata kind and apiVersion. This sets them back to those of the operation type.
+   *
+   * @param hasMetadata the metadata-only object
+   */
+  void restoreTypeMeta(HasMetadata hasMetadata) {
+    if (isMetadataOnly() && hasMetadata != null) {
+      setKind(hasMetadata, getResourceKind());
+      hasMetadata.setApiVersion(apiVersion);
+    }
+  }
+
+  /**
+   * HasMetadata has no kind setter, but the model classes, GenericKubernetesResource and CustomResource all do
+   */
+  private static void setKind(HasMetadata hasMetadata, String kind) {
+    Optional<Method> setter = KIND_SETTERS.computeIfAbsent(hasMetadata.getClass(), type -> {
+      try {
+        return Optional.of(type.getMethod("setKind", String.class));
+      } catch (NoSuchMethodException e) {
+        return Optional.empty();
+      }
+    });
+    if (setter.isPresent()) {
+      try {
+        setter.get().invoke(hasMetadata, kind);
+      } catch (ReflectiveOperationException e) {
+        throw KubernetesClientException.launderThrowable(e);
+      }
+    }
+  }
+
+  /**
+   * @return the kind of the resources of this operation
+   */
+  protected String getResourceKind() {
+    return getKind();
+  }
+
+  @Override
+  public void setMetrics(InformerMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return the metrics of the informer using this operation as its lister/watcher
+   */
+  InformerMetrics getMetrics() {
+    return metrics;
+  }
+
   @Override
   public SharedIndexInformer<T> inform(ResourceEventHandler<? super T> handler, long resync) {
     DefaultSharedIndexInformer<T, L> result = createInformer(resync);
@@ -966,8 +1194,10 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
 
     // use the local context / namespace but without a resourceVersion
+    BaseOperation<T, L, R> listerWatcher = newInstance(context.withResourceVersion(null)
+        .withMetadataOnly(this.informMetadataOnly)).withLimit(this.limit);
     DefaultSharedIndexInformer<T, L> informer = new DefaultSharedIndexInformer<>(getType(),
-        this.withResourceVersion(null).withLimit(this.limit), resync, Runnable::run); // just run the event notification in the websocket thread
+        listerWatcher, resync, Runnable::run); // just run the event notification in the websocket thread
     if (indexers != null) {
       informer.addIndexers(indexers);
     }
@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Applies an asynchronous operation to many items, with at most {@code parallelism} requests in flight.
+ * <p>
+ * No thread is held per request - the calling thread only waits for a permit to start the next one.
+ * <p>
+ * Items are processed in dependency order - Namespaces and CustomResourceDefinitions before everything else,
+ * or the reverse when deleting - and a later phase is not started if an earlier one fails.
+ * <p>
+ * Results are returned in item order. Failures are aggregated and thrown once all started operations complete.
+ */
+class BulkOperation {
+
+  static final List<String> DEPENDENCY_KINDS = Collections
+      .unmodifiableList(Arrays.asList("Namespace", "CustomResourceDefinition"));
+
+  private final int parallelism;
+
+  BulkOperation(int parallelism) {
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  /**
+   * Run the operation against each of the items
+   *
+   * @param items to operate on
+   * @param operation the asynchronous per item operation
+   * @param reverse true if dependencies should be processed last, such as for delete
+   * @param operationType for the aggregated error message
+   * @return the results in item order
+   */
+  <I extends HasMetadata, R> List<R> run(List<I> items, Function<? super I, CompletableFuture<R>> operation, boolean reverse,
+      String operationType) {
+    List<CompletableFuture<R>> futures = new ArrayList<>(Collections.nCopies(items.size(), null));
+    TreeMap<Integer, List<Integer>> phases = new TreeMap<>();
+    for (int i = 0; i < items.size(); i++) {
+      phases.computeIfAbsent(phase(items.get(i), reverse), k -> new ArrayList<>()).add(i);
+    }
+
+    List<Throwable> failures = new ArrayList<>();
+    Semaphore permits = new Semaphore(parallelism);
+    for (List<Integer> phase : phases.values()) {
+      List<CompletableFuture<R>> phaseFutures = new ArrayList<>(phase.size());
+      for (Integer index : phase) {
+        acquire(permits);
+        CompletableFuture<R> future;
+        try {
+          future = operation.apply(items.get(index));
+        } catch (RuntimeException e) {
+          future = new CompletableFuture<>();
+          future.completeExceptionally(e);
+        }
+        future.whenComplete((r, t) -> permits.release());
+        futures.set(index, future);
+        phaseFutures.add(future);
+      }
+      for (CompletableFuture<R> future : phaseFutures) {
+        try {
+          future.join();
+        } catch (CompletionException e) {
+          failures.add(e.getCause() != null ? e.getCause() : e);
+        }
+      }
+      if (!failures.isEmpty()) {
+        break;
+      }
+    }
+
+    if (!failures.isEmpty()) {
+      throw aggregate(failures, items.size(), operationType);
+    }
+
+    List<R> results = new ArrayList<>(items.size());
+    for (CompletableFuture<R> future : futures) {
+      results.add(future.join());
+    }
+    return results;
+  }
+
+  static int phase(HasMetadata item, boolean reverse) {
+    int phase = DEPENDENCY_KINDS.contains(item.getKind()) ? 0 : 1;
+    return reverse ? -phase : phase;
+  }
+
+  static RuntimeException aggregate(List<Throwable> failures, int total, String operationType) {
+    if (failures.size() == 1) {
+      return KubernetesClientException.launderThrowable(failures.get(0));
+    }
+    KubernetesClientException result = new KubernetesClientException(
+        String.format("%s of %s %s operations failed", failures.size(), total, operationType), failures.get(0));
+    failures.stream().skip(1).forEach(result::addSuppressed);
+    return result;
+  }
+
+  private static void acquire(Semaphore permits) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+}
@@ -0,0 +1,286 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.http.WebSocket;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * An {@link InputStream} over the {@link ByteBuffer}s received for an exec stream.
+ * <br>
+ * Unlike a {@link java.io.PipedInputStream} the received buffers are queued as they are, and are copied
+ * in bulk only when read. The writer and reader may be any threads.
+ * <br>
+ * Once more than the buffer size is waiting to be read, {@link #offer(ByteBuffer, WebSocket)} suspends the
+ * websocket until the reader catches up, which applies back pressure to the sender rather than buffering
+ * without limit. A writer that is not a websocket may use {@link #consume(ByteBuffer)}, which blocks instead.
+ * <br>
+ * It may also be read as a {@link ReadableByteChannel}, which copies the received buffers directly into
+ * the destination buffer.
+ */
+public class ExecWatchInputStream extends InputStream implements ReadableByteChannel {
+
+  static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+  private final int bufferSize;
+  private long queued;
+  private boolean complete;
+  private boolean closed;
+  private Throwable failure;
+  // the websocket to resume once the reader catches up
+  private WebSocket suspended;
+
+  public ExecWatchInputStream() {
+    this(null);
+  }
+
+  /**
+   * @param bufferSize the number of unread bytes above which {@link #consume(ByteBuffer)} blocks,
+   *        or null for the default
+   */
+  public ExecWatchInputStream(Integer bufferSize) {
+    this.bufferSize = bufferSize == null ? DEFAULT_BUFFER_SIZE : bufferSize;
+  }
+
+  /**
+   * Add the remaining bytes of the buffer to the stream, waiting if there's too much that has not yet been read.
+   * <br>
+   * The buffer is retained, so the caller should not modify it afterwards. It is discarded if the
+   * stream is already complete or closed.
+   *
+   * @param buffer the bytes to add
+   * @throws InterruptedIOException if interrupted while waiting
+   */
+  public synchronized void consume(ByteBuffer buffer) throws InterruptedIOException {
+    if (!buffer.hasRemaining()) {
+      return;
+    }
+    // always accept something, so that a single large buffer can't block forever
+    while (!complete && !closed && queued > 0 && queued + buffer.remaining() > bufferSize) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException();
+      }
+    }
+    if (complete || closed) {
+      return;
+    }
+    buffers.add(buffer);
+    queued += buffer.remaining();
+    notifyAll();
+  }
+
+  /**
+   * Add the remaining bytes of the buffer to the stream without waiting. If there's then too much that has not
+   * yet been read, the websocket is suspended until the reader catches up.
+   * <br>
+   * The buffer is retained, so the caller should not modify it afterwards. It is discarded if the
+   * stream is already complete or closed.
+   *
+   * @param buffer the bytes to add
+   * @param webSocket the websocket the bytes were received from
+   */
+  public synchronized void offer(ByteBuffer buffer, WebSocket webSocket) {
+    if (!buffer.hasRemaining() || complete || closed) {
+      return;
+    }
+    buffers.add(buffer);
+    queued += buffer.remaining();
+    notifyAll();
+    if (queued > bufferSize && suspended == null) {
+      // suspended while holding the lock, so that the reader can't resume it first
+      suspended = webSocket;
+      webSocket.suspend();
+    }
+  }
+
+  /**
+   * Resume the websocket if the reader has caught up, or if nothing more will be read.
+   * This is called without holding the lock, as the websocket may deliver the next message inline.
+   */
+  private void resumeIfCaughtUp() {
+    WebSocket toResume;
+    synchronized (this) {
+      if (suspended == null || (queued > bufferSize && !complete && !closed)) {
+        return;
+      }
+      toResume = suspended;
+      suspended = null;
+    }
+    toResume.resume();
+  }
+
+  /**
+   * Mark the end of the stream. The reader will see the end of the stream once all of the queued
+   * bytes are read.
+   *
+   * @param t the failure that ended the stream, or null. If non-null the reader will get
+   *        an {@link IOException} rather than the end of the stream
+   */
+  public void onExit(Throwable t) {
+    synchronized (this) {
+      if (complete) {
+        return;
+      }
+      this.complete = true;
+      this.failure = t;
+      notifyAll();
+    }
+    resumeIfCaughtUp();
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int read = readBytes(b, off, len);
+    resumeIfCaughtUp();
+    return read;
+  }
+
+  private synchronized int readBytes(byte[] b, int off, int len) throws IOException {
+    if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (len == 0) {
+      return 0;
+    }
+    if (!awaitBytes()) {
+      return -1;
+    }
+    int read = 0;
+    // copy whatever is already available, but don't wait for more
+    while (read < len && !buffers.isEmpty()) {
+      ByteBuffer buffer = buffers.peek();
+      int count = Math.min(len - read, buffer.remaining());
+      buffer.get(b, off + read, count);
+      read += count;
+      if (!buffer.hasRemaining()) {
+        buffers.poll();
+      }
+    }
+    queued -= read;
+    notifyAll();
+    return read;
+  }
+
+  @Override
+  public int read(ByteBuffer dst) throws IOException {
+    int read = readBuffer(dst);
+    resumeIfCaughtUp();
+    return read;
+  }
+
+  private synchronized int readBuffer(ByteBuffer dst) throws IOException {
+    if (!dst.hasRemaining()) {
+      return 0;
+    }
+    if (!awaitBytes()) {
+      return -1;
+    }
+    int read = 0;
+    while (dst.hasRemaining() && !buffers.isEmpty()) {
+      ByteBuffer buffer = buffers.peek();
+      int count = Math.min(dst.remaining(), buffer.remaining());
+      ByteBuffer source = buffer.duplicate();
+      source.limit(source.position() + count);
+      dst.put(source);
+      buffer.position(buffer.position() + count);
+      read += count;
+      if (!buffer.hasRemaining()) {
+        buffers.poll();
+      }
+    }
+    queued -= read;
+    notifyAll();
+    return read;
+  }
+
+  @Override
+  public int read() throws IOException {
+    int result = readByte();
+    resumeIfCaughtUp();
+    return result;
+  }
+
+  private synchronized int readByte() throws IOException {
+    if (!awaitBytes()) {
+      return -1;
+    }
+    ByteBuffer buffer = buffers.peek();
+    int result = buffer.get() & 0xff;
+    if (!buffer.hasRemaining()) {
+      buffers.poll();
+    }
+    queued--;
+    notifyAll();
+    return result;
+  }
+
+  /**
+   * @return true if there are bytes to read, or false if the end of the stream has been reached
+   */
+  private boolean awaitBytes() throws IOException {
+    while (buffers.isEmpty()) {
+      if (closed) {
+        throw new IOException("Stream closed");
+      }
+      if (complete) {
+        if (failure != null) {
+          throw new IOException("The exec stream failed", failure);
+        }
+        return false;
+      }
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException();
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized int available() {
+    return (int) Math.min(queued, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public synchronized boolean isOpen() {
+    return !closed;
+  }
+
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+      buffers.clear();
+      queued = 0;
+      notifyAll();
+    }
+    resumeIfCaughtUp();
+  }
+
+}
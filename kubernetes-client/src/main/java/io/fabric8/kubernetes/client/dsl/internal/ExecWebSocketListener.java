@@ -34,12 +34,15 @@ import org.slf4j.LoggerFactory;
 import java.io.*;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -92,10 +95,16 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
     private final OutputStream err;
     private final OutputStream errChannel;
 
-    private final PipedOutputStream input;
-    private final PipedInputStream output;
-    private final PipedInputStream error;
-    private final PipedInputStream errorChannel;
+    private final PipedOutputStream inputPipe;
+    private final PipedInputStream outputPipe;
+    private final PipedInputStream errorPipe;
+    private final PipedInputStream errorChannelPipe;
+
+    private final OutputStream input;
+    private final InputStream output;
+    private final InputStream error;
+    private final InputStream errorChannel;
+    private final int bufferSize;
 
     private final AtomicReference<WebSocket> webSocketRef = new AtomicReference<>();
     private final ExecutorService executorService = Executors.newSingleThreadExecutor();
@@ -108,17 +117,24 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
 
     private ObjectMapper objectMapper;
 
-    public ExecWebSocketListener(InputStream in, OutputStream out, OutputStream err, OutputStream errChannel, PipedOutputStream inputPipe, PipedInputStream outputPipe, PipedInputStream errorPipe, PipedInputStream errorChannelPipe, ExecListener listener, Integer bufferSize) {
-        this.listener = listener;
-        this.in = inputStreamOrPipe(in, inputPipe, toClose, bufferSize);
-        this.out = outputStreamOrPipe(out, outputPipe, toClose);
-        this.err = outputStreamOrPipe(err, errorPipe, toClose);
-        this.errChannel = outputStreamOrPipe(errChannel, errorChannelPipe, toClose);
-
-        this.input = inputPipe;
-        this.output = outputPipe;
-        this.error = errorPipe;
-        this.errorChannel = errorChannelPipe;
+    public ExecWebSocketListener(PodOperationContext context) {
+        this.listener = context.getExecListener();
+        Integer size = context.getBufferSize();
+        this.bufferSize = size == null ? ExecWatchInputStream.DEFAULT_BUFFER_SIZE : size;
+        this.in = inputStreamOrPipe(context.getIn(), context.getInPipe(), toClose, size);
+        this.out = outputStreamOrPipe(context.getOut(), context.getOutPipe(), toClose);
+        this.err = outputStreamOrPipe(context.getErr(), context.getErrPipe(), toClose);
+        this.errChannel = outputStreamOrPipe(context.getErrChannel(), context.getErrChannelPipe(), toClose);
+
+        this.inputPipe = context.getInPipe();
+        this.outputPipe = context.getOutPipe();
+        this.errorPipe = context.getErrPipe();
+        this.errorChannelPipe = context.getErrChannelPipe();
+
+        this.input = context.isRedirectingIn() ? new WebSocketOutputStream() : inputPipe;
+        this.output = context.isRedirectingOut() ? new ExecWatchInputStream(size) : outputPipe;
+        this.error = context.isRedirectingErr() ? new ExecWatchInputStream(size) : errorPipe;
+        this.errorChannel = context.isRedirectingErrChannel() ? new ExecWatchInputStream(size) : errorChannelPipe;
         this.objectMapper = new ObjectMapper();
     }
 
@@ -137,13 +153,22 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
    * Performs the cleanup tasks:
    * 1. cancels the InputStream pumper
    * 2. closes all internally managed closeables (piped streams).
+   * 3. ends the redirected streams, which may still be read
    *
    * The order of these tasks can't change or its likely that the pumper will throw errors,
    * if the stream it uses closes before the pumper it self.
    */
-  private void cleanUpOnce() {
+  private void cleanUpOnce(Throwable t) {
      executorService.shutdownNow();
      closeQuietly(toClose);
+     if (input instanceof WebSocketOutputStream) {
+       ((WebSocketOutputStream) input).onExit();
+     }
+     for (InputStream stream : new InputStream[] {output, error, errorChannel}) {
+       if (stream instanceof ExecWatchInputStream) {
+         ((ExecWatchInputStream) stream).onExit(t);
+       }
+     }
   }
 
     private void closeWebSocketOnce(int code, String reason) {
@@ -164,17 +189,17 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
     @Override
     public void onOpen(WebSocket webSocket) {
         try {
-            if (in instanceof PipedInputStream && input != null) {
-                input.connect((PipedInputStream) in);
+            if (in instanceof PipedInputStream && inputPipe != null) {
+                inputPipe.connect((PipedInputStream) in);
             }
-            if (out instanceof PipedOutputStream && output != null) {
-                output.connect((PipedOutputStream) out);
+            if (out instanceof PipedOutputStream && outputPipe != null) {
+                outputPipe.connect((PipedOutputStream) out);
             }
-            if (err instanceof PipedOutputStream && error != null) {
-                error.connect((PipedOutputStream) err);
+            if (err instanceof PipedOutputStream && errorPipe != null) {
+                errorPipe.connect((PipedOutputStream) err);
             }
-            if (errChannel instanceof PipedOutputStream && errorChannel != null) {
-                errorChannel.connect((PipedOutputStream) errChannel);
+            if (errChannel instanceof PipedOutputStream && errorChannelPipe != null) {
+                errorChannelPipe.connect((PipedOutputStream) errChannel);
             }
 
             webSocketRef.set(webSocket);
@@ -211,7 +236,7 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
         Status status = OperationSupport.createStatus(response);
         status.setMessage(t.getMessage());
         LOGGER.error("Exec Failure", t);
-        cleanUpOnce();
+        cleanUpOnce(t);
       } finally {
         if (listener != null) {
           ExecListener.Response execResponse = null;
@@ -232,14 +257,14 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
             if (byteString.remaining() > 0) {
                 switch (streamID) {
                     case 1:
-                        writeAndFlush(out, byteString);
+                        writeAndFlush(webSocket, out, output, byteString);
                         break;
                     case 2:
-                        writeAndFlush(err, byteString);
+                        writeAndFlush(webSocket, err, error, byteString);
                         break;
                     case 3:
                         handleExitStatus(bytes);
-                        writeAndFlush(errChannel, byteString);
+                        writeAndFlush(webSocket, errChannel, errorChannel, byteString);
                         // once the process is done, we can proactively close
                         this.close(); 
                         break;
@@ -270,8 +295,12 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
     }
   }
 
-  private void writeAndFlush(OutputStream stream, ByteBuffer byteString) throws IOException {
-    if (stream != null) {
+  private void writeAndFlush(WebSocket webSocket, OutputStream stream, InputStream redirect, ByteBuffer byteString)
+      throws IOException {
+    if (redirect instanceof ExecWatchInputStream) {
+      // hand off the buffer as is - this suspends the websocket, rather than blocking, until the reader catches up
+      ((ExecWatchInputStream) redirect).offer(byteString, webSocket);
+    } else if (stream != null) {
       Channels.newChannel(stream).write(byteString);
       if (stream instanceof PipedOutputStream) {
         stream.flush(); // immediately wake up the reader
@@ -291,7 +320,7 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
        }
        LOGGER.debug("Exec Web Socket: On Close with code:[{}], due to: [{}]", code, reason);
         try {
-            cleanUpOnce();
+            cleanUpOnce(null);
         } finally {
             if (listener != null) {
               listener.onClose(code, reason);
@@ -351,6 +380,91 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
        send(bytes, offset, length, (byte)0);
     }
 
+    /**
+     * Sends what is written directly to the websocket, rather than through a pipe and pumping thread.
+     * <br>
+     * Writes wait until the websocket has sent enough of its queue to be below the buffer size.
+     */
+    private final class WebSocketOutputStream extends OutputStream implements WritableByteChannel {
+
+        private final CompletableFuture<Void> exited = new CompletableFuture<>();
+        private volatile boolean inputClosed;
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            WebSocket ws = openWebSocket();
+            if (len > 0) {
+                byte[] toSend = new byte[len + 1];
+                System.arraycopy(b, off, toSend, 1, len);
+                ws.send(ByteBuffer.wrap(toSend));
+            }
+            awaitQueue(ws);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            WebSocket ws = openWebSocket();
+            int length = src.remaining();
+            if (length > 0) {
+                ByteBuffer toSend = ByteBuffer.allocate(length + 1);
+                toSend.put((byte) 0);
+                toSend.put(src);
+                toSend.flip();
+                ws.send(toSend);
+            }
+            awaitQueue(ws);
+            return length;
+        }
+
+        private WebSocket openWebSocket() throws IOException {
+            if (!isOpen()) {
+                throw new IOException("Stream closed");
+            }
+            WebSocket ws = webSocketRef.get();
+            if (ws == null) {
+                throw new IOException("WebSocket is not open");
+            }
+            return ws;
+        }
+
+        private void awaitQueue(WebSocket ws) throws IOException {
+            CompletableFuture<Void> sent = ws.whenQueueSizeAtMost(bufferSize);
+            try {
+                CompletableFuture.anyOf(sent, exited).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            } finally {
+                sent.cancel(false);
+            }
+        }
+
+        /**
+         * Stop waiting for the websocket queue, which will not be sent
+         */
+        void onExit() {
+            exited.complete(null);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !inputClosed && !closed.get();
+        }
+
+        @Override
+        public void close() {
+            inputClosed = true;
+        }
+
+    }
+
 
     private static InputStream inputStreamOrPipe(InputStream stream, PipedOutputStream out, Set<Closeable> toClose, Integer bufferSize) {
         if (stream != null) {
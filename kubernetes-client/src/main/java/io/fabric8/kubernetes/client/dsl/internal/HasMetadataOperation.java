@@ -31,6 +31,7 @@ import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -256,6 +257,19 @@ public class HasMetadataOperation<T extends HasMetadata, L extends KubernetesRes
     }
   }
 
+  /**
+   * The asynchronous form of {@link #patch(PatchContext, String)}
+   */
+  public CompletableFuture<T> patchAsync(PatchContext patchContext, String patch) {
+    return launderAsync(getMandatoryAsync().thenCompose(got -> {
+      try {
+        return handlePatchAsync(patchContext, got, convertToJson(patch), getType(), false);
+      } catch (IOException e) {
+        return failedFuture(e);
+      }
+    }), PATCH_OPERATION);
+  }
+
   @Override
   public HasMetadataOperation<T, L, R> newInstance(OperationContext context) {
     return new HasMetadataOperation<>(context, type, listType);
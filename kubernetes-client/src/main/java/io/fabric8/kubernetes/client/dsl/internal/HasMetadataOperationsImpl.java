@@ -67,6 +67,11 @@ public class HasMetadataOperationsImpl<T extends HasMetadata, L extends Kubernet
     return context.getKind() != null ? context.getKind() : getKind();
   }
 
+  @Override
+  protected String getResourceKind() {
+    return kind(rdc);
+  }
+
   @Override
   public boolean isResourceNamespaced() {
     return rdc.isNamespaceScoped();
@@ -42,6 +42,9 @@ import io.fabric8.kubernetes.client.dsl.ParameterNamespaceListVisitFromServerGet
 import io.fabric8.kubernetes.client.dsl.Readiable;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.Waitable;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -49,18 +52,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -88,6 +94,12 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
   protected static final String EXPRESSION = "expression";
   protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+  /**
+   * Above this many items of the same kind in the same namespace, a single informer is used for all of them
+   * rather than one scoped to each name
+   */
+  static final int NAMESPACE_INFORMER_THRESHOLD = 10;
+
   private final NamespaceVisitOperationContext namespaceVisitOperationContext;
   private OperationContext context;
 
@@ -110,7 +122,7 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
     Object item = context.getItem();
 
     if (item instanceof InputStream) {
-      item = Serialization.unmarshal((InputStream) item, Collections.emptyMap());
+      item = unmarshalDocuments((InputStream) item, Collections.emptyMap());
       context = context.withItem(item); // late realization of the inputstream
     }
 
@@ -140,50 +152,192 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
     return new NamespaceableResourceAdapter<>(meta, handler.operation(ctx.getClient(), null).newInstance(ctx));
   }
 
+  /**
+   * The named operation that {@link #getResource(HasMetadata)} would use
+   */
+  BaseOperation<HasMetadata, ?, ?> getOperation(HasMetadata meta) {
+    OperationContext ctx = context.withItem(null);
+    ResourceHandler<HasMetadata, ?> handler = context.getHandler(meta);
+    return (BaseOperation<HasMetadata, ?, ?>) handler.operation(ctx.getClient(), null).newInstance(ctx).resource(meta);
+  }
+
   @Override
   public List<HasMetadata> waitUntilCondition(Predicate<HasMetadata> condition,
       long amount,
       TimeUnit timeUnit) {
-    List<? extends Resource<HasMetadata>> operations = getResources();
-    if (operations.isEmpty()) {
+    List<HasMetadata> items = getItems();
+    if (items.isEmpty()) {
       return Collections.emptyList();
     }
-    // this strategy is very costly in terms of threads - by not exposing the underlying futures
-    // we have to create a thread for each item that mostly waits
-    final ExecutorService executor = Executors.newFixedThreadPool(operations.size(), Utils.daemonThreadFactory(this));
+    final long deadline = System.nanoTime() + timeUnit.toNanos(amount);
+    // the items are grouped by kind and namespace, so that a large group can share a single informer
+    final Map<String, Map<String, CompletableFuture<HasMetadata>>> groups = new LinkedHashMap<>();
+    final Map<String, BaseOperation<HasMetadata, ?, ?>> groupOperations = new LinkedHashMap<>();
+    final Map<String, Map<String, String>> groupLabels = new LinkedHashMap<>();
+    final List<CompletableFuture<HasMetadata>> futures = new ArrayList<>(items.size());
+    for (HasMetadata meta : items) {
+      BaseOperation<HasMetadata, ?, ?> operation = getOperation(meta);
+      String key = meta.getApiVersion() + "/" + meta.getKind() + "/" + operation.getNamespace();
+      CompletableFuture<HasMetadata> future = groups.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+          .computeIfAbsent(operation.getName(), k -> new CompletableFuture<>());
+      groupOperations.putIfAbsent(key, operation);
+      Map<String, String> labels = Utils.getNonNullOrElse(meta.getMetadata().getLabels(), Collections.emptyMap());
+      groupLabels.computeIfAbsent(key, k -> new LinkedHashMap<>(labels)).entrySet().retainAll(labels.entrySet());
+      futures.add(future);
+    }
+
+    final List<SharedIndexInformer<HasMetadata>> informers = new ArrayList<>(groups.size());
     try {
-      List<HasMetadata> items = operations.stream().map(Resource::get).collect(Collectors.toList());
-      final List<CompletableFuture<HasMetadata>> futures = new ArrayList<>(items.size());
-      for (final Resource<HasMetadata> impl : operations) {
-        futures.add(CompletableFuture.supplyAsync(() -> impl.waitUntilCondition(condition, amount, timeUnit)));
+      // the informers start asynchronously, so their initial lists and watches count against the deadline
+      groups.forEach((key, pending) -> {
+        BaseOperation<HasMetadata, ?, ?> operation = groupOperations.get(key);
+        OperationContext groupContext = operation.context.withName(null).withItem(null);
+        if (pending.size() > NAMESPACE_INFORMER_THRESHOLD) {
+          // one watch for the whole group, narrowed by the labels the items have in common if there are any
+          Map<String, String> labels = groupLabels.get(key);
+          if (!labels.isEmpty()) {
+            groupContext = groupContext.withLabels(labels);
+          }
+          informers.add(inform(operation.newInstance(groupContext), pending, condition));
+        } else {
+          // a field selector can't match a set of names, so each item gets its own metadata.name scoped watch
+          for (Map.Entry<String, CompletableFuture<HasMetadata>> entry : pending.entrySet()) {
+            Map<String, CompletableFuture<HasMetadata>> single = new ConcurrentHashMap<>();
+            single.put(entry.getKey(), entry.getValue());
+            informers.add(inform(operation.newInstance(groupContext.withName(entry.getKey())), single, condition));
+          }
+        }
+      });
+
+      // per item failures are reported below, so only wait for completion here
+      CompletableFuture<Void> all = CompletableFuture.allOf(futures.stream()
+          .map(f -> f.handle((r, t) -> null))
+          .toArray(CompletableFuture[]::new));
+      if (amount < 0) {
+        Utils.waitUntilReady(all, amount, timeUnit);
+      } else {
+        Utils.waitUntilReady(all, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
       }
+    } finally {
+      informers.forEach(SharedIndexInformer::stop);
+    }
 
-      final List<HasMetadata> results = new ArrayList<>();
-      final List<HasMetadata> itemsWithConditionNotMatched = new ArrayList<>();
+    final List<HasMetadata> results = new ArrayList<>();
+    final List<HasMetadata> itemsWithConditionNotMatched = new ArrayList<>();
 
-      for (int i = 0; i < items.size(); i++) {
-        final HasMetadata meta = items.get(i);
-        try {
-          CompletableFuture<HasMetadata> future = futures.get(i);
-          // just get each result as the timeout is enforced below
-          results.add(future.get());
-        } catch (ExecutionException e) {
-          itemsWithConditionNotMatched.add(meta);
-          logAsNotReady(e.getCause(), meta);
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          throw KubernetesClientException.launderThrowable(e);
+    for (int i = 0; i < items.size(); i++) {
+      final HasMetadata meta = items.get(i);
+      CompletableFuture<HasMetadata> future = futures.get(i);
+      if (future.isDone() && !future.isCompletedExceptionally()) {
+        results.add(future.join());
+        continue;
+      }
+      itemsWithConditionNotMatched.add(meta);
+      try {
+        future.getNow(null);
+        logAsNotReady(new KubernetesClientTimeoutException(meta, amount, timeUnit), meta);
+      } catch (CompletionException | CancellationException e) {
+        logAsNotReady(e.getCause() != null ? e.getCause() : e, meta);
+      }
+    }
+
+    if (!itemsWithConditionNotMatched.isEmpty()) {
+      throw new KubernetesClientTimeoutException(itemsWithConditionNotMatched, amount, timeUnit);
+    }
+
+    return results;
+  }
+
+  /**
+   * Start an informer, without waiting for it, that completes the futures for all of the named items.
+   * The items are expected to be of the same kind in the same namespace, and to be selected by the operation.
+   * The operation may select other items as well, but the handler only tests the pending names.
+   */
+  private static SharedIndexInformer<HasMetadata> inform(BaseOperation<HasMetadata, ?, ?> operation,
+      Map<String, CompletableFuture<HasMetadata>> pending, Predicate<HasMetadata> condition) {
+    String namespace = operation.isResourceNamespaced() ? operation.getNamespace() : null;
+    SharedIndexInformer<HasMetadata> informer = operation.runnableInformer(0);
+    GroupConditionHandler handler = new GroupConditionHandler(informer, namespace, pending, condition);
+    informer.addEventHandler(handler);
+    informer.start().whenComplete((v, t) -> {
+      // even if the watch could not be started, the initial list may be enough
+      handler.test(informer.lastSyncResourceVersion() != null);
+      if (t != null) {
+        Throwable failure = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        for (CompletableFuture<HasMetadata> future : pending.values()) {
+          future.completeExceptionally(failure);
         }
       }
+    });
+    return informer;
+  }
+
+  /**
+   * Evaluates the condition for the pending items against the informer cache, completing
+   * their futures and stopping the informer once there are none left.
+   */
+  private static class GroupConditionHandler implements ResourceEventHandler<HasMetadata> {
+
+    private final SharedIndexInformer<HasMetadata> informer;
+    private final String namespace;
+    private final Map<String, CompletableFuture<HasMetadata>> pending;
+    private final Predicate<HasMetadata> condition;
+
+    GroupConditionHandler(SharedIndexInformer<HasMetadata> informer, String namespace,
+        Map<String, CompletableFuture<HasMetadata>> pending, Predicate<HasMetadata> condition) {
+      this.informer = informer;
+      this.namespace = namespace;
+      this.pending = pending;
+      this.condition = condition;
+    }
 
-      if (!itemsWithConditionNotMatched.isEmpty()) {
-        throw new KubernetesClientTimeoutException(itemsWithConditionNotMatched, amount, timeUnit);
+    /**
+     * @param listed true if the initial list is complete. Until then an item that is not in
+     *        the cache may simply not have been added yet, so it is not tested as null
+     */
+    synchronized void test(boolean listed) {
+      pending.entrySet().removeIf(entry -> {
+        HasMetadata current = informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, entry.getKey()));
+        if (current == null && !listed) {
+          return false;
+        }
+        try {
+          if (condition.test(current)) {
+            entry.getValue().complete(current);
+            return true;
+          }
+        } catch (Exception e) {
+          entry.getValue().completeExceptionally(e);
+          return true;
+        }
+        return false;
+      });
+      if (pending.isEmpty()) {
+        informer.stop();
       }
+    }
 
-      return results;
-    } finally {
-      executor.shutdownNow();
+    @Override
+    public void onAdd(HasMetadata obj) {
+      test(informer.lastSyncResourceVersion() != null);
     }
+
+    @Override
+    public void onUpdate(HasMetadata oldObj, HasMetadata newObj) {
+      test(informer.lastSyncResourceVersion() != null);
+    }
+
+    @Override
+    public void onDelete(HasMetadata obj, boolean deletedFinalStateUnknown) {
+      test(informer.lastSyncResourceVersion() != null);
+    }
+
+    @Override
+    public void onNothing() {
+      // only called once a list is complete
+      test(true);
+    }
+
   }
 
   private static void logAsNotReady(Throwable t, HasMetadata meta) {
@@ -201,7 +355,7 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
   @Override
   public NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> withParameters(
       Map<String, String> parameters) {
-    Object item = Serialization.unmarshal((InputStream) context.getItem(), parameters);
+    Object item = unmarshalDocuments((InputStream) context.getItem(), parameters);
     return newInstance(context.withItem(item), namespaceVisitOperationContext);
   }
 
@@ -217,15 +371,15 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public List<HasMetadata> createOrReplace() {
-    List<? extends Resource<HasMetadata>> operations = getResources();
+    List<HasMetadata> items = getItems();
 
     if (!namespaceVisitOperationContext.isDeletingExisting()) {
-      return operations.stream()
-          .map(Resource::createOrReplace)
+      return bulkOperation().run(items, this::createOrReplaceAsync, false, "createOrReplace")
+          .stream()
           .filter(Objects::nonNull)
           .collect(Collectors.toList());
     }
-    operations.stream().forEach(Resource::delete);
+    bulkOperation().run(items, meta -> getOperation(meta).deleteAsync(), true, "delete");
     waitUntilCondition(Objects::isNull, 30, TimeUnit.SECONDS);
     return create();
   }
@@ -237,12 +391,8 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public boolean delete() {
-    for (Resource<HasMetadata> impl : getResources()) {
-      if (!impl.delete()) {
-        return false;
-      }
-    }
-    return true;
+    return !bulkOperation().run(getItems(), meta -> getOperation(meta).deleteAsync(), true, "delete")
+        .contains(Boolean.FALSE);
   }
 
   @Override
@@ -298,6 +448,14 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
     return Readiness.getInstance();
   }
 
+  /**
+   * Parses the documents one at a time, so that only the resources, rather than copies of the input, are held.
+   * The input is left open for the caller.
+   */
+  private static List<HasMetadata> unmarshalDocuments(InputStream is, Map<String, String> parameters) {
+    return Serialization.unmarshalDocuments(is, parameters).collect(Collectors.toList());
+  }
+
   protected List<HasMetadata> asHasMetadata(Object item) {
     List<HasMetadata> result = new ArrayList<>();
     if (item instanceof KubernetesList) {
@@ -310,8 +468,9 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
       return asHasMetadata(Serialization.unmarshal((String) item));
     } else if (item instanceof Collection) {
       for (Object o : (Collection) item) {
+        // each document is converted on its own, so that a subclass may expand it, e.g. a template
         if (o instanceof HasMetadata) {
-          result.add((HasMetadata) o);
+          result.addAll(asHasMetadata(o));
         }
       }
     } else if (item != null) {
@@ -341,7 +500,47 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public List<HasMetadata> create() {
-    return getResources().stream().map(Resource::create).collect(Collectors.toList());
+    return bulkOperation().run(getItems(), meta -> {
+      BaseOperation<HasMetadata, ?, ?> operation = getOperation(meta);
+      return operation.createAsync(operation.getItem());
+    }, false, "create");
+  }
+
+  /**
+   * Try to create the item without holding a thread. Only if it already exists, or the server fails, is the
+   * rest of {@link NamespaceableResource#createOrReplace()} done as a blocking call on the common executor.
+   */
+  CompletableFuture<HasMetadata> createOrReplaceAsync(HasMetadata meta) {
+    BaseOperation<HasMetadata, ?, ?> operation = getOperation(meta);
+    HasMetadata item = Serialization.clone(operation.getItem());
+    item.getMetadata().setResourceVersion(null);
+    return operation.createAsync(item).handle((created, t) -> {
+      if (t == null) {
+        return CompletableFuture.completedFuture(created);
+      }
+      Throwable cause = BaseOperation.unwrap(t);
+      if (!(cause instanceof KubernetesClientException)) {
+        return OperationSupport.<HasMetadata> failedFuture(cause);
+      }
+      int code = ((KubernetesClientException) cause).getCode();
+      if (code == HttpURLConnection.HTTP_CONFLICT) {
+        // as createOrReplace would, replace using the original resourceVersion
+        return CompletableFuture.supplyAsync(() -> operation.replace(Serialization.clone(operation.getItem())),
+            Utils.getCommonExecutorSerive());
+      }
+      if (code > 499) {
+        // createOrReplace retries on server errors
+        return CompletableFuture.supplyAsync(() -> operation.createOrReplace(), Utils.getCommonExecutorSerive());
+      }
+      return OperationSupport.<HasMetadata> failedFuture(cause);
+    }).thenCompose(Function.identity());
+  }
+
+  /**
+   * Write operations on the items are issued concurrently, bounded by the maximum number of concurrent requests
+   */
+  BulkOperation bulkOperation() {
+    return new BulkOperation(context.getConfig().getMaxConcurrentRequests());
   }
 
 }
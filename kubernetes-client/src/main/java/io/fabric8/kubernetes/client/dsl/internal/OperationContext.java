@@ -21,6 +21,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.BaseClient;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.RequestScheduler;
 import io.fabric8.kubernetes.client.ResourceHandler;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
@@ -60,6 +61,8 @@ public class OperationContext {
   protected Map<String, String> fields;
   protected Map<String, String[]> fieldsNot;
   protected String selectorAsString;
+  // set on the lister/watcher of a metadata-only informer
+  protected boolean metadataOnly;
 
   protected Client client;
 
@@ -71,6 +74,7 @@ public class OperationContext {
         other.cascading, other.item, other.labels, other.labelsNot, other.labelsIn, other.labelsNotIn, other.fields,
         other.fieldsNot, other.resourceVersion, other.reloadingFromServer, other.gracePeriodSeconds, other.propagationPolicy,
         other.dryRun, other.selectorAsString, other.defaultNamespace);
+    this.metadataOnly = other.metadataOnly;
   }
 
   public OperationContext(Client client, String plural, String namespace, String name,
@@ -162,6 +166,23 @@ public class OperationContext {
     return client.getConfiguration();
   }
 
+  public RequestScheduler getRequestScheduler() {
+    if (client instanceof BaseClient) {
+      RequestScheduler scheduler = ((BaseClient) client).getRequestScheduler();
+      if (scheduler != null) {
+        return scheduler;
+      }
+    }
+    return RequestScheduler.UNLIMITED;
+  }
+
+  public WatchMultiplexer getWatchMultiplexer() {
+    if (client instanceof BaseClient) {
+      return ((BaseClient) client).getWatchMultiplexer();
+    }
+    return null;
+  }
+
   public String getPlural() {
     return plural;
   }
@@ -234,6 +255,10 @@ public class OperationContext {
     return propagationPolicy;
   }
 
+  public boolean isMetadataOnly() {
+    return metadataOnly;
+  }
+
   public boolean getDryRun() {
     return dryRun;
   }
@@ -471,6 +496,15 @@ public class OperationContext {
     return context;
   }
 
+  public OperationContext withMetadataOnly(boolean metadataOnly) {
+    if (this.metadataOnly == metadataOnly) {
+      return this;
+    }
+    final OperationContext context = new OperationContext(this);
+    context.metadataOnly = metadataOnly;
+    return context;
+  }
+
   public OperationContext withLabelSelector(String selectorAsString) {
     if (Objects.equals(this.selectorAsString, selectorAsString)) {
       return this;
@@ -29,6 +29,8 @@ import io.fabric8.kubernetes.api.model.extensions.DeploymentRollback;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.RequestScheduler;
+import io.fabric8.kubernetes.client.TokenBucketRequestScheduler;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.http.HttpClient;
@@ -53,6 +55,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 public class OperationSupport {
 
@@ -77,6 +83,7 @@ public class OperationSupport {
   protected boolean dryRun;
   private final ExponentialBackoffIntervalCalculator retryIntervalCalculator;
   private final int requestRetryBackoffLimit;
+  private final RequestScheduler requestScheduler;
 
   public OperationSupport(Client client) {
     this(new OperationContext().withClient(client));
@@ -91,6 +98,7 @@ public class OperationSupport {
     this.name = ctx.getName();
     this.apiGroupName = ctx.getApiGroupName();
     this.dryRun = ctx.getDryRun();
+    this.requestScheduler = ctx.getRequestScheduler();
     if (Utils.isNotNullOrEmpty(ctx.getApiGroupVersion())) {
       this.apiGroupVersion = ctx.getApiGroupVersion();
     } else if (ctx.getConfig() != null && Utils.isNotNullOrEmpty(ctx.getConfig().getApiVersion())) {
@@ -278,6 +286,27 @@ public class OperationSupport {
 
   protected void handleDelete(URL requestUrl, long gracePeriodSeconds, DeletionPropagation propagationPolicy,
       String resourceVersion, boolean cascading) throws InterruptedException, IOException {
+    HttpRequest.Builder requestBuilder = deleteRequest(requestUrl, gracePeriodSeconds, propagationPolicy, resourceVersion,
+        cascading);
+    handleResponse(requestBuilder, null, Collections.<String, String> emptyMap());
+  }
+
+  /**
+   * The asynchronous form of {@link #handleDelete(URL, long, DeletionPropagation, String, boolean)}
+   */
+  protected CompletableFuture<Void> handleDeleteAsync(URL requestUrl, long gracePeriodSeconds,
+      DeletionPropagation propagationPolicy, String resourceVersion, boolean cascading) {
+    HttpRequest.Builder requestBuilder;
+    try {
+      requestBuilder = deleteRequest(requestUrl, gracePeriodSeconds, propagationPolicy, resourceVersion, cascading);
+    } catch (IOException e) {
+      return failedFuture(e);
+    }
+    return this.<Void> handleResponseAsync(requestBuilder, null);
+  }
+
+  private HttpRequest.Builder deleteRequest(URL requestUrl, long gracePeriodSeconds, DeletionPropagation propagationPolicy,
+      String resourceVersion, boolean cascading) throws IOException {
     DeleteOptions deleteOptions = new DeleteOptions();
     if (gracePeriodSeconds >= 0) {
       deleteOptions.setGracePeriodSeconds(gracePeriodSeconds);
@@ -298,9 +327,8 @@ public class OperationSupport {
       deleteOptions.setDryRun(Collections.singletonList("All"));
     }
 
-    HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
+    return httpClient.newHttpRequestBuilder()
         .delete(JSON, JSON_MAPPER.writeValueAsString(deleteOptions)).url(requestUrl);
-    handleResponse(requestBuilder, null, Collections.<String, String> emptyMap());
   }
 
   /**
@@ -323,6 +351,22 @@ public class OperationSupport {
     return handleResponse(requestBuilder, outputType, Collections.<String, String> emptyMap());
   }
 
+  /**
+   * The asynchronous form of {@link #handleCreate(Object, Class)}
+   */
+  protected <T, I> CompletableFuture<T> handleCreateAsync(I resource, Class<T> outputType) {
+    HttpRequest.Builder requestBuilder;
+    try {
+      resource = correctNamespace(resource);
+      requestBuilder = httpClient.newHttpRequestBuilder()
+          .post(JSON, JSON_MAPPER.writeValueAsString(resource))
+          .url(getResourceURLForWriteOperation(getResourceUrl(checkNamespace(resource), null)));
+    } catch (Exception e) {
+      return failedFuture(e);
+    }
+    return handleResponseAsync(httpClient, requestBuilder, outputType, Collections.<String, String> emptyMap());
+  }
+
   /**
    * Replace a resource.
    *
@@ -446,6 +490,24 @@ public class OperationSupport {
     return handleResponse(requestBuilder, type, Collections.emptyMap());
   }
 
+  /**
+   * The asynchronous form of {@link #handlePatch(PatchContext, Object, String, Class, boolean)}
+   */
+  protected <T> CompletableFuture<T> handlePatchAsync(PatchContext patchContext, T current, String patchForUpdate,
+      Class<T> type, boolean status) {
+    HttpRequest.Builder requestBuilder;
+    try {
+      String bodyContentType = getContentTypeFromPatchContextOrDefault(patchContext);
+      requestBuilder = httpClient.newHttpRequestBuilder()
+          .patch(bodyContentType, patchForUpdate)
+          .url(getResourceURLForPatchOperation(getResourceUrl(checkNamespace(current), checkName(current), status),
+              patchContext));
+    } catch (Exception e) {
+      return failedFuture(e);
+    }
+    return handleResponseAsync(httpClient, requestBuilder, type, Collections.emptyMap());
+  }
+
   /**
    * Replace Scale of specified Kubernetes Resource
    *
@@ -494,6 +556,14 @@ public class OperationSupport {
     return handleGet(resourceUrl, type, Collections.<String, String> emptyMap());
   }
 
+  /**
+   * The asynchronous form of {@link #handleGet(URL, Class)}
+   */
+  protected <T> CompletableFuture<T> handleGetAsync(URL resourceUrl, Class<T> type) {
+    HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder().url(resourceUrl);
+    return handleResponseAsync(httpClient, requestBuilder, type, Collections.<String, String> emptyMap());
+  }
+
   /**
    * Send a raw get - where the type should be one of String, Reader, InputStream
    * <br>
@@ -592,6 +662,47 @@ public class OperationSupport {
     VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
     HttpRequest request = requestBuilder.build();
     HttpResponse<InputStream> response = retryWithExponentialBackoff(client, request);
+    return readResponse(request, response, type, parameters);
+  }
+
+  /**
+   * Send an http request and handle the response asynchronously.
+   *
+   * @param requestBuilder request builder
+   * @param type type of object
+   * @param <T> template argument provided
+   *
+   * @return a future for the de-serialized api server response of the provided type.
+   */
+  protected <T> CompletableFuture<T> handleResponseAsync(HttpRequest.Builder requestBuilder, Class<T> type) {
+    return handleResponseAsync(httpClient, requestBuilder, type, Collections.<String, String> emptyMap());
+  }
+
+  /**
+   * Send an http request and handle the response asynchronously, optionally performing placeholder substitution to the
+   * response.
+   * <p>
+   * Retries are scheduled, rather than holding a thread while waiting. The response body is read on the common executor,
+   * not on the thread completing the http response.
+   *
+   * @param client the client
+   * @param requestBuilder Request builder
+   * @param type Type of object provided
+   * @param parameters A hashmap containing parameters
+   * @param <T> Template argument provided
+   *
+   * @return a future for the de-serialized api server response of the provided type.
+   */
+  protected <T> CompletableFuture<T> handleResponseAsync(HttpClient client, HttpRequest.Builder requestBuilder, Class<T> type,
+      Map<String, String> parameters) {
+    VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
+    HttpRequest request = requestBuilder.build();
+    return retryWithExponentialBackoffAsync(client, request)
+        .thenApplyAsync(response -> readResponse(request, response, type, parameters), Utils.getCommonExecutorSerive());
+  }
+
+  private <T> T readResponse(HttpRequest request, HttpResponse<InputStream> response, Class<T> type,
+      Map<String, String> parameters) {
     try (InputStream bodyInputStream = response.body()) {
       assertResponseCode(request, response);
       if (type != null) {
@@ -601,7 +712,7 @@ public class OperationSupport {
       }
     } catch (Exception e) {
       if (e instanceof KubernetesClientException) {
-        throw e;
+        throw (KubernetesClientException) e;
       }
       throw requestException(request, e);
     }
@@ -613,9 +724,11 @@ public class OperationSupport {
     long retryInterval;
     while (true) {
       try {
+        awaitScheduler(request);
         HttpResponse<InputStream> response = client.send(request, InputStream.class);
-        if (numRetries < requestRetryBackoffLimit && response.code() >= 500) {
-          retryInterval = retryIntervalCalculator.getInterval(numRetries);
+        requestScheduler.onResponse(response);
+        if (numRetries < requestRetryBackoffLimit && shouldRetry(response)) {
+          retryInterval = getRetryInterval(response, numRetries);
           LOG.debug("HTTP operation on url: {} should be retried as the response code was {}, retrying after {} millis",
               request.uri(), response.code(), retryInterval);
           if (response.body() != null) {
@@ -638,6 +751,96 @@ public class OperationSupport {
     }
   }
 
+  /**
+   * The non-blocking form of {@link #retryWithExponentialBackoff(HttpClient, HttpRequest)} - rather than sleeping,
+   * the retries are scheduled.
+   */
+  protected CompletableFuture<HttpResponse<InputStream>> retryWithExponentialBackoffAsync(HttpClient client,
+      HttpRequest request) {
+    CompletableFuture<HttpResponse<InputStream>> result = new CompletableFuture<>();
+    retryWithExponentialBackoffAsync(client, request, result, 0);
+    return result;
+  }
+
+  private void retryWithExponentialBackoffAsync(HttpClient client, HttpRequest request,
+      CompletableFuture<HttpResponse<InputStream>> result, int numRetries) {
+    CompletableFuture<HttpResponse<InputStream>> sent = requestScheduler.acquire(request)
+        .thenCompose(v -> client.sendAsync(request, InputStream.class));
+    sent.whenComplete((response, throwable) -> {
+      if (response != null) {
+        requestScheduler.onResponse(response);
+      }
+      if (result.isDone()) {
+        // cancelled by the caller
+        closeBody(response);
+        return;
+      }
+      long retryInterval;
+      if (response != null) {
+        if (numRetries < requestRetryBackoffLimit && shouldRetry(response)) {
+          retryInterval = getRetryInterval(response, numRetries);
+          LOG.debug("HTTP operation on url: {} should be retried as the response code was {}, retrying after {} millis",
+              request.uri(), response.code(), retryInterval);
+          closeBody(response);
+        } else {
+          result.complete(response);
+          return;
+        }
+      } else {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause()
+            : throwable;
+        if (cause instanceof IOException && numRetries < requestRetryBackoffLimit) {
+          retryInterval = retryIntervalCalculator.getInterval(numRetries);
+          LOG.debug(String.format("HTTP operation on url: %s should be retried after %d millis because of IOException",
+              request.uri(), retryInterval), cause);
+        } else {
+          result.completeExceptionally(cause instanceof IOException ? requestException(request, cause, null) : cause);
+          return;
+        }
+      }
+      Utils.schedule(Utils.getCommonExecutorSerive(),
+          () -> retryWithExponentialBackoffAsync(client, request, result, numRetries + 1), retryInterval,
+          TimeUnit.MILLISECONDS);
+    });
+  }
+
+  private void awaitScheduler(HttpRequest request) throws InterruptedException, IOException {
+    try {
+      requestScheduler.acquire(request).get();
+    } catch (ExecutionException e) {
+      throw new IOException("Request could not be scheduled", e.getCause());
+    }
+  }
+
+  private static boolean shouldRetry(HttpResponse<?> response) {
+    return response.code() >= 500 || response.code() == TokenBucketRequestScheduler.HTTP_TOO_MANY_REQUESTS;
+  }
+
+  /**
+   * Use the backoff interval, unless the server asked for a longer wait with a Retry-After header
+   */
+  private long getRetryInterval(HttpResponse<?> response, int numRetries) {
+    long retryInterval = retryIntervalCalculator.getInterval(numRetries);
+    long retryAfter = TimeUnit.SECONDS.toMillis(TokenBucketRequestScheduler.getRetryAfterSeconds(response));
+    return Math.max(retryInterval, retryAfter);
+  }
+
+  static <T> CompletableFuture<T> failedFuture(Throwable t) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    result.completeExceptionally(t);
+    return result;
+  }
+
+  private static void closeBody(HttpResponse<InputStream> response) {
+    if (response != null && response.body() != null) {
+      try {
+        response.body().close();
+      } catch (IOException e) {
+        LOG.debug("Could not close the response body", e);
+      }
+    }
+  }
+
   /**
    * Checks if the response status code is the expected and throws the appropriate KubernetesClientException if not.
    *
@@ -0,0 +1,479 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.MalformedURLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+
+/**
+ * Shares one upstream watch between all of the watches made through a client on the same resource, namespace and
+ * metadata only setting.
+ * <p>
+ * The upstream watch has no selectors - label selectors and name or namespace field selectors are applied by the
+ * client. The upstream keeps the current state of the watched resources, so that a watch added later still receives
+ * the initial ADDED events a new watch without a resourceVersion would. The upstream is closed when its last watch is
+ * closed.
+ * <p>
+ * Watches that specify a resourceVersion, timeout, bookmarks or other selectors are not shared.
+ * Each watcher has its own serial queue of events on the common executor, so a slow watcher delays only its
+ * own events. The watchers share one copy of each event's resource.
+ */
+public class WatchMultiplexer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WatchMultiplexer.class);
+
+  private static final String METADATA_NAME = "metadata.name";
+  private static final String METADATA_NAMESPACE = "metadata.namespace";
+
+  // guarded by itself
+  private final Map<String, Upstream<?>> upstreams = new HashMap<>();
+
+  /**
+   * Add a watch to the shared upstream for the operation, starting the upstream if needed.
+   *
+   * @return the watch, or null if the options can't be handled by a shared watch
+   */
+  <T extends HasMetadata> Watch watch(BaseOperation<T, ?, ?> operation, ListOptions options, Watcher<T> watcher) {
+    if (!isShareable(options)) {
+      return null;
+    }
+    Predicate<Map<String, String>> labelFilter = parseLabelSelector(options.getLabelSelector());
+    Predicate<ObjectMeta> fieldFilter = parseFieldSelector(options.getFieldSelector());
+    if (labelFilter == null || fieldFilter == null) {
+      return null;
+    }
+    String key;
+    try {
+      key = operation.getType().getName() + " " + operation.isMetadataOnly() + " " + operation.getNamespacedUrl();
+    } catch (MalformedURLException e) {
+      return null;
+    }
+
+    Upstream<T> upstream;
+    boolean start = false;
+    synchronized (upstreams) {
+      @SuppressWarnings("unchecked")
+      Upstream<T> existing = (Upstream<T>) upstreams.get(key);
+      upstream = existing;
+      if (upstream == null) {
+        upstream = new Upstream<>(key, upstreamOperation(operation));
+        upstreams.put(key, upstream);
+        start = true;
+      }
+      upstream.references++;
+    }
+
+    try {
+      if (start) {
+        upstream.start();
+      } else {
+        upstream.awaitStarted();
+      }
+    } catch (RuntimeException e) {
+      release(upstream);
+      throw e;
+    }
+    return upstream.subscribe(watcher, resource -> {
+      ObjectMeta metadata = resource.getMetadata();
+      return metadata != null && fieldFilter.test(metadata)
+          && labelFilter.test(Utils.getNonNullOrElse(metadata.getLabels(), Collections.emptyMap()));
+    });
+  }
+
+  /**
+   * @return the number of upstream watches
+   */
+  public int getUpstreamCount() {
+    synchronized (upstreams) {
+      return upstreams.size();
+    }
+  }
+
+  private static <T extends HasMetadata> BaseOperation<T, ?, ?> upstreamOperation(BaseOperation<T, ?, ?> operation) {
+    OperationContext context = operation.context.withName(null).withItem(null).withResourceVersion(null)
+        .withLabels(null).withLabelsNot(null).withLabelsIn(null).withLabelsNotIn(null).withLabelSelector(null)
+        .withFields(null).withFieldsNot(null);
+    return operation.newInstance(context);
+  }
+
+  static boolean isShareable(ListOptions options) {
+    return Utils.isNullOrEmpty(options.getResourceVersion()) && options.getResourceVersionMatch() == null
+        && options.getTimeoutSeconds() == null && !Boolean.TRUE.equals(options.getAllowWatchBookmarks())
+        && options.getLimit() == null && options.getContinue() == null;
+  }
+
+  private void release(Upstream<?> upstream) {
+    boolean last;
+    synchronized (upstreams) {
+      last = --upstream.references == 0;
+      if (last) {
+        upstreams.remove(upstream.key, upstream);
+      }
+    }
+    if (last) {
+      upstream.closeUpstream();
+    }
+  }
+
+  private void failed(Upstream<?> upstream) {
+    synchronized (upstreams) {
+      upstreams.remove(upstream.key, upstream);
+    }
+  }
+
+  /**
+   * Parse a label selector in the same form as the api server.
+   *
+   * @return the filter, or null if the selector is not understood
+   */
+  static Predicate<Map<String, String>> parseLabelSelector(String selector) {
+    if (Utils.isNullOrEmpty(selector)) {
+      return labels -> true;
+    }
+    List<Predicate<Map<String, String>>> requirements = new ArrayList<>();
+    for (String requirement : splitRequirements(selector)) {
+      Predicate<Map<String, String>> predicate = parseLabelRequirement(requirement.trim());
+      if (predicate == null) {
+        return null;
+      }
+      requirements.add(predicate);
+    }
+    return labels -> requirements.stream().allMatch(r -> r.test(labels));
+  }
+
+  private static List<String> splitRequirements(String selector) {
+    List<String> result = new ArrayList<>();
+    int depth = 0;
+    int start = 0;
+    for (int i = 0; i < selector.length(); i++) {
+      char c = selector.charAt(i);
+      if (c == '(') {
+        depth++;
+      } else if (c == ')') {
+        depth--;
+      } else if (c == ',' && depth == 0) {
+        result.add(selector.substring(start, i));
+        start = i + 1;
+      }
+    }
+    result.add(selector.substring(start));
+    return result;
+  }
+
+  private static Predicate<Map<String, String>> parseLabelRequirement(String requirement) {
+    if (requirement.isEmpty()) {
+      return null;
+    }
+    String[] setRequirement = requirement.split("\\s+(?=(in|notin)\\s*\\()", 2);
+    if (setRequirement.length == 2) {
+      String key = setRequirement[0].trim();
+      String rest = setRequirement[1].trim();
+      boolean in = rest.startsWith("in");
+      int open = rest.indexOf('(');
+      int close = rest.lastIndexOf(')');
+      if (open < 0 || close != rest.length() - 1) {
+        return null;
+      }
+      Set<String> values = new HashSet<>();
+      for (String value : rest.substring(open + 1, close).split(",")) {
+        values.add(value.trim());
+      }
+      if (in) {
+        return labels -> labels.containsKey(key) && values.contains(labels.get(key));
+      }
+      return labels -> !labels.containsKey(key) || !values.contains(labels.get(key));
+    }
+    if (requirement.startsWith("!")) {
+      String key = requirement.substring(1).trim();
+      return labels -> !labels.containsKey(key);
+    }
+    int notEquals = requirement.indexOf("!=");
+    if (notEquals > 0) {
+      String key = requirement.substring(0, notEquals).trim();
+      String value = requirement.substring(notEquals + 2).trim();
+      return labels -> !Objects.equals(labels.get(key), value);
+    }
+    int equals = requirement.indexOf('=');
+    if (equals > 0) {
+      String key = requirement.substring(0, equals).trim();
+      String value = requirement.substring(requirement.startsWith("==", equals) ? equals + 2 : equals + 1).trim();
+      return labels -> Objects.equals(labels.get(key), value);
+    }
+    if (requirement.matches("[A-Za-z0-9_./-]+")) {
+      return labels -> labels.containsKey(requirement);
+    }
+    // gt / lt and anything else is left to the api server
+    return null;
+  }
+
+  /**
+   * Parse a field selector on the name and namespace.
+   *
+   * @return the filter, or null if the selector uses other fields
+   */
+  static Predicate<ObjectMeta> parseFieldSelector(String selector) {
+    if (Utils.isNullOrEmpty(selector)) {
+      return metadata -> true;
+    }
+    List<Predicate<ObjectMeta>> requirements = new ArrayList<>();
+    for (String requirement : selector.split(",")) {
+      boolean negate = requirement.contains("!=");
+      String[] parts = requirement.split(negate ? "!=" : "==?", 2);
+      if (parts.length != 2) {
+        return null;
+      }
+      String field = parts[0].trim();
+      String value = parts[1].trim();
+      Predicate<ObjectMeta> predicate;
+      if (METADATA_NAME.equals(field)) {
+        predicate = metadata -> value.equals(metadata.getName());
+      } else if (METADATA_NAMESPACE.equals(field)) {
+        predicate = metadata -> value.equals(metadata.getNamespace());
+      } else {
+        return null;
+      }
+      requirements.add(negate ? predicate.negate() : predicate);
+    }
+    return metadata -> requirements.stream().allMatch(r -> r.test(metadata));
+  }
+
+  private final class Upstream<T extends HasMetadata> implements Watcher<T> {
+
+    private final String key;
+    private final BaseOperation<T, ?, ?> operation;
+    private final CompletableFuture<Watch> started = new CompletableFuture<>();
+    // guarded by upstreams
+    private int references;
+
+    // guarded by this, events are queued for the subscriptions while holding it but delivered without it
+    private final Map<String, T> current = new LinkedHashMap<>();
+    private final List<Subscription<T>> subscriptions = new ArrayList<>();
+    private WatcherException closedCause;
+    private boolean closed;
+
+    private Upstream(String key, BaseOperation<T, ?, ?> operation) {
+      this.key = key;
+      this.operation = operation;
+    }
+
+    private void start() {
+      try {
+        Watch watch = operation.watchDirectly(new ListOptionsBuilder().withWatch(true).build(), this);
+        started.complete(watch);
+      } catch (RuntimeException e) {
+        failed(this);
+        started.completeExceptionally(e);
+        throw e;
+      }
+    }
+
+    private void awaitStarted() {
+      try {
+        started.join();
+      } catch (CompletionException e) {
+        throw KubernetesClientException.launderThrowable(e.getCause());
+      }
+    }
+
+    private Watch subscribe(Watcher<T> watcher, Predicate<T> filter) {
+      Subscription<T> subscription = new Subscription<>(this, watcher, filter);
+      WatcherException cause;
+      synchronized (this) {
+        cause = closedCause;
+        if (cause == null) {
+          // replay the current state as a new watch would see it, ahead of any later event.
+          // the stored resources are replaced rather than changed, so they can be copied when delivered
+          for (T resource : current.values()) {
+            subscription.execute(() -> subscription.deliver(Action.ADDED, Serialization.clone(resource)));
+          }
+          subscriptions.add(subscription);
+        }
+      }
+      if (cause != null) {
+        subscription.closed = true;
+        release(this);
+        watcher.onClose(cause);
+      }
+      return subscription;
+    }
+
+    private void unsubscribe(Subscription<T> subscription) {
+      boolean removed;
+      synchronized (this) {
+        removed = subscriptions.remove(subscription);
+      }
+      if (removed) {
+        release(this);
+      }
+    }
+
+    private void closeUpstream() {
+      synchronized (this) {
+        closed = true;
+        current.clear();
+      }
+      started.thenAccept(Watch::close);
+    }
+
+    @Override
+    public void eventReceived(Action action, T resource) {
+      // one copy shared by the watchers, so that they can't change the current state
+      T copy = resource == null ? null : Serialization.clone(resource);
+      synchronized (this) {
+        if (resource != null && resource.getMetadata() != null) {
+          String resourceKey = resourceKey(resource);
+          if (action == Action.ADDED || action == Action.MODIFIED) {
+            current.put(resourceKey, resource);
+          } else if (action == Action.DELETED) {
+            current.remove(resourceKey);
+          }
+        }
+        for (Subscription<T> subscription : subscriptions) {
+          subscription.execute(() -> subscription.deliver(action, copy));
+        }
+      }
+    }
+
+    @Override
+    public void onClose(WatcherException cause) {
+      failed(this);
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        closedCause = cause;
+        // closed after the events already queued for each subscription
+        for (Subscription<T> subscription : subscriptions) {
+          subscription.execute(() -> subscription.onClose(cause));
+        }
+        subscriptions.clear();
+        current.clear();
+      }
+    }
+
+    @Override
+    public void onClose() {
+      // only closed by the multiplexer once there are no more subscriptions
+    }
+  }
+
+  private static String resourceKey(HasMetadata resource) {
+    return resource.getMetadata().getNamespace() + "/" + resource.getMetadata().getName();
+  }
+
+  private static final class Subscription<T extends HasMetadata> implements Watch {
+
+    private final Upstream<T> upstream;
+    private final Watcher<T> watcher;
+    private final Predicate<T> filter;
+    private final SerialExecutor serialExecutor = new SerialExecutor(Utils.getCommonExecutorSerive());
+    private volatile boolean closed;
+    // the keys of the resources this watcher has been told about, only used by the serial executor
+    private final Set<String> seen = new HashSet<>();
+
+    private Subscription(Upstream<T> upstream, Watcher<T> watcher, Predicate<T> filter) {
+      this.upstream = upstream;
+      this.watcher = watcher;
+      this.filter = filter;
+    }
+
+    private void execute(Runnable task) {
+      serialExecutor.execute(task);
+    }
+
+    private void onClose(WatcherException cause) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      watcher.onClose(cause);
+    }
+
+    private void deliver(Watcher.Action action, T resource) {
+      if (closed) {
+        return;
+      }
+      Watcher.Action toDeliver = action;
+      if (resource != null && resource.getMetadata() != null && action != Watcher.Action.ERROR
+          && action != Watcher.Action.BOOKMARK) {
+        toDeliver = transition(action, resource);
+      } else if (resource != null && !filter.test(resource)) {
+        toDeliver = null;
+      }
+      if (toDeliver == null) {
+        return;
+      }
+      try {
+        watcher.eventReceived(toDeliver, resource);
+      } catch (Exception e) {
+        LOGGER.error("Unhandled exception encountered in watcher event handler", e);
+      }
+    }
+
+    /**
+     * Determine the action a watch with the selectors applied by the api server would see - a modification
+     * that makes a resource match is an ADDED, and one that makes it stop matching is a DELETED.
+     *
+     * @return the action, or null if the event should not be delivered
+     */
+    private Watcher.Action transition(Watcher.Action action, T resource) {
+      String key = resourceKey(resource);
+      if (action == Watcher.Action.DELETED) {
+        return seen.remove(key) ? action : null;
+      }
+      if (filter.test(resource)) {
+        return seen.add(key) ? Watcher.Action.ADDED : action;
+      }
+      return seen.remove(key) ? Watcher.Action.DELETED : null;
+    }
+
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      upstream.unsubscribe(this);
+      watcher.onClose();
+    }
+  }
+
+}
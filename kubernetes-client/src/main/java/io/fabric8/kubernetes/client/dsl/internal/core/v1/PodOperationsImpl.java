@@ -42,6 +42,7 @@ import io.fabric8.kubernetes.client.dsl.TtyExecErrorChannelable;
 import io.fabric8.kubernetes.client.dsl.TtyExecErrorable;
 import io.fabric8.kubernetes.client.dsl.TtyExecOutputErrorable;
 import io.fabric8.kubernetes.client.dsl.TtyExecable;
+import io.fabric8.kubernetes.client.dsl.internal.ExecWatchInputStream;
 import io.fabric8.kubernetes.client.dsl.internal.ExecWebSocketListener;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperation;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
@@ -73,15 +74,18 @@ import java.io.Reader;
 import java.net.InetAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import static io.fabric8.kubernetes.client.utils.internal.OptionalDependencyWrapper.wrapRunWithOptionalDependency;
 
@@ -323,8 +327,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
     try {
       URL url = getURLWithCommandParams(actualCommands);
       HttpClient clone = httpClient.newBuilder().readTimeout(0, TimeUnit.MILLISECONDS).build();
-      final ExecWebSocketListener execWebSocketListener = new ExecWebSocketListener(in, out, err, errChannel, inPipe, outPipe,
-          errPipe, errChannelPipe, execListener, bufferSize);
+      final ExecWebSocketListener execWebSocketListener = new ExecWebSocketListener(getContext());
       CompletableFuture<WebSocket> startedFuture = clone.newWebSocketBuilder()
           .subprotocol("v4.channel.k8s.io")
           .uri(url.toURI())
@@ -356,13 +359,13 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
     if (withTTY) {
       httpUrlBuilder.addQueryParameter("tty", "true");
     }
-    if (in != null || inPipe != null) {
+    if (in != null || inPipe != null || podOperationContext.isRedirectingIn()) {
       httpUrlBuilder.addQueryParameter("stdin", "true");
     }
-    if (out != null || outPipe != null) {
+    if (out != null || outPipe != null || podOperationContext.isRedirectingOut()) {
       httpUrlBuilder.addQueryParameter("stdout", "true");
     }
-    if (err != null || errPipe != null) {
+    if (err != null || errPipe != null || podOperationContext.isRedirectingErr()) {
       httpUrlBuilder.addQueryParameter("stderr", "true");
     }
     return httpUrlBuilder.build();
@@ -438,10 +441,33 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   }
 
   private InputStream readFile(String source) {
+    return readFrom(out -> readFileTo(source, out));
+  }
+
+  /**
+   * Provides the output of the reader as an {@link InputStream}, without using a pipe
+   */
+  private InputStream readFrom(Function<OutputStream, Future<?>> reader) {
     try {
-      PipedOutputStream out = new PipedOutputStream();
-      PipedInputStream in = new PipedInputStream(out, 1024);
-      final Future<?> future = readFileTo(source, out);
+      ExecWatchInputStream in = new ExecWatchInputStream(bufferSize);
+      // the decoding writes a few bytes at a time, so buffer before handing off
+      OutputStream out = new BufferedOutputStream(new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+          write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          in.consume(ByteBuffer.wrap(Arrays.copyOfRange(b, off, off + len)));
+        }
+
+        @Override
+        public void close() {
+          in.onExit(null);
+        }
+      });
+      final Future<?> future = reader.apply(out);
       return new FilterInputStream(in) {
         @Override
         public void close() throws IOException {
@@ -484,20 +510,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   }
 
   public InputStream readTar(String source) {
-    try {
-      PipedOutputStream out = new PipedOutputStream();
-      PipedInputStream in = new PipedInputStream(out, 1024);
-      final Future<?> future = readTarTo(source, out);
-      return new FilterInputStream(in) {
-        @Override
-        public void close() throws IOException {
-          future.cancel(false);
-          super.close();
-        }
-      };
-    } catch (Exception e) {
-      throw KubernetesClientException.launderThrowable(e);
-    }
+    return readFrom(out -> readTarTo(source, out));
   }
 
   private Future<?> readTo(OutputStream out, String... cmd) {
@@ -608,7 +621,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
 
   @Override
   public TtyExecOutputErrorable<String, OutputStream, PipedInputStream, ExecWatch> redirectingInput(Integer bufferSize) {
-    return new PodOperationsImpl(getContext().withInPipe(new PipedOutputStream()).withBufferSize(bufferSize), context);
+    return new PodOperationsImpl(getContext().withRedirectingIn(true).withBufferSize(bufferSize), context);
   }
 
   @Override
@@ -623,7 +636,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
 
   @Override
   public TtyExecErrorable<String, OutputStream, PipedInputStream, ExecWatch> redirectingOutput() {
-    return readingOutput(new PipedInputStream());
+    return new PodOperationsImpl(getContext().withRedirectingOut(true), context);
   }
 
   @Override
@@ -638,7 +651,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
 
   @Override
   public TtyExecErrorChannelable<String, OutputStream, PipedInputStream, ExecWatch> redirectingError() {
-    return readingError(new PipedInputStream());
+    return new PodOperationsImpl(getContext().withRedirectingErr(true), context);
   }
 
   @Override
@@ -653,7 +666,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
 
   @Override
   public TtyExecable<String, ExecWatch> redirectingErrorChannel() {
-    return readingErrorChannel(new PipedInputStream());
+    return new PodOperationsImpl(getContext().withRedirectingErrChannel(true), context);
   }
 
   @Override
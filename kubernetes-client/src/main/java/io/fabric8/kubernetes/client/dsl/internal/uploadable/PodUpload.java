@@ -15,26 +15,20 @@
  */
 package io.fabric8.kubernetes.client.dsl.internal.uploadable;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.zip.GZIPOutputStream;
 
 import io.fabric8.kubernetes.client.dsl.internal.OperationSupport;
@@ -44,19 +38,48 @@ import io.fabric8.kubernetes.client.http.WebSocket;
 import io.fabric8.kubernetes.client.utils.InputStreamPumper;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
-import io.fabric8.kubernetes.client.utils.internal.Base64;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl.shellQuote;
 
 public class PodUpload {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(PodUpload.class);
+
   private static final String TAR_PATH_DELIMITER = "/";
+  private static final int BUFFER_SIZE = 32 * 1024;
 
   private PodUpload() {
   }
 
+  /**
+   * Sends what is written as stdin messages. The exec protocol is binary, so no encoding is needed.
+   */
+  private static final class StdinOutputStream extends OutputStream {
+
+    private final PodUploadWebSocketListener listener;
+    private long count;
+
+    private StdinOutputStream(PodUploadWebSocketListener listener) {
+      this.listener = listener;
+    }
+
+    @Override
+    public void write(int b) {
+      write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      listener.send(b, off, len);
+      count += len;
+    }
+
+  }
+
   public static boolean upload(HttpClient client, PodOperationContext context,
     OperationSupport operationSupport, Path pathToUpload)
     throws IOException, InterruptedException {
@@ -74,14 +97,18 @@ public class PodUpload {
     throws IOException, InterruptedException {
     final PodUploadWebSocketListener podUploadWebSocketListener = initWebSocket(
       buildCommandUrl(createExecCommandForUpload(context), context, operationSupport), client);
-    try (
-      final Base64.InputStream b64In = new Base64.InputStream(inputStream, Base64.ENCODE)
-    ) {
-      podUploadWebSocketListener.waitUntilReady(operationSupport.getConfig().getRequestConfig().getUploadConnectionTimeout());
-      InputStreamPumper.transferTo(b64In, podUploadWebSocketListener::send);
-      podUploadWebSocketListener.waitUntilComplete(operationSupport.getConfig().getRequestConfig().getUploadRequestTimeout());
-      return true;
+    final long start = System.nanoTime();
+    podUploadWebSocketListener.waitUntilReady(operationSupport.getConfig().getRequestConfig().getUploadConnectionTimeout());
+    final StdinOutputStream stdin = new StdinOutputStream(podUploadWebSocketListener);
+    try {
+      InputStreamPumper.transferTo(inputStream, stdin::write);
+    } catch (IOException | RuntimeException e) {
+      podUploadWebSocketListener.abort(e);
+      throw e;
     }
+    podUploadWebSocketListener.waitUntilComplete(operationSupport.getConfig().getRequestConfig().getUploadRequestTimeout());
+    logThroughput(context.getFile(), stdin.count, start);
+    return true;
   }
 
   private static boolean uploadFile(HttpClient client, PodOperationContext context,
@@ -97,44 +124,32 @@ public class PodUpload {
     throws IOException, InterruptedException {
 
     final String command = String.format(
-      "mkdir -p %1$s && base64 -d - | tar -C %1$s -xzf -", shellQuote(context.getDir()));
+      "mkdir -p %1$s && tar -C %1$s -xzf -", shellQuote(context.getDir()));
     final PodUploadWebSocketListener podUploadWebSocketListener = initWebSocket(
       buildCommandUrl(command, context, operationSupport), client);
-    try (
-      final PipedOutputStream pos = new PipedOutputStream();
-      final PipedInputStream pis = new PipedInputStream(pos);
-      final Base64.OutputStream b64Out = new Base64.OutputStream(pos, Base64.ENCODE);
-      final GZIPOutputStream gzip = new GZIPOutputStream(b64Out)
-
-    ) {
-      podUploadWebSocketListener.waitUntilReady(operationSupport.getConfig().getRequestConfig().getUploadConnectionTimeout());
-      final Callable<?> readFiles = () -> {
-        try (final TarArchiveOutputStream tar = new TarArchiveOutputStream(gzip)) {
-          tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-          for (File file : pathToUpload.toFile().listFiles()) {
-            addFileToTar(null, file, tar);
-          }
-          tar.flush();
-        }
-        return null;
-      };
-      final ExecutorService es = Executors.newSingleThreadExecutor();
-      Future<?> readFilesFuture = es.submit(readFiles);
-      InputStreamPumper.transferTo(pis, podUploadWebSocketListener::send);
-      podUploadWebSocketListener.waitUntilComplete(operationSupport.getConfig().getRequestConfig().getUploadRequestTimeout());
-      try {
-        readFilesFuture.get(100, TimeUnit.SECONDS);
-        return true;
-      } catch (ExecutionException ex) {
-        if (ex.getCause() instanceof IOException) {
-          throw (IOException) ex.getCause();
-        }
-        throw new IOException(ex.getMessage(), ex.getCause());
-      } catch (TimeoutException e) {
-        return false;
-      } finally {
-        es.shutdown();
+    final long start = System.nanoTime();
+    podUploadWebSocketListener.waitUntilReady(operationSupport.getConfig().getRequestConfig().getUploadConnectionTimeout());
+    final StdinOutputStream stdin = new StdinOutputStream(podUploadWebSocketListener);
+    // the archive is written straight to the websocket in the calling thread
+    try (final TarArchiveOutputStream tar = new TarArchiveOutputStream(
+      new GZIPOutputStream(new BufferedOutputStream(stdin, BUFFER_SIZE), BUFFER_SIZE))) {
+      tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+      for (File file : pathToUpload.toFile().listFiles()) {
+        addFileToTar(null, file, tar);
       }
+    } catch (IOException | RuntimeException e) {
+      podUploadWebSocketListener.abort(e);
+      throw e;
+    }
+    podUploadWebSocketListener.waitUntilComplete(operationSupport.getConfig().getRequestConfig().getUploadRequestTimeout());
+    logThroughput(context.getDir(), stdin.count, start);
+    return true;
+  }
+
+  private static void logThroughput(String target, long bytes, long start) {
+    if (LOGGER.isDebugEnabled()) {
+      long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+      LOGGER.debug("Uploaded {} bytes to {} in {} ms ({} KiB/s)", bytes, target, millis, bytes * 1000 / millis / 1024);
     }
   }
 
@@ -192,6 +207,6 @@ public class PodUpload {
     String directoryTrimmedFromFilePath = file.substring(0, file.lastIndexOf('/'));
     final String directory = directoryTrimmedFromFilePath.isEmpty() ? "/" : directoryTrimmedFromFilePath;
     return String.format(
-      "mkdir -p %s && base64 -d - > %s", shellQuote(directory), shellQuote(file));
+      "mkdir -p %s && cat - > %s", shellQuote(directory), shellQuote(file));
   }
 }
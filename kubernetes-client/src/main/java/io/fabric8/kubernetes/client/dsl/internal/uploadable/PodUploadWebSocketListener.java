@@ -104,6 +104,14 @@ public class PodUploadWebSocketListener implements WebSocket.Listener {
     checkError();
   }
 
+  /**
+   * Close the websocket after the data to send could not be read, so that the exec does not wait for more stdin
+   */
+  final void abort(Throwable cause) {
+    completeFuture.completeExceptionally(cause);
+    webSocketRef.thenAccept(ws -> ws.sendClose(1011, "Upload failed"));
+  }
+
   final void send(byte[] data, int offset, int length) {
     checkError();
     waitForQueue(length);
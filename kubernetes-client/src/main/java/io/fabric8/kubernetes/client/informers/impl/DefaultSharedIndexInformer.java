@@ -18,7 +18,9 @@ package io.fabric8.kubernetes.client.informers.impl;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
 import io.fabric8.kubernetes.client.informers.ListerWatcher;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
@@ -28,18 +30,20 @@ import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorStore;
 import io.fabric8.kubernetes.client.informers.impl.cache.Reflector;
 import io.fabric8.kubernetes.client.informers.impl.cache.SharedProcessor;
 import io.fabric8.kubernetes.client.utils.Utils;
-import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 public class DefaultSharedIndexInformer<T extends HasMetadata, L extends KubernetesResourceList<T>>
@@ -68,6 +72,8 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   private volatile boolean stopped = false;
 
   private ScheduledFuture<?> resyncFuture;
+  // an executor created just for this informer
+  private ExecutorService ownedExecutor;
 
   public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod,
       Executor informerExecutor) {
@@ -79,9 +85,9 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     this.apiTypeClass = apiTypeClass;
 
     this.informerExecutor = informerExecutor;
-    // reuse the informer executor, but ensure serial processing
-    this.processor = new SharedProcessor<>(new SerialExecutor(informerExecutor));
     this.indexer = new CacheImpl<>();
+    // reuse the informer executor, each listener will ensure serial processing
+    this.processor = new SharedProcessor<>(informerExecutor, this.indexer::getKey);
 
     processorStore = new ProcessorStore<>(this.indexer, this.processor);
     this.reflector = new Reflector<>(apiTypeClass, listerWatcher, processorStore);
@@ -130,6 +136,32 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
         determineResyncPeriod(resyncPeriodMillis, this.resyncCheckPeriodMillis), this.indexer::list);
   }
 
+  @Override
+  public SharedIndexInformer<T> withEventQueueLimit(int capacity, QueueOverflowPolicy policy) {
+    this.processor.setEventQueueLimit(capacity, policy);
+    return this;
+  }
+
+  @Override
+  public SharedIndexInformer<T> withUpdateCoalescing(boolean coalesce) {
+    this.processor.setCoalesceUpdates(coalesce);
+    return this;
+  }
+
+  @Override
+  public SharedIndexInformer<T> withTransform(UnaryOperator<T> transform) {
+    this.processorStore.setTransform(transform);
+    return this;
+  }
+
+  @Override
+  public SharedIndexInformer<T> withMetrics(InformerMetrics metrics) {
+    InformerMetrics toUse = metrics == null ? InformerMetrics.NOOP : metrics;
+    this.reflector.setMetrics(toUse);
+    this.processor.setMetrics(toUse);
+    return this;
+  }
+
   @Override
   public String lastSyncResourceVersion() {
     return this.reflector.getLastSyncResourceVersion();
@@ -137,25 +169,41 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   @Override
   public void run() {
+    if (!prepareStart()) {
+      return;
+    }
+    reflector.listSyncAndWatch();
+    // stop called while run is called could be ineffective, check for it afterwards
+    stopIfStopped();
+  }
+
+  @Override
+  public CompletableFuture<Void> start() {
+    if (!prepareStart()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return reflector.start().whenComplete((v, t) -> stopIfStopped());
+  }
+
+  private boolean prepareStart() {
     if (stopped) {
       throw new IllegalStateException("Cannot restart a stopped informer");
     }
     synchronized (this) {
       if (!started.compareAndSet(false, true)) {
-        return;
+        return false;
       }
     }
 
     log.debug("informer: ready to run resync and reflector for {} with resync {}", apiTypeClass, resyncCheckPeriodMillis);
 
     scheduleResync(processor::shouldResync);
+    return true;
+  }
 
-    reflector.listSyncAndWatch();
-    // stop called while run is called could be ineffective, check for it afterwards
-    synchronized (this) {
-      if (stopped) {
-        stop();
-      }
+  private synchronized void stopIfStopped() {
+    if (stopped) {
+      stop();
     }
   }
 
@@ -165,6 +213,16 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     reflector.stop();
     stopResync();
     processor.stop();
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Shut down the executor when this informer is stopped. For an executor that was created just for this informer.
+   */
+  synchronized void shutdownOnStop(ExecutorService executor) {
+    this.ownedExecutor = executor;
   }
 
   private synchronized void stopResync() {
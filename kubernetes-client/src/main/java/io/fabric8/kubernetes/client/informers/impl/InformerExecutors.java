@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executors used by informers that do not share the factory executor.
+ */
+final class InformerExecutors {
+
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  // Thread.ofVirtual() is only available on Java 21+, so it is looked up reflectively
+  private static final Method OF_VIRTUAL;
+  private static final Method BUILDER_NAME;
+  private static final Method BUILDER_FACTORY;
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    Method ofVirtual = null;
+    Method builderName = null;
+    Method builderFactory = null;
+    Method newThreadPerTaskExecutor = null;
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      builderName = builderClass.getMethod("name", String.class, long.class);
+      builderFactory = builderClass.getMethod("factory");
+      newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      ofVirtual = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    BUILDER_NAME = builderName;
+    BUILDER_FACTORY = builderFactory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+  }
+
+  private InformerExecutors() {
+  }
+
+  static boolean isVirtualThreadSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * @return an executor with at most maxThreads daemon threads named name-1, name-2, ...
+   *         Idle threads are released, and tasks beyond the limit are queued.
+   */
+  static ExecutorService newBoundedExecutor(String name, int maxThreads) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), namedThreadFactory(name));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * @return an executor that runs each task in a new virtual thread named name-1, name-2, ...
+   * @throws UnsupportedOperationException if virtual threads are not available
+   */
+  static ExecutorService newVirtualThreadExecutor(String name) {
+    if (!isVirtualThreadSupported()) {
+      throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+    }
+    try {
+      Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), name + "-", 1L);
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, BUILDER_FACTORY.invoke(builder));
+    } catch (ReflectiveOperationException e) {
+      throw new UnsupportedOperationException("Could not create a virtual thread executor", e);
+    }
+  }
+
+  static ThreadFactory namedThreadFactory(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return r -> {
+      Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+}
@@ -60,6 +60,10 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
 
   private boolean allowShutdown = true;
 
+  private int threadsPerInformer;
+  private boolean virtualThreads;
+  private String threadNamePrefix = "informer";
+
   private String name;
   private String namespace;
 
@@ -110,6 +114,32 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
     return this;
   }
 
+  @Override
+  public synchronized SharedInformerFactory withExecutorPerInformer(int maxThreads) {
+    if (maxThreads <= 0) {
+      throw new IllegalArgumentException("Invalid maxThreads provided, It should be a positive value");
+    }
+    this.threadsPerInformer = maxThreads;
+    this.virtualThreads = false;
+    return this;
+  }
+
+  @Override
+  public synchronized SharedInformerFactory withVirtualThreads() {
+    if (!InformerExecutors.isVirtualThreadSupported()) {
+      throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+    }
+    this.virtualThreads = true;
+    this.threadsPerInformer = 0;
+    return this;
+  }
+
+  @Override
+  public synchronized SharedInformerFactory withThreadNamePrefix(String prefix) {
+    this.threadNamePrefix = prefix;
+    return this;
+  }
+
   /**
    * Constructs and returns a shared index informer with resync period specified. And the
    * informer cache will be overwritten.
@@ -217,12 +247,36 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
 
     HasMetadataOperationsImpl<T, L> resources = getResourceOperation(apiTypeClass, apiListTypeClass, rdc);
 
+    ExecutorService ownedExecutor = newInformerExecutor(apiTypeClass);
     // we want the resources to no longer reference a resourceVersion
-    SharedIndexInformer<T> informer = new DefaultSharedIndexInformer<>(apiTypeClass, resources.withResourceVersion(null), resyncPeriodInMillis, informerExecutor);
+    DefaultSharedIndexInformer<T, L> informer = new DefaultSharedIndexInformer<>(apiTypeClass,
+        resources.withResourceVersion(null), resyncPeriodInMillis,
+        ownedExecutor == null ? informerExecutor : ownedExecutor);
+    if (ownedExecutor != null) {
+      // a stopped informer can't be restarted, so its own executor is no longer needed
+      informer.shutdownOnStop(ownedExecutor);
+    }
     this.informers.add(new AbstractMap.SimpleEntry<>(resources.getOperationContext(), informer));
     return informer;
   }
 
+  /**
+   * Create the executor for a new informer, if one is configured. Informers are still started using the
+   * factory executor and list their pages on the common executor, so a small per informer executor is only
+   * used for its own event handlers and resync.
+   *
+   * @return the executor, or null if the informer should use the factory executor
+   */
+  private ExecutorService newInformerExecutor(Class<?> apiTypeClass) {
+    String executorName = threadNamePrefix + "-" + apiTypeClass.getSimpleName();
+    if (virtualThreads) {
+      return InformerExecutors.newVirtualThreadExecutor(executorName);
+    } else if (threadsPerInformer > 0) {
+      return InformerExecutors.newBoundedExecutor(executorName, threadsPerInformer);
+    }
+    return null;
+  }
+
   private <T extends HasMetadata, L extends KubernetesResourceList<T>> HasMetadataOperationsImpl<T, L> getResourceOperation(
       Class<T> apiTypeClass, Class<L> apiListTypeClass, ResourceDefinitionContext rdc) {
 
@@ -303,6 +357,7 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
    */
   @Override
   public synchronized void stopAllRegisteredInformers(boolean shutDownThreadPool) {
+    // this also shuts down the informers' own executors
     informers.forEach(e -> e.getValue().stop());
     if (shutDownThreadPool && allowShutdown) {
       informerExecutor.shutdown();
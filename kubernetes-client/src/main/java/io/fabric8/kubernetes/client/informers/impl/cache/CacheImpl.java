@@ -24,7 +24,6 @@ import io.fabric8.kubernetes.client.utils.Utils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +33,10 @@ import java.util.function.Function;
 
 /**
  * It basically saves and indexes all the entries.
+ * <p>
+ * Mutations are serialized, while reads (including the index lookups) are lock-free and
+ * never block on the thread applying watch events. Reads observe a weakly consistent view
+ * of the indices, in the same way as iterating over a {@link ConcurrentHashMap}.
  *
  * @param <T> type for cache object
  */
@@ -45,13 +48,16 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
   public static final String NAMESPACE_INDEX = "namespace";
 
   // indexers stores index functions by their names
-  private final Map<String, Function<T, List<String>>> indexers = new HashMap<>();
+  private final Map<String, Function<T, List<String>>> indexers = new ConcurrentHashMap<>();
 
   // items stores object instances
   private final Map<String, T> items = new ConcurrentHashMap<>();
 
+  // ConcurrentHashMap does not permit null keys, so null index values are stored under this placeholder
+  private static final Object NULL_INDEX_VALUE = new Object();
+
   // indices stores objects' key by their indices
-  private final Map<String, Map<String, Set<String>>> indices = new HashMap<>();
+  private final Map<String, Map<Object, Set<String>>> indices = new ConcurrentHashMap<>();
 
   public CacheImpl() {
     this(NAMESPACE_INDEX, Cache::metaNamespaceIndexFunc, Cache::metaNamespaceKeyFunc);
@@ -68,7 +74,7 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return registered indexers
    */
   @Override
-  public synchronized Map<String, Function<T, List<String>>> getIndexers() {
+  public Map<String, Function<T, List<String>>> getIndexers() {
     return Collections.unmodifiableMap(indexers);
   }
 
@@ -176,31 +182,27 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<T> index(String indexName, T obj) {
-    if (!this.indexers.containsKey(indexName)) {
+  public List<T> index(String indexName, T obj) {
+    Function<T, List<String>> indexFunc = this.indexers.get(indexName);
+    Map<Object, Set<String>> index = this.indices.get(indexName);
+    if (indexFunc == null || index == null) {
       throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
     }
-    Function<T, List<String>> indexFunc = this.indexers.get(indexName);
     List<String> indexKeys = indexFunc.apply(obj);
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    if (index.isEmpty()) {
+    if (index.isEmpty() || indexKeys == null) {
       return new ArrayList<>();
     }
 
     Set<String> returnKeySet = new HashSet<>();
     for (String indexKey : indexKeys) {
-      Set<String> set = index.get(indexKey);
-      if (set.isEmpty()) {
+      Set<String> set = index.get(toIndexValue(indexKey));
+      if (set == null) {
         continue;
       }
       returnKeySet.addAll(set);
     }
 
-    List<T> items = new ArrayList<>(returnKeySet.size());
-    for (String absoluteKey : returnKeySet) {
-      items.add(this.items.get(absoluteKey));
-    }
-    return items;
+    return getItems(returnKeySet);
   }
 
   /**
@@ -211,17 +213,12 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<String> indexKeys(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
-    }
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    Set<String> set = index.get(indexKey);
-    List<String> keys = new ArrayList<>(set.size());
-    for (String key : set) {
-      keys.add(key);
+  public List<String> indexKeys(String indexName, String indexKey) {
+    Set<String> set = getIndex(indexName).get(toIndexValue(indexKey));
+    if (set == null) {
+      return new ArrayList<>();
     }
-    return keys;
+    return new ArrayList<>(set);
   }
 
   /**
@@ -232,20 +229,38 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<T> byIndex(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
-    }
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    Set<String> set = index.get(indexKey);
+  public List<T> byIndex(String indexName, String indexKey) {
+    Set<String> set = getIndex(indexName).get(toIndexValue(indexKey));
     if (set == null) {
       return Arrays.asList();
     }
-    List<T> items = new ArrayList<>(set.size());
-    for (String key : set) {
-      items.add(this.items.get(key));
+    return getItems(set);
+  }
+
+  private Map<Object, Set<String>> getIndex(String indexName) {
+    Map<Object, Set<String>> index = this.indices.get(indexName);
+    if (index == null || !this.indexers.containsKey(indexName)) {
+      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
     }
-    return items;
+    return index;
+  }
+
+  private static Object toIndexValue(String indexValue) {
+    return indexValue == null ? NULL_INDEX_VALUE : indexValue;
+  }
+
+  /**
+   * Resolve the keys against the items, skipping those that have been concurrently removed
+   */
+  private List<T> getItems(Set<String> keys) {
+    List<T> result = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      T item = this.items.get(key);
+      if (item != null) {
+        result.add(item);
+      }
+    }
+    return result;
   }
 
   /**
@@ -265,17 +280,17 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
     for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexers.entrySet()) {
       String indexName = indexEntry.getKey();
       Function<T, List<String>> indexFunc = indexEntry.getValue();
-      Map<String, Set<String>> index = this.indices.get(indexName);
+      Map<Object, Set<String>> index = this.indices.get(indexName);
 
       updateIndex(key, newObj, indexFunc, index);
     }
   }
 
-  private void updateIndex(String key, T newObj, Function<T, List<String>> indexFunc, Map<String, Set<String>> index) {
+  private void updateIndex(String key, T newObj, Function<T, List<String>> indexFunc, Map<Object, Set<String>> index) {
     List<String> indexValues = indexFunc.apply(newObj);
     if (indexValues != null && !indexValues.isEmpty()) {
       for (String indexValue : indexValues) {
-        Set<String> indexSet = index.computeIfAbsent(indexValue, k -> new HashSet<>());
+        Set<String> indexSet = index.computeIfAbsent(toIndexValue(indexValue), k -> ConcurrentHashMap.newKeySet());
         indexSet.add(key);
       }
     }
@@ -297,15 +312,16 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
         continue;
       }
 
-      Map<String, Set<String>> index = this.indices.get(indexEntry.getKey());
+      Map<Object, Set<String>> index = this.indices.get(indexEntry.getKey());
       if (index == null) {
         continue;
       }
       for (String indexValue : indexValues) {
-        Set<String> indexSet = index.get(indexValue);
-        if (indexSet != null) {
+        index.computeIfPresent(toIndexValue(indexValue), (k, indexSet) -> {
           indexSet.remove(key);
-        }
+          // drop empty buckets so that index keys for deleted objects don't accumulate
+          return indexSet.isEmpty() ? null : indexSet;
+        });
       }
     }
   }
@@ -317,13 +333,13 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param indexFunc the index func
    */
   public synchronized CacheImpl<T> addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
-    HashMap<String, Set<String>> index = new HashMap<>();
+    Map<Object, Set<String>> index = new ConcurrentHashMap<>();
+    for (Map.Entry<String, T> entry : items.entrySet()) {
+      updateIndex(entry.getKey(), entry.getValue(), indexFunc, index);
+    }
+    // publish the fully populated index before the function so that readers never see a partial index
     this.indices.put(indexName, index);
     this.indexers.put(indexName, indexFunc);
-
-    for (String key : items.keySet()) {
-      updateIndex(key, items.get(key), indexFunc, index);
-    }
     return this;
   }
 
@@ -387,8 +403,8 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
 
   @Override
   public synchronized void removeIndexer(String name) {
-    this.indices.remove(name);
     this.indexers.remove(name);
+    this.indices.remove(name);
   }
 
 }
@@ -15,10 +15,22 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 /**
  * ProcessorListener implements Runnable interface. It's supposed to run in background
@@ -30,24 +42,270 @@ import java.time.temporal.ChronoUnit;
  * https://github.com/kubernetes/client-go/blob/master/tools/cache/shared_informer.go#L570
  *
  * <br>
- * Modified to execute loosely coupled from its processing thread
+ * Modified to execute loosely coupled from its processing thread - notifications are held in a queue
+ * owned by the listener and are delivered serially using the supplied executor.
  *
  * @param <T> type of ProcessorListener
  */
 public class ProcessorListener<T> {
+  private static final Logger log = LoggerFactory.getLogger(ProcessorListener.class);
+
+  /**
+   * The most notifications delivered by a single executor task, before delivery is resubmitted
+   * so that a busy listener does not hold a thread of a shared executor indefinitely
+   */
+  static final int DRAIN_BATCH_SIZE = 64;
+
   private long resyncPeriodInMillis;
   private ZonedDateTime nextResync;
   private ResourceEventHandler<? super T> handler;
 
+  private final Executor executor;
+  private final int capacity;
+  private final QueueOverflowPolicy overflowPolicy;
+  private final boolean coalesceUpdates;
+  private final Function<T, String> keyFunction;
+
+  // guarded by queue
+  private final Deque<Pending<T>> queue = new ArrayDeque<>();
+  // the latest pending notification for a given key, if it is an update
+  private final Map<String, Pending<T>> pendingUpdates = new HashMap<>();
+  private boolean draining;
+  private boolean held;
+  private long dropped;
+  private volatile InformerMetrics metrics = InformerMetrics.NOOP;
+
   public ProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodInMillis) {
+    this(handler, resyncPeriodInMillis, Runnable::run, Integer.MAX_VALUE, QueueOverflowPolicy.BLOCK, false, null);
+  }
+
+  /**
+   * @param executor used to deliver the notifications, each listener will only use a single thread at a time
+   * @param capacity the maximum number of pending notifications
+   * @param overflowPolicy what to do when the capacity is reached
+   * @param coalesceUpdates if an update should always be merged into a pending update for the same key
+   * @param keyFunction the key of an object, used to coalesce updates. May be null if coalescing is not used
+   */
+  public ProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodInMillis, Executor executor,
+      int capacity, QueueOverflowPolicy overflowPolicy, boolean coalesceUpdates, Function<T, String> keyFunction) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Invalid capacity provided, It should be a positive value");
+    }
     this.resyncPeriodInMillis = resyncPeriodInMillis;
     this.handler = handler;
+    this.executor = executor;
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.coalesceUpdates = coalesceUpdates;
+    this.keyFunction = keyFunction;
 
     determineNextResync(ZonedDateTime.now());
   }
 
+  /**
+   * Queue the notification for delivery.
+   * <br>
+   * Depending upon the {@link QueueOverflowPolicy} this may block if the queue is full.
+   */
   public void add(Notification<T> notification) {
-    notification.handle(handler);
+    add(notification, true);
+  }
+
+  /**
+   * Queue the notification for delivery without blocking.
+   *
+   * @return false if the queue is full and the {@link QueueOverflowPolicy} requires waiting for capacity,
+   *         in which case the notification has not been queued
+   */
+  public boolean tryAdd(Notification<T> notification) {
+    return add(notification, false);
+  }
+
+  private boolean add(Notification<T> notification, boolean wait) {
+    synchronized (queue) {
+      String key = getKey(notification);
+      if (coalesceUpdates && coalesce(key, notification)) {
+        return true;
+      }
+      if (queue.size() >= capacity) {
+        if (overflowPolicy == QueueOverflowPolicy.DROP_OLDEST) {
+          Pending<T> oldest = queue.poll();
+          removePendingUpdate(oldest);
+          dropped++;
+          metrics.notificationDropped();
+          log.debug("Dropped notification for {} as the queue is full", handler);
+        } else if (overflowPolicy == QueueOverflowPolicy.COALESCE && coalesce(key, notification)) {
+          return true;
+        } else if (!wait && draining) {
+          return false;
+        } else {
+          awaitCapacity();
+        }
+      }
+      Pending<T> pending = new Pending<>(key, notification, System.nanoTime());
+      queue.offer(pending);
+      metrics.notificationQueued(queue.size());
+      if (key != null) {
+        if (notification instanceof UpdateNotification) {
+          pendingUpdates.put(key, pending);
+        } else {
+          pendingUpdates.remove(key);
+        }
+      }
+      if (draining || held) {
+        return true;
+      }
+      draining = true;
+    }
+    submitDrain();
+    return true;
+  }
+
+  /**
+   * Queue notifications without delivering them until {@link #release(List)} is called
+   */
+  void hold() {
+    synchronized (queue) {
+      held = true;
+    }
+  }
+
+  /**
+   * Queue the notifications ahead of any that were added while held, and start delivery.
+   * <br>
+   * These are not subject to the capacity.
+   */
+  void release(List<Notification<T>> first) {
+    synchronized (queue) {
+      for (int i = first.size() - 1; i >= 0; i--) {
+        Notification<T> notification = first.get(i);
+        queue.addFirst(new Pending<>(getKey(notification), notification, System.nanoTime()));
+        metrics.notificationQueued(queue.size());
+      }
+      held = false;
+      if (draining || queue.isEmpty()) {
+        return;
+      }
+      draining = true;
+    }
+    submitDrain();
+  }
+
+  private void submitDrain() {
+    try {
+      executor.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      // nothing can be delivered once the executor is shut down, so don't leave a producer waiting for capacity
+      synchronized (queue) {
+        log.debug("Discarding {} notifications for {} as the executor rejected delivery", queue.size(), handler);
+        queue.clear();
+        pendingUpdates.clear();
+        draining = false;
+        queue.notifyAll();
+      }
+    }
+  }
+
+  private void awaitCapacity() {
+    try {
+      while (queue.size() >= capacity && draining) {
+        queue.wait();
+      }
+    } catch (InterruptedException e) {
+      // exceed the capacity rather than lose the notification
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Merge the update into a pending update for the same key, which must be the latest notification for that key
+   */
+  private boolean coalesce(String key, Notification<T> notification) {
+    if (key == null || !(notification instanceof UpdateNotification)) {
+      return false;
+    }
+    Pending<T> pending = pendingUpdates.get(key);
+    if (pending == null) {
+      return false;
+    }
+    pending.notification = new UpdateNotification<>(pending.notification.getOldObject(), notification.getNewObject());
+    return true;
+  }
+
+  private String getKey(Notification<T> notification) {
+    if (keyFunction == null) {
+      return null;
+    }
+    T obj = notification.getNewObject() != null ? notification.getNewObject() : notification.getOldObject();
+    return obj == null ? null : keyFunction.apply(obj);
+  }
+
+  private void removePendingUpdate(Pending<T> pending) {
+    if (pending != null && pending.key != null && pendingUpdates.get(pending.key) == pending) {
+      pendingUpdates.remove(pending.key);
+    }
+  }
+
+  private void drain() {
+    boolean done = false;
+    try {
+      for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+        Notification<T> notification;
+        long queuedAt;
+        synchronized (queue) {
+          Pending<T> pending = queue.poll();
+          if (pending == null) {
+            done = true;
+            draining = false;
+            return;
+          }
+          removePendingUpdate(pending);
+          queue.notifyAll();
+          notification = pending.notification;
+          queuedAt = pending.queuedAt;
+        }
+        long start = System.nanoTime();
+        try {
+          notification.handle(handler);
+        } catch (Exception ex) {
+          log.error("Failed invoking {} event handler: {}", handler, ex.getMessage(), ex);
+        }
+        metrics.notificationHandled(start - queuedAt, System.nanoTime() - start);
+      }
+      done = true;
+    } finally {
+      if (!done) {
+        // an error escaped the handler, allow the next notification to restart delivery
+        synchronized (queue) {
+          draining = false;
+          queue.notifyAll();
+        }
+      }
+    }
+    // the batch is complete but the queue may not be empty, still draining so continue in a new task
+    submitDrain();
+  }
+
+  /**
+   * @return the number of notifications waiting to be delivered
+   */
+  public int getQueueSize() {
+    synchronized (queue) {
+      return queue.size();
+    }
+  }
+
+  /**
+   * @return the number of notifications discarded due to {@link QueueOverflowPolicy#DROP_OLDEST}
+   */
+  public long getDroppedCount() {
+    synchronized (queue) {
+      return dropped;
+    }
+  }
+
+  public void setMetrics(InformerMetrics metrics) {
+    this.metrics = metrics;
   }
 
   public void determineNextResync(ZonedDateTime now) {
@@ -62,6 +320,18 @@ public class ProcessorListener<T> {
     return this.resyncPeriodInMillis != 0 && (now.isAfter(this.nextResync) || now.equals(this.nextResync));
   }
 
+  private static final class Pending<T> {
+    private final String key;
+    private Notification<T> notification;
+    private final long queuedAt;
+
+    private Pending(String key, Notification<T> notification, long queuedAt) {
+      this.key = key;
+      this.notification = notification;
+      this.queuedAt = queuedAt;
+    }
+  }
+
   public abstract static class Notification<T> {
     private final T oldObject;
     private final T newObject;
@@ -22,6 +22,7 @@ import io.fabric8.kubernetes.client.informers.cache.Cache;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /**
  * Wraps a {@link Cache} and a {@link SharedProcessor} to distribute events related to changes and syncs
@@ -30,12 +31,22 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
 
   private CacheImpl<T> cache;
   private SharedProcessor<T> processor;
+  private volatile UnaryOperator<T> transform = UnaryOperator.identity();
 
   public ProcessorStore(CacheImpl<T> cache, SharedProcessor<T> processor) {
     this.cache = cache;
     this.processor = processor;
   }
 
+  /**
+   * Set the function applied to each object before it is stored or passed to the handlers
+   *
+   * @param transform the function, or null for none
+   */
+  public void setTransform(UnaryOperator<T> transform) {
+    this.transform = transform == null ? UnaryOperator.identity() : transform;
+  }
+
   @Override
   public void add(T obj) {
     update(obj);
@@ -43,6 +54,12 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
 
   @Override
   public void update(T obj) {
+    T existing = this.cache.get(obj);
+    if (existing != null && existing != obj && isSameVersion(existing, obj)) {
+      // nothing has changed, typically seen on relist - avoid updating the indices
+      return;
+    }
+    obj = transform.apply(obj);
     T oldObj = this.cache.put(obj);
     if (oldObj != null) {
       if (!Objects.equals(oldObj.getMetadata().getResourceVersion(), obj.getMetadata().getResourceVersion())) {
@@ -53,11 +70,16 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
     }
   }
 
+  private static boolean isSameVersion(HasMetadata oldObj, HasMetadata obj) {
+    String resourceVersion = obj.getMetadata().getResourceVersion();
+    return resourceVersion != null && Objects.equals(oldObj.getMetadata().getResourceVersion(), resourceVersion);
+  }
+
   @Override
   public void delete(T obj) {
     Object oldObj = this.cache.remove(obj);
     if (oldObj != null) {
-      this.processor.distribute(new ProcessorListener.DeleteNotification<>(obj, false), false);
+      this.processor.distribute(new ProcessorListener.DeleteNotification<>(transform.apply(obj), false), false);
     }
   }
 
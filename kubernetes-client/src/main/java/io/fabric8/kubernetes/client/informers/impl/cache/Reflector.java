@@ -17,11 +17,13 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
 import io.fabric8.kubernetes.client.informers.ListerWatcher;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
@@ -29,6 +31,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T>> {
@@ -43,6 +47,7 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   private volatile boolean running;
   private volatile boolean watching;
   private final AtomicReference<Watch> watch;
+  private volatile InformerMetrics metrics = InformerMetrics.NOOP;
 
   public Reflector(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, SyncableStore<T> store) {
     this.apiTypeClass = apiTypeClass;
@@ -72,28 +77,84 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
    * <br>Should be called only at start and when HttpGone is seen.
    */
   public void listSyncAndWatch() {
+    listSyncAndWatch(false);
+  }
+
+  /**
+   * <br>Same as {@link #listSyncAndWatch()}, but without blocking the calling thread.
+   * <br>The pages are processed, and the watch is started, on the common executor.
+   *
+   * @return a future that completes once the watch has been started
+   */
+  public CompletableFuture<Void> start() {
     running = true;
-    KubernetesResourceList<T> result = null;
-    String continueVal = null;
+    long start = System.nanoTime();
     Set<String> nextKeys = new LinkedHashSet<>();
-    do {
-      result = listerWatcher
-          .list(new ListOptionsBuilder().withLimit(listerWatcher.getLimit()).withContinue(continueVal).build());
-      result.getItems().forEach(i -> {
-        String key = store.getKey(i);
-        // process the updates immediately so we don't need to hold the item
-        store.update(i);
-        nextKeys.add(key);
-      });
-      continueVal = result.getMetadata().getContinue();
-    } while (Utils.isNotNullOrEmpty(continueVal));
-    
+    return listAsync(nextKeys, null)
+        .thenApply(result -> completeList(result, nextKeys, start, false))
+        // opening the watch waits for the websocket, so it must not be run on the http callback thread
+        .thenAcceptAsync(this::startWatcher, Utils.getCommonExecutorSerive());
+  }
+
+  private CompletableFuture<L> listAsync(Set<String> nextKeys, String continueVal) {
+    return listerWatcher.submitList(pageOptions(continueVal)).thenComposeAsync(result -> {
+      processPage(result, nextKeys);
+      String nextContinue = result.getMetadata().getContinue();
+      if (Utils.isNotNullOrEmpty(nextContinue)) {
+        return listAsync(nextKeys, nextContinue);
+      }
+      return CompletableFuture.completedFuture(result);
+    }, Utils.getCommonExecutorSerive());
+  }
+
+  private void listSyncAndWatch(boolean relist) {
+    running = true;
+    long start = System.nanoTime();
+    Set<String> nextKeys = new LinkedHashSet<>();
+    KubernetesResourceList<T> result = listerWatcher.list(pageOptions(null));
+    while (true) {
+      String continueVal = result.getMetadata().getContinue();
+      CompletableFuture<L> nextPage = null;
+      if (Utils.isNotNullOrEmpty(continueVal)) {
+        // overlap the fetch of the next page with processing the current one - this must not
+        // be run on the informer executor, as that may be the thread waiting on the result
+        nextPage = listerWatcher.submitList(pageOptions(continueVal));
+      }
+      processPage(result, nextKeys);
+      if (nextPage == null) {
+        break;
+      }
+      try {
+        result = nextPage.join();
+      } catch (CompletionException e) {
+        throw KubernetesClientException.launderThrowable(e.getCause());
+      }
+    }
+
+    startWatcher(completeList(result, nextKeys, start, relist));
+  }
+
+  private void processPage(KubernetesResourceList<T> result, Set<String> nextKeys) {
+    result.getItems().forEach(i -> {
+      String key = store.getKey(i);
+      // process the updates immediately so we don't need to hold the item
+      store.update(i);
+      nextKeys.add(key);
+    });
+  }
+
+  private String completeList(KubernetesResourceList<T> result, Set<String> nextKeys, long start, boolean relist) {
     store.retainAll(nextKeys);
-    
+    metrics.listCompleted(nextKeys.size(), System.nanoTime() - start, relist);
+
     final String latestResourceVersion = result.getMetadata().getResourceVersion();
     lastSyncResourceVersion = latestResourceVersion;
     log.debug("Listing items ({}) for resource {} v{}", nextKeys.size(), apiTypeClass, latestResourceVersion);
-    startWatcher(latestResourceVersion);
+    return latestResourceVersion;
+  }
+
+  private ListOptions pageOptions(String continueVal) {
+    return new ListOptionsBuilder().withLimit(listerWatcher.getLimit()).withContinue(continueVal).build();
   }
 
   private synchronized void startWatcher(final String latestResourceVersion) {
@@ -102,11 +163,14 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     }
     log.debug("Starting watcher for resource {} v{}", apiTypeClass, latestResourceVersion);
     // there's no need to stop the old watch, that will happen automatically when this call completes
+    // bookmarks keep the resourceVersion current, which makes it unlikely that a reconnect will see http gone
     watch.set(
         listerWatcher.watch(new ListOptionsBuilder().withResourceVersion(latestResourceVersion)
             .withTimeoutSeconds(null)
+            .withAllowWatchBookmarks(true)
             .build(), watcher));
     watching = true;
+    metrics.watchStarted();
   }
   
   private synchronized void watchStopped() {
@@ -124,7 +188,12 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   public boolean isWatching() {
     return watching;
   }
-  
+
+  public void setMetrics(InformerMetrics metrics) {
+    this.metrics = metrics;
+    listerWatcher.setMetrics(metrics);
+  }
+
   class ReflectorWatcher implements Watcher<T> {
 
     @Override
@@ -138,6 +207,7 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
       if (log.isDebugEnabled()) {
         log.debug("Event received {} {} resourceVersion {}", action.name(), resource.getKind(), resource.getMetadata().getResourceVersion());
       }
+      long start = System.nanoTime();
       switch (action) {
         case ERROR:
           throw new KubernetesClientException("ERROR event");
@@ -150,7 +220,11 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
         case DELETED:
           store.delete(resource);
           break;
+        case BOOKMARK:
+          // only the resourceVersion is meaningful
+          break;
       }
+      metrics.eventApplied(action, System.nanoTime() - start);
       lastSyncResourceVersion = resource.getMetadata().getResourceVersion();
     }
 
@@ -161,8 +235,10 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
       boolean restarted = false;
       try {
         if (exception.isHttpGone()) {
-          log.debug("Watch restarting due to http gone");
-          listSyncAndWatch();
+          // the last known resourceVersion, including any bookmark, has been compacted
+          // so only a relist can resync the store
+          log.debug("Watch restarting due to http gone at v{}", lastSyncResourceVersion);
+          listSyncAndWatch(true);
           restarted = true;
         } else {
           log.warn("Watch closing with exception", exception);
@@ -15,18 +15,20 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -37,23 +39,45 @@ import java.util.function.Supplier;
  * https://github.com/kubernetes-client/java/blob/master/util/src/main/java/io/kubernetes/client/informer/cache/SharedProcessor.java
  *
  * <br>
- * Modified to simplify threading
+ * Modified to simplify threading - each listener has its own queue, which is delivered
+ * serially using the shared executor
  */
 public class SharedProcessor<T> {
-  private static final Logger log = LoggerFactory.getLogger(SharedProcessor.class);
 
-  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // guards changes to the listeners, distribution iterates them without locking
+  private final Lock lock = new ReentrantLock();
 
-  private final List<ProcessorListener<T>> listeners = new ArrayList<>();
-  private final List<ProcessorListener<T>> syncingListeners = new ArrayList<>();
+  private final List<ProcessorListener<T>> listeners = new CopyOnWriteArrayList<>();
+  private final List<ProcessorListener<T>> syncingListeners = new CopyOnWriteArrayList<>();
   private final Executor executor;
+  private final Function<T, String> keyFunction;
+  private volatile int queueCapacity = Integer.MAX_VALUE;
+  private volatile QueueOverflowPolicy overflowPolicy = QueueOverflowPolicy.BLOCK;
+  private volatile boolean coalesceUpdates;
+  private volatile InformerMetrics metrics = InformerMetrics.NOOP;
 
   public SharedProcessor() {
-    this(Runnable::run);
+    this(Runnable::run, null);
   }
 
-  public SharedProcessor(Executor executor) {
+  /**
+   * @param executor the executor shared by the listeners
+   * @param keyFunction the key of an object, may be null if updates should not be coalesced
+   */
+  public SharedProcessor(Executor executor, Function<T, String> keyFunction) {
     this.executor = executor;
+    this.keyFunction = keyFunction;
+  }
+
+  /**
+   * Sets the queue limit for subsequently added listeners
+   */
+  public void setEventQueueLimit(int capacity, QueueOverflowPolicy policy) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Invalid capacity provided, It should be a positive value");
+    }
+    this.queueCapacity = capacity;
+    this.overflowPolicy = policy;
   }
 
   /**
@@ -62,14 +86,34 @@ public class SharedProcessor<T> {
    * @param processorListener specific processor listener
    */
   public void addListener(final ProcessorListener<T> processorListener) {
-    lock.writeLock().lock();
+    lock.lock();
     try {
       this.listeners.add(processorListener);
       if (processorListener.isReSync()) {
         this.syncingListeners.add(processorListener);
       }
     } finally {
-      lock.writeLock().unlock();
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Sets whether subsequently added listeners coalesce pending updates
+   */
+  public void setCoalesceUpdates(boolean coalesceUpdates) {
+    this.coalesceUpdates = coalesceUpdates;
+  }
+
+  /**
+   * Sets the metrics for the current and subsequently added listeners
+   */
+  public void setMetrics(InformerMetrics metrics) {
+    lock.lock();
+    try {
+      this.metrics = metrics;
+      listeners.forEach(l -> l.setMetrics(metrics));
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -80,84 +124,99 @@ public class SharedProcessor<T> {
    * @param isSync whether in sync or not
    */
   public void distribute(ProcessorListener.Notification<T> obj, boolean isSync) {
-    distribute(l -> l.add(obj), isSync);
+    distributeTo(listener -> obj, isSync);
   }
 
   /**
-   * Distribute the operation to the respective listeners
+   * Distribute the operation to the respective listeners, it will be run
+   * in order with their other notifications
    */
   public void distribute(Consumer<ProcessorListener<T>> operation, boolean isSync) {
-    // obtain the list to call outside before submitting
-    lock.readLock().lock();
-    List<ProcessorListener<T>> toCall;
-    try {
-      if (isSync) {
-        toCall = new ArrayList<>(syncingListeners);
-      } else {
-        toCall = new ArrayList<>(listeners);
+    distributeTo(listener -> new ProcessorListener.Notification<T>(null, null) {
+      @Override
+      public void handle(ResourceEventHandler<? super T> resourceEventHandler) {
+        operation.accept(listener);
       }
-    } finally {
-      lock.readLock().unlock();
-    }
-    executor.execute(() -> {
-      for (ProcessorListener<T> listener : toCall) {
-        try {
-          operation.accept(listener);
-        } catch (Exception ex) {
-          log.error("Failed invoking {} event handler: {}", listener.getHandler(), ex.getMessage(), ex);
+    }, isSync);
+  }
+
+  private void distributeTo(Function<ProcessorListener<T>, ProcessorListener.Notification<T>> notification,
+      boolean isSync) {
+    // the copy on write lists may be iterated while a handler that is called inline stops the informer
+    List<ProcessorListener<T>> toCall = isSync ? syncingListeners : listeners;
+    List<ProcessorListener<T>> full = null;
+    for (ProcessorListener<T> listener : toCall) {
+      if (!listener.tryAdd(notification.apply(listener))) {
+        if (full == null) {
+          full = new ArrayList<>();
         }
+        full.add(listener);
+      }
+    }
+    // wait for the full queues last, so that the other listeners are not held up by a slow one
+    if (full != null) {
+      for (ProcessorListener<T> listener : full) {
+        listener.add(notification.apply(listener));
       }
-    });
+    }
   }
 
   public boolean shouldResync() {
-    lock.writeLock().lock();
+    lock.lock();
     boolean resyncNeeded = false;
     try {
-      this.syncingListeners.clear();
+      List<ProcessorListener<T>> toSync = new ArrayList<>();
 
       ZonedDateTime now = ZonedDateTime.now();
       for (ProcessorListener<T> listener : this.listeners) {
         if (listener.shouldResync(now)) {
           resyncNeeded = true;
-          this.syncingListeners.add(listener);
+          toSync.add(listener);
           listener.determineNextResync(now);
         }
       }
+      this.syncingListeners.clear();
+      this.syncingListeners.addAll(toSync);
     } finally {
-      lock.writeLock().unlock();
+      lock.unlock();
     }
     return resyncNeeded;
   }
 
   public void stop() {
-    lock.writeLock().lock();
+    lock.lock();
     try {
       syncingListeners.clear();
       listeners.clear();
     } finally {
-      lock.writeLock().unlock();
+      lock.unlock();
     }
   }
 
   /**
-   * Adds a new listener. When running this will pause event distribution until
-   * the new listener has received an initial set of add events
+   * Adds a new listener. The listener is registered before the initial items are obtained, so that no
+   * later change is missed, and the initial add events are delivered ahead of any notifications
+   * that were distributed to it in the meantime
    */
   public ProcessorListener<T> addProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodMillis,
       Supplier<Collection<T>> initialItems) {
-    lock.writeLock().lock();
+    lock.lock();
     try {
-      ProcessorListener<T> listener = new ProcessorListener<>(handler, resyncPeriodMillis);
+      ProcessorListener<T> listener = new ProcessorListener<>(handler, resyncPeriodMillis, executor, queueCapacity,
+          overflowPolicy, coalesceUpdates, keyFunction);
+      listener.setMetrics(metrics);
+      listener.hold();
 
+      addListener(listener);
+
+      List<ProcessorListener.Notification<T>> initial = new ArrayList<>();
       for (T item : initialItems.get()) {
-        listener.add(new ProcessorListener.AddNotification<>(item));
+        initial.add(new ProcessorListener.AddNotification<>(item));
       }
-
-      addListener(listener);
+      listener.release(initial);
       return listener;
     } finally {
-      lock.writeLock().unlock();
+      lock.unlock();
     }
   }
 }
@@ -40,6 +40,7 @@ public class PatchUtils {
   private static class SingletonHolder {
     public static final ObjectMapper patchMapper;
     public static final ObjectMapper yamlMapper;
+    public static final UnchangedValuePruner pruner;
 
     static {
       patchMapper = Serialization.jsonMapper().copy();
@@ -49,6 +50,8 @@ public class PatchUtils {
       yamlMapper = Serialization.yamlMapper().copy();
       yamlMapper.addMixIn(ObjectMeta.class, ObjectMetaMixIn.class);
       yamlMapper.setConfig(yamlMapper.getSerializationConfig().without(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS));
+
+      pruner = new UnchangedValuePruner(patchMapper);
     }
   }
 
@@ -81,10 +84,16 @@ public class PatchUtils {
     return result.apply(mapper, value);
   }
 
+  /**
+   * Compute the json patch from current to updated.
+   * <p>
+   * Unchanged values are removed from both objects first, so that only the changed parts are serialized and compared.
+   */
   public static String jsonDiff(Object current, Object updated, boolean omitStatus) {
+    Object[] pruned = SingletonHolder.pruner.prune(current, updated);
     try {
       return SingletonHolder.patchMapper.writeValueAsString(
-          JsonDiff.asJson(withoutRuntimeState(current, omitStatus), withoutRuntimeState(updated, omitStatus)));
+          JsonDiff.asJson(withoutRuntimeState(pruned[0], omitStatus), withoutRuntimeState(pruned[1], omitStatus)));
     } catch (JsonProcessingException e) {
       throw KubernetesClientException.launderThrowable(e);
     }
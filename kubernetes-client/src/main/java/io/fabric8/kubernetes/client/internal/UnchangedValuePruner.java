@@ -0,0 +1,210 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.internal;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Removes the values that are the same in two versions of an object before they are serialized and diffed.
+ * <p>
+ * Values that are equal on both sides can't contribute to a json patch, so model fields and map entries that
+ * are unchanged are cleared from shallow copies of both objects. Only the changed parts then need to be
+ * converted to json trees. Lists are left as is so that the patch paths are unaffected.
+ */
+class UnchangedValuePruner {
+
+  private static final String MODEL_PACKAGE_PREFIX = "io.fabric8.";
+  private static final String ADDITIONAL_PROPERTIES = "additionalProperties";
+
+  private final ObjectMapper mapper;
+  private final Map<Class<?>, Optional<BeanPruner>> pruners = new ConcurrentHashMap<>();
+
+  UnchangedValuePruner(ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  /**
+   * @return the pruned current and updated values
+   */
+  Object[] prune(Object current, Object updated) {
+    if (current == null || updated == null || current.getClass() != updated.getClass()) {
+      return new Object[] { current, updated };
+    }
+    if (current instanceof Map) {
+      return pruneMaps((Map<?, ?>) current, (Map<?, ?>) updated, Collections.emptySet());
+    }
+    Optional<BeanPruner> pruner = pruners.computeIfAbsent(current.getClass(), this::createPruner);
+    if (!pruner.isPresent()) {
+      return new Object[] { current, updated };
+    }
+    try {
+      return pruner.get().prune(current, updated);
+    } catch (ReflectiveOperationException e) {
+      return new Object[] { current, updated };
+    }
+  }
+
+  private static boolean unchanged(Object current, Object updated) {
+    return current == updated || Objects.equals(current, updated);
+  }
+
+  /**
+   * @param retained keys that must not be removed even if unchanged
+   */
+  private Object[] pruneMaps(Map<?, ?> current, Map<?, ?> updated, Set<String> retained) {
+    Map<Object, Object[]> changed = new LinkedHashMap<>();
+    for (Map.Entry<?, ?> entry : current.entrySet()) {
+      Object key = entry.getKey();
+      if (updated.containsKey(key)) {
+        Object updatedValue = updated.get(key);
+        if (retained.contains(key) || !unchanged(entry.getValue(), updatedValue)) {
+          changed.put(key, prune(entry.getValue(), updatedValue));
+        }
+      }
+    }
+    Map<Object, Object> prunedCurrent = new LinkedHashMap<>();
+    current.forEach((k, v) -> copyEntry(k, v, updated, changed, prunedCurrent, 0));
+    Map<Object, Object> prunedUpdated = new LinkedHashMap<>();
+    updated.forEach((k, v) -> copyEntry(k, v, current, changed, prunedUpdated, 1));
+    // an empty map may be omitted when serialized, which would turn a change to its entries into replacing it
+    if ((prunedCurrent.isEmpty() && !current.isEmpty()) || (prunedUpdated.isEmpty() && !updated.isEmpty())) {
+      return new Object[] { current, updated };
+    }
+    return new Object[] { prunedCurrent, prunedUpdated };
+  }
+
+  private static void copyEntry(Object key, Object value, Map<?, ?> other, Map<Object, Object[]> changed,
+      Map<Object, Object> result, int side) {
+    Object[] pruned = changed.get(key);
+    if (pruned != null) {
+      result.put(key, pruned[side]);
+    } else if (!other.containsKey(key)) {
+      result.put(key, value);
+    }
+  }
+
+  private Optional<BeanPruner> createPruner(Class<?> type) {
+    if (Modifier.isAbstract(type.getModifiers()) || type.isArray() || !isModelType(type)) {
+      return Optional.empty();
+    }
+    try {
+      JavaType javaType = mapper.constructType(type);
+      // types with their own serializers, such as Quantity, can't be pruned field by field
+      if (!(mapper.getSerializerProviderInstance().findValueSerializer(javaType) instanceof BeanSerializerBase)) {
+        return Optional.empty();
+      }
+      Set<String> propertyNames = new HashSet<>();
+      for (BeanPropertyDefinition property : mapper.getSerializationConfig().introspect(javaType).findProperties()) {
+        propertyNames.add(property.getName());
+      }
+      Constructor<?> constructor = type.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      List<Field> fields = new ArrayList<>();
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+            field.setAccessible(true);
+            fields.add(field);
+          }
+        }
+      }
+      return Optional.of(new BeanPruner(constructor, fields.toArray(new Field[0]), propertyNames));
+    } catch (JsonMappingException | NoSuchMethodException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Model types, including user types that extend a model type such as CustomResource
+   */
+  private static boolean isModelType(Class<?> type) {
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      if (c.getName().startsWith(MODEL_PACKAGE_PREFIX)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Only fields declared by model types are pruned - user defined fields may be serialized through getters
+   * that combine several fields.
+   */
+  private static boolean isPrunable(Field field) {
+    return !field.getType().isPrimitive() && field.getDeclaringClass().getName().startsWith(MODEL_PACKAGE_PREFIX);
+  }
+
+  private final class BeanPruner {
+
+    private final Constructor<?> constructor;
+    private final Field[] fields;
+    private final Set<String> propertyNames;
+
+    private BeanPruner(Constructor<?> constructor, Field[] fields, Set<String> propertyNames) {
+      this.constructor = constructor;
+      this.fields = fields;
+      this.propertyNames = propertyNames;
+    }
+
+    private Object[] prune(Object current, Object updated) throws ReflectiveOperationException {
+      Object prunedCurrent = constructor.newInstance();
+      Object prunedUpdated = constructor.newInstance();
+      for (Field field : fields) {
+        Object currentValue = field.get(current);
+        Object updatedValue = field.get(updated);
+        if (isPrunable(field)) {
+          if (unchanged(currentValue, updatedValue)) {
+            currentValue = null;
+            updatedValue = null;
+          } else if (currentValue != null && updatedValue != null) {
+            Object[] pruned;
+            if (ADDITIONAL_PROPERTIES.equals(field.getName()) && currentValue instanceof Map
+                && updatedValue instanceof Map) {
+              // additional properties take precedence over fields of the same name when serialized
+              pruned = pruneMaps((Map<?, ?>) currentValue, (Map<?, ?>) updatedValue, propertyNames);
+            } else {
+              pruned = UnchangedValuePruner.this.prune(currentValue, updatedValue);
+            }
+            currentValue = pruned[0];
+            updatedValue = pruned[1];
+          }
+        }
+        field.set(prunedCurrent, currentValue);
+        field.set(prunedUpdated, updatedValue);
+      }
+      return new Object[] { prunedCurrent, prunedUpdated };
+    }
+  }
+
+}
@@ -33,8 +33,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -46,7 +47,7 @@ import static org.mockito.Mockito.when;
 class DryRunTest {
   private HttpClient mockClient;
   private KubernetesClient kubernetesClient;
-  private List<HttpRequest.Builder> builders = new ArrayList<>();
+  private final List<HttpRequest.Builder> builders = new CopyOnWriteArrayList<>();
 
   @BeforeEach
   public void setUp() throws IOException {
@@ -55,6 +56,8 @@ class DryRunTest {
     Config config = new ConfigBuilder().withMasterUrl("https://localhost:8443/").build();
     HttpResponse<InputStream> mockResponse = MockHttpClientUtils.buildResponse(HttpURLConnection.HTTP_OK, "{}");
     when(mockClient.send(any(), Mockito.eq(InputStream.class))).thenReturn(mockResponse);
+    when(mockClient.sendAsync(any(), Mockito.eq(InputStream.class))).thenAnswer(
+        invocation -> CompletableFuture.completedFuture(MockHttpClientUtils.buildResponse(HttpURLConnection.HTTP_OK, "{}")));
     kubernetesClient = new DefaultKubernetesClient(mockClient, config);
     Mockito.when(mockClient.newHttpRequestBuilder()).thenAnswer(answer -> {
       HttpRequest.Builder result = Mockito.mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF);
@@ -181,9 +184,10 @@ class DryRunTest {
     kubernetesClient.resourceList(pod, svc).inNamespace("ns1").dryRun().createOrReplace();
 
     // Then
-    verify(mockClient, times(2)).send(any(), any());
-    assertRequest("POST", "/api/v1/namespaces/ns1/pods", "dryRun=All");
-    assertRequest(1, "POST", "/api/v1/namespaces/ns1/services", "dryRun=All");
+    verify(mockClient, times(2)).sendAsync(any(), any());
+    // the items are created concurrently, so in either order
+    assertRequest(indexOf("/api/v1/namespaces/ns1/pods"), "POST", "/api/v1/namespaces/ns1/pods", "dryRun=All");
+    assertRequest(indexOf("/api/v1/namespaces/ns1/services"), "POST", "/api/v1/namespaces/ns1/services", "dryRun=All");
   }
 
   @Test
@@ -196,15 +200,28 @@ class DryRunTest {
     kubernetesClient.resourceList(pod, svc).inNamespace("ns1").dryRun().withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
 
     // Then
-    verify(mockClient, times(2)).send(any(), any());
-    assertRequest("DELETE", "/api/v1/namespaces/ns1/pods/pod1", "dryRun=All");
-    assertRequest(1, "DELETE", "/api/v1/namespaces/ns1/services/svc1", "dryRun=All");
+    verify(mockClient, times(2)).sendAsync(any(), any());
+    // the items are deleted concurrently, so in either order
+    assertRequest(indexOf("/api/v1/namespaces/ns1/pods/pod1"), "DELETE", "/api/v1/namespaces/ns1/pods/pod1", "dryRun=All");
+    assertRequest(indexOf("/api/v1/namespaces/ns1/services/svc1"), "DELETE", "/api/v1/namespaces/ns1/services/svc1",
+        "dryRun=All");
   }
 
   private Pod getPod(String name) {
     return new PodBuilder().withNewMetadata().withName(name).endMetadata().build();
   }
 
+  private int indexOf(String url) {
+    for (int i = 0; i < builders.size(); i++) {
+      ArgumentCaptor<URL> urlCaptor = ArgumentCaptor.forClass(URL.class);
+      verify(builders.get(i)).url(urlCaptor.capture());
+      if (url.equals(urlCaptor.getValue().getPath())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   private void assertRequest(String method, String url, String queryParam) {
     assertRequest(0, method, url, queryParam);
   }
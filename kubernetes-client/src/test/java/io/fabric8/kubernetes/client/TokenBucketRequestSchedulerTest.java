@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client;
+
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenBucketRequestSchedulerTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  void testBurstThenRate() {
+    TokenBucketRequestScheduler scheduler = new TokenBucketRequestScheduler(10, 2, Collections.emptyMap(), now::get);
+
+    assertEquals(0, scheduler.reserve(1));
+    assertEquals(0, scheduler.reserve(1));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), scheduler.reserve(1));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(200), scheduler.reserve(1));
+  }
+
+  @Test
+  void testRefill() {
+    TokenBucketRequestScheduler scheduler = new TokenBucketRequestScheduler(10, 1, Collections.emptyMap(), now::get);
+
+    assertEquals(0, scheduler.reserve(1));
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+    assertEquals(0, scheduler.reserve(1));
+    // the bucket never holds more than the burst
+    now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+    assertEquals(0, scheduler.reserve(1));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), scheduler.reserve(1));
+  }
+
+  @Test
+  void testWeights() {
+    TokenBucketRequestScheduler scheduler = new TokenBucketRequestScheduler(10, 3,
+        Collections.singletonMap("delete", 3), now::get);
+    HttpRequest delete = mock(HttpRequest.class);
+    when(delete.method()).thenReturn("DELETE");
+    HttpRequest get = mock(HttpRequest.class);
+    when(get.method()).thenReturn("GET");
+
+    assertEquals(3, scheduler.weight(delete));
+    assertEquals(1, scheduler.weight(get));
+    assertEquals(0, scheduler.reserve(scheduler.weight(delete)));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), scheduler.reserve(scheduler.weight(get)));
+  }
+
+  @Test
+  void testRetryAfterPauses() {
+    TokenBucketRequestScheduler scheduler = new TokenBucketRequestScheduler(10, 5, Collections.emptyMap(), now::get);
+    HttpResponse<?> response = mock(HttpResponse.class);
+    when(response.code()).thenReturn(429);
+    when(response.headers(TokenBucketRequestScheduler.RETRY_AFTER)).thenReturn(Collections.singletonList("2"));
+    when(response.headers(TokenBucketRequestScheduler.PRIORITY_LEVEL_UID)).thenReturn(Collections.singletonList("level"));
+
+    scheduler.onResponse(response);
+
+    assertEquals(TimeUnit.SECONDS.toNanos(2), scheduler.reserve(1));
+    assertEquals(1, scheduler.getThrottledResponses());
+    assertEquals(Collections.singletonMap("level", 1L), scheduler.getThrottledResponsesByPriorityLevel());
+    now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+    assertEquals(0, scheduler.reserve(1));
+  }
+
+  @Test
+  void testAcquireImmediateWithinBurst() {
+    TokenBucketRequestScheduler scheduler = new TokenBucketRequestScheduler(1, 1, Collections.emptyMap(), now::get);
+    HttpRequest request = mock(HttpRequest.class);
+    when(request.method()).thenReturn("GET");
+
+    assertTrue(scheduler.acquire(request).isDone());
+    CompletableFuture<Void> delayed = scheduler.acquire(request);
+
+    assertFalse(delayed.isDone());
+    assertEquals(1, scheduler.getQueueLength());
+    assertEquals(2, scheduler.getTotalRequests());
+    assertEquals(1, scheduler.getDelayedRequests());
+    assertEquals(1, scheduler.getMaxQueueWait(TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testFromConfig() {
+    Config config = new ConfigBuilder().withMasterUrl("https://localhost").build();
+    assertSame(RequestScheduler.UNLIMITED, RequestScheduler.from(config));
+
+    config = new ConfigBuilder(config).withMaxRequestsPerSecond(5).build();
+    assertTrue(RequestScheduler.from(config) instanceof TokenBucketRequestScheduler);
+  }
+
+}
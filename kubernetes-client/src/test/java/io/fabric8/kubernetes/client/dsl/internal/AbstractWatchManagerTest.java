@@ -17,9 +17,13 @@ package io.fabric8.kubernetes.client.dsl.internal;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.http.WebSocket;
+import io.fabric8.kubernetes.client.informers.CountingInformerMetrics;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -170,6 +174,57 @@ class AbstractWatchManagerTest {
     assertThat(awm.closeCount.get()).isEqualTo(1);
   }
 
+  @Test
+  @DisplayName("readWatchEvent, with typed operation, binds object directly to the operation type")
+  void readWatchEventBindsToOperationType() throws MalformedURLException {
+    // Given
+    final BaseOperation<Pod, ?, ?> baseOperation = mock(BaseOperation.class);
+    Mockito.when(baseOperation.getType()).thenReturn(Pod.class);
+    final WatchManager<Pod> awm = new WatchManager<>(new WatcherAdapter<>(), mock(ListOptions.class, RETURNS_DEEP_STUBS),
+      1, 0, 0, baseOperation);
+    // When
+    final WatchEvent event = awm.readWatchEvent(
+      "{\"type\":\"ADDED\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod1\",\"resourceVersion\":\"2\"}}}");
+    // Then
+    assertThat(event.getType()).isEqualTo("ADDED");
+    assertThat(event.getObject()).isInstanceOf(Pod.class)
+      .hasFieldOrPropertyWithValue("metadata.name", "pod1");
+  }
+
+  @Test
+  @DisplayName("readWatchEvent, with status object, binds object to Status")
+  void readWatchEventWithStatus() throws MalformedURLException {
+    // Given
+    final BaseOperation<Pod, ?, ?> baseOperation = mock(BaseOperation.class);
+    Mockito.when(baseOperation.getType()).thenReturn(Pod.class);
+    final WatchManager<Pod> awm = new WatchManager<>(new WatcherAdapter<>(), mock(ListOptions.class, RETURNS_DEEP_STUBS),
+      1, 0, 0, baseOperation);
+    // When
+    final WatchEvent event = awm.readWatchEvent(
+      "{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"code\":410}}");
+    // Then
+    assertThat(event.getType()).isEqualTo("ERROR");
+    assertThat(event.getObject()).isInstanceOf(Status.class)
+      .hasFieldOrPropertyWithValue("code", 410);
+  }
+
+  @Test
+  @DisplayName("onMessage, with metrics set after the watch started, reports decoding to the current metrics")
+  void onMessageReportsToCurrentMetrics() throws MalformedURLException {
+    // Given
+    final BaseOperation<Pod, ?, ?> baseOperation = mock(BaseOperation.class);
+    Mockito.when(baseOperation.getType()).thenReturn(Pod.class);
+    final WatchManager<Pod> awm = new WatchManager<>(new WatcherAdapter<>(), mock(ListOptions.class, RETURNS_DEEP_STUBS),
+      1, 0, 0, baseOperation);
+    final CountingInformerMetrics metrics = new CountingInformerMetrics();
+    Mockito.when(baseOperation.getMetrics()).thenReturn(metrics);
+    // When
+    awm.onMessage(
+      "{\"type\":\"ADDED\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod1\",\"resourceVersion\":\"2\"}}}");
+    // Then
+    assertThat(metrics.getDecodedEvents()).isEqualTo(1);
+  }
+
   private static <T extends HasMetadata> WatchManager<T> withDefaultWatchManager(Watcher<T> watcher) throws MalformedURLException {
     return new WatchManager<>(
       watcher, mock(ListOptions.class, RETURNS_DEEP_STUBS), 1, 0, 0);
@@ -197,7 +252,12 @@ class AbstractWatchManagerTest {
     private final AtomicInteger closeCount = new AtomicInteger(0);
 
     public WatchManager(Watcher<T> watcher, ListOptions listOptions, int reconnectLimit, int reconnectInterval, int maxIntervalExponent) throws MalformedURLException {
-      super(watcher, Mockito.mock(BaseOperation.class), listOptions, reconnectLimit, reconnectInterval, maxIntervalExponent, () -> null);
+      this(watcher, listOptions, reconnectLimit, reconnectInterval, maxIntervalExponent, Mockito.mock(BaseOperation.class));
+    }
+
+    public WatchManager(Watcher<T> watcher, ListOptions listOptions, int reconnectLimit, int reconnectInterval, int maxIntervalExponent,
+      BaseOperation<T, ?, ?> baseOperation) throws MalformedURLException {
+      super(watcher, baseOperation, listOptions, reconnectLimit, reconnectInterval, maxIntervalExponent, () -> null);
     }
 
     @Override
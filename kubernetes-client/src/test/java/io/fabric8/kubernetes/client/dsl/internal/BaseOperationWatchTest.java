@@ -40,6 +40,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @SuppressWarnings({ "rawtypes", "FieldCanBeLocal" })
 class BaseOperationWatchTest {
@@ -53,6 +54,8 @@ class BaseOperationWatchTest {
   void setUp() {
     watcher = mock(Watcher.class);
     operationContext = mock(OperationContext.class, RETURNS_DEEP_STUBS);
+    // watches are not multiplexed by default
+    when(operationContext.getWatchMultiplexer()).thenReturn(null);
     baseOperation = new BaseOperation<>(operationContext);
   }
 
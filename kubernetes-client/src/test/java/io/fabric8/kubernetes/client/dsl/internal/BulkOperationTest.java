@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkOperationTest {
+
+  private final HasMetadata namespace = new NamespaceBuilder().withNewMetadata().withName("ns").endMetadata().build();
+  private final HasMetadata configMap1 = new ConfigMapBuilder().withNewMetadata().withName("cm1").endMetadata().build();
+  private final HasMetadata configMap2 = new ConfigMapBuilder().withNewMetadata().withName("cm2").endMetadata().build();
+
+  @Test
+  void testResultsInItemOrder() {
+    List<String> names = new BulkOperation(2).run(Arrays.asList(configMap1, namespace, configMap2),
+        item -> CompletableFuture.completedFuture(item.getMetadata().getName()), false, "create");
+
+    assertEquals(Arrays.asList("cm1", "ns", "cm2"), names);
+  }
+
+  @Test
+  void testDependenciesFirst() {
+    ConcurrentLinkedQueue<String> order = new ConcurrentLinkedQueue<>();
+    new BulkOperation(4).run(Arrays.asList(configMap1, namespace, configMap2),
+        item -> CompletableFuture.supplyAsync(() -> order.add(item.getMetadata().getName())), false, "create");
+
+    assertEquals("ns", order.peek());
+  }
+
+  @Test
+  void testDependenciesLastWhenReversed() {
+    ConcurrentLinkedQueue<String> order = new ConcurrentLinkedQueue<>();
+    new BulkOperation(4).run(Arrays.asList(namespace, configMap1, configMap2),
+        item -> CompletableFuture.supplyAsync(() -> order.add(item.getMetadata().getName())), true, "delete");
+
+    assertThat(order).containsExactlyInAnyOrder("cm1", "cm2", "ns").endsWith("ns");
+  }
+
+  @Test
+  void testConcurrent() {
+    CountDownLatch latch = new CountDownLatch(2);
+    // would never complete if the items were processed one at a time
+    List<Boolean> result = new BulkOperation(2).run(Arrays.asList(configMap1, configMap2), item -> {
+      latch.countDown();
+      return CompletableFuture.supplyAsync(() -> {
+        try {
+          return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      });
+    }, false, "create");
+
+    assertEquals(Arrays.asList(true, true), result);
+  }
+
+  @Test
+  void testParallelismBounded() {
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger max = new AtomicInteger();
+    new BulkOperation(2).run(Collections.nCopies(20, configMap1), item -> {
+      max.accumulateAndGet(active.incrementAndGet(), Math::max);
+      return CompletableFuture.supplyAsync(() -> {
+        try {
+          Thread.sleep(5);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return active.decrementAndGet();
+      });
+    }, false, "create");
+
+    assertThat(max.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void testFailuresAggregated() {
+    BulkOperation operation = new BulkOperation(2);
+    List<HasMetadata> items = Arrays.asList(configMap1, configMap2);
+
+    KubernetesClientException e = assertThrows(KubernetesClientException.class, () -> operation.run(items, item -> {
+      CompletableFuture<Object> failed = new CompletableFuture<>();
+      failed.completeExceptionally(new KubernetesClientException(item.getMetadata().getName()));
+      return failed;
+    }, false, "create"));
+
+    assertEquals("2 of 2 create operations failed", e.getMessage());
+    assertEquals(1, e.getSuppressed().length);
+  }
+
+  @Test
+  void testFailedDependencyStopsLaterPhases() {
+    AtomicInteger count = new AtomicInteger();
+    BulkOperation operation = new BulkOperation(2);
+    List<HasMetadata> items = Arrays.asList(namespace, configMap1);
+
+    KubernetesClientException e = assertThrows(KubernetesClientException.class, () -> operation.run(items, item -> {
+      count.incrementAndGet();
+      throw new KubernetesClientException(item.getMetadata().getName());
+    }, false, "create"));
+
+    assertEquals("ns", e.getMessage());
+    assertEquals(1, count.get());
+  }
+
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.http.WebSocket;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecWatchInputStreamTest {
+
+  @Test
+  void testReadAcrossBuffers() throws IOException {
+    ExecWatchInputStream is = new ExecWatchInputStream();
+    is.consume(ByteBuffer.wrap("hello ".getBytes(StandardCharsets.UTF_8)));
+    is.consume(ByteBuffer.wrap("world".getBytes(StandardCharsets.UTF_8)));
+    is.onExit(null);
+
+    assertEquals(11, is.available());
+    assertEquals('h', is.read());
+    byte[] bytes = new byte[20];
+    assertEquals(10, is.read(bytes, 0, bytes.length));
+    assertEquals("ello world", new String(bytes, 0, 10, StandardCharsets.UTF_8));
+    assertEquals(-1, is.read(bytes, 0, bytes.length));
+  }
+
+  @Test
+  void testReadIntoByteBuffer() throws IOException {
+    ExecWatchInputStream is = new ExecWatchInputStream();
+    is.consume(ByteBuffer.wrap("hello ".getBytes(StandardCharsets.UTF_8)));
+    is.consume(ByteBuffer.wrap("world".getBytes(StandardCharsets.UTF_8)));
+    is.onExit(null);
+
+    ByteBuffer dst = ByteBuffer.allocate(8);
+    assertEquals(8, is.read(dst));
+    assertEquals("hello wo", new String(dst.array(), 0, 8, StandardCharsets.UTF_8));
+    dst.clear();
+    assertEquals(3, is.read(dst));
+    assertEquals("rld", new String(dst.array(), 0, 3, StandardCharsets.UTF_8));
+    assertEquals(-1, is.read(dst));
+    assertTrue(is.isOpen());
+    is.close();
+    assertFalse(is.isOpen());
+  }
+
+  @Test
+  void testConsumeBlocksUntilRead() throws Exception {
+    ExecWatchInputStream is = new ExecWatchInputStream(4);
+    is.consume(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+
+    CompletableFuture<Void> consumed = CompletableFuture.runAsync(() -> {
+      try {
+        is.consume(ByteBuffer.wrap(new byte[] { 4, 5 }));
+      } catch (IOException e) {
+        throw new AssertionError(e);
+      }
+    });
+
+    // over the buffer size, so the writer should wait for the reader
+    assertThrows(TimeoutException.class, () -> consumed.get(100, TimeUnit.MILLISECONDS));
+
+    byte[] bytes = new byte[3];
+    assertEquals(3, is.read(bytes));
+    consumed.get(10, TimeUnit.SECONDS);
+    assertArrayEquals(new byte[] { 1, 2, 3 }, bytes);
+    assertEquals(2, is.read(bytes));
+  }
+
+  @Test
+  void testOfferSuspendsUntilRead() throws IOException {
+    ExecWatchInputStream is = new ExecWatchInputStream(4);
+    WebSocket webSocket = Mockito.mock(WebSocket.class);
+    is.offer(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), webSocket);
+    Mockito.verify(webSocket, Mockito.never()).suspend();
+
+    // over the buffer size, so the websocket should be suspended rather than the caller blocked
+    is.offer(ByteBuffer.wrap(new byte[] { 4, 5 }), webSocket);
+    Mockito.verify(webSocket).suspend();
+
+    assertEquals(1, is.read());
+    Mockito.verify(webSocket).resume();
+    byte[] bytes = new byte[4];
+    assertEquals(4, is.read(bytes));
+    assertArrayEquals(new byte[] { 2, 3, 4, 5 }, bytes);
+    Mockito.verify(webSocket).suspend();
+  }
+
+  @Test
+  void testCloseResumesWebSocket() {
+    ExecWatchInputStream is = new ExecWatchInputStream(1);
+    WebSocket webSocket = Mockito.mock(WebSocket.class);
+    is.offer(ByteBuffer.wrap(new byte[] { 1, 2 }), webSocket);
+    Mockito.verify(webSocket).suspend();
+
+    is.close();
+    Mockito.verify(webSocket).resume();
+  }
+
+  @Test
+  void testFailure() throws IOException {
+    ExecWatchInputStream is = new ExecWatchInputStream();
+    is.consume(ByteBuffer.wrap(new byte[] { 1 }));
+    is.onExit(new IOException("broken"));
+
+    // queued bytes are still readable
+    assertEquals(1, is.read());
+    IOException e = assertThrows(IOException.class, is::read);
+    assertThat(e.getCause()).hasMessage("broken");
+  }
+
+  @Test
+  void testCloseReleasesWriter() throws Exception {
+    ExecWatchInputStream is = new ExecWatchInputStream(1);
+    is.consume(ByteBuffer.wrap(new byte[] { 1 }));
+
+    CompletableFuture<Void> consumed = CompletableFuture.runAsync(() -> {
+      try {
+        is.consume(ByteBuffer.wrap(new byte[] { 2 }));
+      } catch (IOException e) {
+        throw new AssertionError(e);
+      }
+    });
+    assertFalse(consumed.isDone());
+
+    is.close();
+    consumed.get(10, TimeUnit.SECONDS);
+    assertEquals(0, is.available());
+    assertThrows(IOException.class, is::read);
+  }
+
+}
@@ -18,9 +18,25 @@ package io.fabric8.kubernetes.client.dsl.internal;
 
 import io.fabric8.kubernetes.api.model.StatusBuilder;
 import io.fabric8.kubernetes.api.model.StatusCause;
+import io.fabric8.kubernetes.client.http.WebSocket;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ExecWebSocketListenerTest {
 
@@ -53,4 +69,36 @@ class ExecWebSocketListenerTest {
             .build()));
   }
 
+  @Test
+  void testRedirectedInputBeforeOpenThrows() {
+    ExecWebSocketListener listener = new ExecWebSocketListener(new PodOperationContext().withRedirectingIn(true));
+    WritableByteChannel input = (WritableByteChannel) listener.getInput();
+
+    assertThrows(IOException.class, () -> input.write(ByteBuffer.wrap(new byte[] { 1 })));
+  }
+
+  @Test
+  void testRedirectedInputWaitsForQueueToBeSent() throws Exception {
+    ExecWebSocketListener listener = new ExecWebSocketListener(new PodOperationContext().withRedirectingIn(true));
+    WebSocket webSocket = mock(WebSocket.class);
+    CompletableFuture<Void> sent = new CompletableFuture<>();
+    when(webSocket.send(any())).thenReturn(true);
+    when(webSocket.whenQueueSizeAtMost(anyLong())).thenReturn(sent);
+    listener.onOpen(webSocket);
+
+    CompletableFuture<Void> write = CompletableFuture.runAsync(() -> {
+      try {
+        listener.getInput().write(new byte[] { 1, 2 });
+      } catch (IOException e) {
+        throw new AssertionError(e);
+      }
+    });
+
+    verify(webSocket, timeout(1000)).whenQueueSizeAtMost(anyLong());
+    assertFalse(write.isDone());
+    sent.complete(null);
+    write.get(1, TimeUnit.SECONDS);
+    assertTrue(write.isDone());
+  }
+
 }
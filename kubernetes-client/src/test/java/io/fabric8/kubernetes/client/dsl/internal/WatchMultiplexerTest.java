@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WatchMultiplexerTest {
+
+  @Test
+  void testLabelSelector() {
+    Map<String, String> labels = new HashMap<>();
+    labels.put("app", "web");
+    labels.put("tier", "frontend");
+
+    assertTrue(WatchMultiplexer.parseLabelSelector(null).test(labels));
+    assertTrue(WatchMultiplexer.parseLabelSelector("app=web,tier").test(labels));
+    assertTrue(WatchMultiplexer.parseLabelSelector("app==web,!missing").test(labels));
+    assertTrue(WatchMultiplexer.parseLabelSelector("app in (db,web),tier notin (backend)").test(labels));
+    assertFalse(WatchMultiplexer.parseLabelSelector("app!=web").test(labels));
+    assertFalse(WatchMultiplexer.parseLabelSelector("app in (db)").test(labels));
+    assertFalse(WatchMultiplexer.parseLabelSelector("missing").test(labels));
+    assertTrue(WatchMultiplexer.parseLabelSelector("missing notin (x)").test(Collections.emptyMap()));
+  }
+
+  @Test
+  void testUnsupportedSelectors() {
+    assertNull(WatchMultiplexer.parseLabelSelector("replicas > 1"));
+    assertNull(WatchMultiplexer.parseFieldSelector("status.phase=Running"));
+  }
+
+  @Test
+  void testFieldSelector() {
+    ObjectMeta metadata = new ObjectMetaBuilder().withName("pod1").withNamespace("test").build();
+    Predicate<ObjectMeta> name = WatchMultiplexer.parseFieldSelector("metadata.name=pod1");
+    Predicate<ObjectMeta> notNamespace = WatchMultiplexer.parseFieldSelector("metadata.namespace!=test");
+
+    assertTrue(name.test(metadata));
+    assertFalse(notNamespace.test(metadata));
+  }
+
+  @Test
+  void testShareable() {
+    assertTrue(WatchMultiplexer.isShareable(new ListOptionsBuilder().withWatch(true).build()));
+    assertFalse(WatchMultiplexer.isShareable(new ListOptionsBuilder().withResourceVersion("1").build()));
+    assertFalse(WatchMultiplexer.isShareable(new ListOptionsBuilder().withTimeoutSeconds(30L).build()));
+    assertFalse(WatchMultiplexer.isShareable(new ListOptionsBuilder().withAllowWatchBookmarks(true).build()));
+  }
+
+}
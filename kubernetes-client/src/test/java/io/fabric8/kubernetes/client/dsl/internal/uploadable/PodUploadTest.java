@@ -20,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
@@ -37,6 +38,7 @@ import io.fabric8.kubernetes.client.utils.InputStreamPumper.Writable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -108,7 +110,48 @@ class PodUploadTest {
     InputStream inputStream = new ByteArrayInputStream("test data".getBytes());
     uploadFileAndVerify(() ->  PodUpload.uploadFileData(mockClient, mockContext, operationSupport, inputStream));
   }
+
+  @Test
+  void uploadFileData_shouldSendUnencodedBytes() throws IOException, InterruptedException {
+    InputStream inputStream = new ByteArrayInputStream("test data".getBytes());
+    uploadFileAndVerify(() ->  PodUpload.uploadFileData(mockClient, mockContext, operationSupport, inputStream));
+
+    ArgumentCaptor<ByteBuffer> captor = ArgumentCaptor.forClass(ByteBuffer.class);
+    verify(mockWebSocket).send(captor.capture());
+    ByteBuffer sent = captor.getValue();
+    // the stdin stream id followed by the raw data
+    assertThat(sent.get(), equalTo((byte) 0));
+    byte[] data = new byte[sent.remaining()];
+    sent.get(data);
+    assertThat(new String(data), equalTo("test data"));
+  }
   
+  @Test
+  void uploadFileData_whenSourceFails_shouldCloseWebSocketAndRethrow() {
+    when(mockContext.getFile()).thenReturn("/mock/dir/file");
+    WebSocket.Builder builder = Mockito.mock(WebSocket.Builder.class, Mockito.RETURNS_SELF);
+    when(builder.buildAsync(any())).thenAnswer(newWebSocket -> {
+      final PodUploadWebSocketListener wsl = newWebSocket.getArgument(0, PodUploadWebSocketListener.class);
+      wsl.onOpen(mockWebSocket);
+      return CompletableFuture.completedFuture(mockWebSocket);
+    });
+    when(mockClient.newWebSocketBuilder()).thenReturn(builder);
+    // the first read succeeds, then the source fails
+    InputStream failing = new SequenceInputStream(new ByteArrayInputStream("partial".getBytes()), new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw new IOException("source failed");
+      }
+    });
+
+    IOException result = assertThrows(IOException.class,
+      () -> PodUpload.uploadFileData(mockClient, mockContext, operationSupport, failing));
+
+    assertThat(result.getMessage(), equalTo("source failed"));
+    verify(mockWebSocket, atLeast(1)).send(any(ByteBuffer.class));
+    verify(mockWebSocket).sendClose(1011, "Upload failed");
+  }
+
   @Test
   void testUploadDirectoryHappyScenarioShouldUploadDirectory() throws Exception {
     uploadDirectoryAndVerify("/upload");
@@ -143,7 +186,7 @@ class PodUploadTest {
     assertThat(result, equalTo(true));
     verify(mockPathToUpload, atLeast(1)).toFile();
     verify(builder, times(1)).uri(argThat(request -> {
-      assertThat(request.toString(), equalTo("https://openshift.com:8443/api/v1/namespaces/default/pods/mock-pod/exec?command=sh&command=-c&command=mkdir+-p+%27%2Fmock%2Fdir%27+%26%26+base64+-d+-+%7C+tar+-C+%27%2Fmock%2Fdir%27+-xzf+-&stdin=true&stderr=true"));
+      assertThat(request.toString(), equalTo("https://openshift.com:8443/api/v1/namespaces/default/pods/mock-pod/exec?command=sh&command=-c&command=mkdir+-p+%27%2Fmock%2Fdir%27+%26%26+tar+-C+%27%2Fmock%2Fdir%27+-xzf+-&stdin=true&stderr=true"));
       return true;
     }));
     verify(mockWebSocket, atLeast(1)).send(any(ByteBuffer.class));
@@ -170,7 +213,7 @@ class PodUploadTest {
     String result = PodUpload.createExecCommandForUpload(mockContext);
 
     // Then
-    assertThat(result, equalTo("mkdir -p '/' && base64 -d - > '/cp.log'"));
+    assertThat(result, equalTo("mkdir -p '/' && cat - > '/cp.log'"));
   }
 
   @Test
@@ -182,7 +225,7 @@ class PodUploadTest {
     String result = PodUpload.createExecCommandForUpload(mockContext);
 
     // Then
-    assertThat(result, equalTo("mkdir -p '/tmp/foo' && base64 -d - > '/tmp/foo/cp.log'"));
+    assertThat(result, equalTo("mkdir -p '/tmp/foo' && cat - > '/tmp/foo/cp.log'"));
   }
 
   void uploadFileAndVerify(PodUploadTester<Boolean> fileUploadMethodToTest) throws IOException, InterruptedException {
@@ -206,7 +249,7 @@ class PodUploadTest {
 
     assertThat(result, equalTo(true));
     verify(builder, times(1)).uri(argThat(request -> {
-      assertThat(request.toString(), equalTo("https://openshift.com:8443/api/v1/namespaces/default/pods/mock-pod/exec?command=sh&command=-c&command=mkdir+-p+%27%2Fmock%2Fdir%27+%26%26+base64+-d+-+%3E+%27%2Fmock%2Fdir%2Ffile%27&stdin=true&stderr=true"));
+      assertThat(request.toString(), equalTo("https://openshift.com:8443/api/v1/namespaces/default/pods/mock-pod/exec?command=sh&command=-c&command=mkdir+-p+%27%2Fmock%2Fdir%27+%26%26+cat+-+%3E+%27%2Fmock%2Fdir%2Ffile%27&stdin=true&stderr=true"));
       return true;
     }));
     verify(mockWebSocket, atLeast(1)).send(any(ByteBuffer.class));
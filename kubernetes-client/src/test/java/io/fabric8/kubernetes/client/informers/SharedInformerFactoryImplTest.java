@@ -35,6 +35,7 @@ import org.mockito.Mockito;
 import java.util.concurrent.ExecutorService;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 class SharedInformerFactoryImplTest {
   public static final long RESYNC_PERIOD = 10 * 1000L;
@@ -154,4 +155,23 @@ class SharedInformerFactoryImplTest {
     assertThat(sharedIndexInformerVSvc.getApiTypeClass()).isEqualTo(VirtualService.class);
   }
 
+  @Test
+  void testExecutorPerInformerRequiresThreads() {
+    SharedInformerFactory sharedInformerFactory = new SharedInformerFactoryImpl(mockBaseClient, executorService);
+
+    assertThatIllegalArgumentException().isThrownBy(() -> sharedInformerFactory.withExecutorPerInformer(0));
+  }
+
+  @Test
+  void testExecutorPerInformer() {
+    SharedInformerFactory sharedInformerFactory = new SharedInformerFactoryImpl(mockBaseClient, executorService)
+      .withThreadNamePrefix("test")
+      .withExecutorPerInformer(1);
+
+    SharedIndexInformer<Pod> informer = sharedInformerFactory.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+    sharedInformerFactory.stopAllRegisteredInformers(false);
+
+    assertThat(informer).isNotNull();
+    Mockito.verify(executorService, Mockito.never()).shutdown();
+  }
 }
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -88,6 +89,19 @@ class DefaultSharedIndexInformerResyncTest {
     assertThat(controller.isRunning()).isFalse();
   }
 
+  @Test
+  @DisplayName("Controller stop shuts down an executor owned by the informer")
+  void testStopShutsDownOwnedExecutor() {
+    // Given
+    ExecutorService executor = Mockito.mock(ExecutorService.class);
+    DefaultSharedIndexInformer<Pod, PodList> controller = createDefaultSharedIndexInformer(0);
+    controller.shutdownOnStop(executor);
+    // When
+    controller.stop();
+    // Then
+    Mockito.verify(executor).shutdown();
+  }
+
   @Test
   @DisplayName("Controller initialized with resync period should initialize resyncExecutor")
   void testControllerRunWithResyncPeriodGreaterThanZero() throws InterruptedException {
@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class InformerExecutorsTest {
+
+  @Test
+  void testBoundedExecutorNamesAndLimitsThreads() throws Exception {
+    ExecutorService executor = InformerExecutors.newBoundedExecutor("informer-Pod", 2);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    try {
+      Future<String> name = executor.submit(() -> Thread.currentThread().getName());
+      assertTrue(name.get(10, TimeUnit.SECONDS).startsWith("informer-Pod-"));
+
+      for (int i = 0; i < 4; i++) {
+        executor.execute(() -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          running.decrementAndGet();
+        });
+      }
+      Thread.sleep(100);
+      release.countDown();
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+      assertEquals(2, maxRunning.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testVirtualThreadExecutor() throws Exception {
+    assumeTrue(InformerExecutors.isVirtualThreadSupported());
+    ExecutorService executor = InformerExecutors.newVirtualThreadExecutor("informer-Pod");
+    try {
+      assertEquals("informer-Pod-1", executor.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testVirtualThreadsUnsupported() {
+    assumeFalse(InformerExecutors.isVirtualThreadSupported());
+    assertThrows(UnsupportedOperationException.class, () -> InformerExecutors.newVirtualThreadExecutor("informer"));
+  }
+
+}
@@ -24,11 +24,18 @@ import org.junit.jupiter.api.Test;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CacheTest {
 
@@ -149,6 +156,77 @@ class CacheTest {
     assertEquals(1, clusterNameIndexedPods.size());
   }
 
+  @Test
+  void testIndexReadsDuringConcurrentWrites() throws Exception {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    Function<Pod, List<String>> groupIndexer = pod -> Collections.singletonList(pod.getMetadata().getLabels().get("group"));
+    podCache.addIndexFunc("group", groupIndexer);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> writer = executor.submit(() -> {
+        for (int i = 0; i < 1000; i++) {
+          Pod pod = new PodBuilder().withNewMetadata().withNamespace("ns" + (i % 2)).withName("pod" + i)
+              .addToLabels("group", "g" + (i % 3)).endMetadata()
+              .build();
+          podCache.put(pod);
+          if (i % 3 == 0) {
+            podCache.remove(pod);
+          } else if (i % 3 == 1) {
+            // move it to another group, so that its index entries change
+            podCache.put(new PodBuilder(pod).editMetadata().addToLabels("group", "g0").endMetadata().build());
+          }
+        }
+      });
+      while (!writer.isDone()) {
+        // the namespace is part of the key, so every item found must be in the namespace
+        List<Pod> pods = podCache.byIndex(Cache.NAMESPACE_INDEX, "ns0");
+        assertTrue(pods.stream().allMatch(pod -> "ns0".equals(pod.getMetadata().getNamespace())));
+        assertEquals(pods.size(), pods.stream().map(pod -> pod.getMetadata().getName()).distinct().count());
+      }
+      writer.get();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertIndexConsistent(podCache, Cache.NAMESPACE_INDEX, pod -> Collections.singletonList(pod.getMetadata().getNamespace()),
+        "ns0", "ns1", "missing");
+    assertIndexConsistent(podCache, "group", groupIndexer, "g0", "g1", "g2");
+    assertEquals(333, podCache.byIndex(Cache.NAMESPACE_INDEX, "ns0").size());
+    assertEquals(333, podCache.indexKeys(Cache.NAMESPACE_INDEX, "ns1").size());
+    assertEquals(333, podCache.byIndex("group", "g0").size());
+    assertEquals(0, podCache.byIndex("group", "g1").size());
+  }
+
+  /**
+   * Each value's index entries should be exactly the stored items the indexer maps to that value
+   */
+  private static void assertIndexConsistent(CacheImpl<Pod> podCache, String indexName,
+      Function<Pod, List<String>> indexer, String... values) {
+    for (String value : values) {
+      Set<String> expected = podCache.list().stream()
+          .filter(pod -> indexer.apply(pod).contains(value))
+          .map(podCache::getKey)
+          .collect(Collectors.toSet());
+      Set<String> indexed = podCache.byIndex(indexName, value).stream()
+          .map(podCache::getKey)
+          .collect(Collectors.toSet());
+      assertEquals(expected, indexed, value);
+      assertEquals(expected, new HashSet<>(podCache.indexKeys(indexName, value)), value);
+    }
+  }
+
+  @Test
+  void testNullIndexValue() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    Pod clusterScoped = new PodBuilder().withNewMetadata().withName("test-pod").endMetadata().build();
+
+    podCache.put(clusterScoped);
+    assertEquals(1, podCache.byIndex(Cache.NAMESPACE_INDEX, null).size());
+
+    podCache.remove(clusterScoped);
+    assertEquals(0, podCache.byIndex(Cache.NAMESPACE_INDEX, null).size());
+  }
+
   private static List<String> mockIndexFunction(Object obj) {
     if (obj == null) {
       return Collections.singletonList("null");
@@ -17,12 +17,26 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.CountingInformerMetrics;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 class ProcessorListenerTest {
 
@@ -62,4 +76,222 @@ class ProcessorListenerTest {
     assertTrue(deleteNotificationReceived);
 
   }
+
+  @Test
+  void testDropOldestWhenFull() {
+    List<String> added = new ArrayList<>();
+    List<Runnable> tasks = new ArrayList<>();
+    ProcessorListener<Pod> listener = new ProcessorListener<>(addRecorder(added), 0, tasks::add, 2,
+      QueueOverflowPolicy.DROP_OLDEST, false, p -> p.getMetadata().getName());
+
+    listener.add(new ProcessorListener.AddNotification<>(pod("a")));
+    listener.add(new ProcessorListener.AddNotification<>(pod("b")));
+    listener.add(new ProcessorListener.AddNotification<>(pod("c")));
+
+    assertEquals(2, listener.getQueueSize());
+    assertEquals(1, listener.getDroppedCount());
+
+    // a single task drains the queue
+    assertEquals(1, tasks.size());
+    tasks.get(0).run();
+    assertEquals(Arrays.asList("b", "c"), added);
+    assertEquals(0, listener.getQueueSize());
+  }
+
+  @Test
+  void testMetrics() {
+    List<String> added = new ArrayList<>();
+    List<Runnable> tasks = new ArrayList<>();
+    ProcessorListener<Pod> listener = new ProcessorListener<>(addRecorder(added), 0, tasks::add, 2,
+      QueueOverflowPolicy.DROP_OLDEST, false, p -> p.getMetadata().getName());
+    CountingInformerMetrics metrics = new CountingInformerMetrics();
+    listener.setMetrics(metrics);
+
+    listener.add(new ProcessorListener.AddNotification<>(pod("a")));
+    listener.add(new ProcessorListener.AddNotification<>(pod("b")));
+    listener.add(new ProcessorListener.AddNotification<>(pod("c")));
+    tasks.get(0).run();
+
+    assertEquals(3, metrics.getQueuedNotifications());
+    assertEquals(2, metrics.getMaxQueueSize());
+    assertEquals(1, metrics.getDroppedNotifications());
+    assertEquals(2, metrics.getHandledNotifications());
+  }
+
+  @Test
+  void testCoalesceWhenFull() {
+    List<Pod[]> updates = new ArrayList<>();
+    List<Runnable> tasks = new ArrayList<>();
+    ProcessorListener<Pod> listener = new ProcessorListener<>(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+        updates.add(new Pod[] { oldObj, newObj });
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      }
+    }, 0, tasks::add, 1, QueueOverflowPolicy.COALESCE, false, p -> p.getMetadata().getName());
+
+    Pod v1 = pod("a");
+    Pod v2 = pod("a");
+    Pod v3 = pod("a");
+    listener.add(new ProcessorListener.UpdateNotification<>(v1, v2));
+    listener.add(new ProcessorListener.UpdateNotification<>(v2, v3));
+
+    assertEquals(1, listener.getQueueSize());
+    tasks.get(0).run();
+    assertEquals(1, updates.size());
+    assertSame(v1, updates.get(0)[0]);
+    assertSame(v3, updates.get(0)[1]);
+  }
+
+  @Test
+  void testSlowListenerDoesNotBlockOthers() throws Exception {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch fastReceived = new CountDownLatch(1);
+    try {
+      SharedProcessor<Pod> processor = new SharedProcessor<>(executor, p -> p.getMetadata().getName());
+      processor.addProcessorListener(new ResourceEventHandler<Pod>() {
+        @Override
+        public void onAdd(Pod obj) {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+
+        @Override
+        public void onUpdate(Pod oldObj, Pod newObj) {
+        }
+
+        @Override
+        public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+        }
+      }, 0, Collections::emptyList);
+      processor.addProcessorListener(addRecorder(new ArrayList<>(), fastReceived), 0, Collections::emptyList);
+
+      processor.distribute(new ProcessorListener.AddNotification<>(pod("a")), false);
+
+      assertTrue(fastReceived.await(5, TimeUnit.SECONDS));
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testDeliveryIsResubmittedAfterABatch() {
+    List<String> added = new ArrayList<>();
+    List<Runnable> tasks = new ArrayList<>();
+    ProcessorListener<Pod> listener = new ProcessorListener<>(addRecorder(added), 0, tasks::add, Integer.MAX_VALUE,
+      QueueOverflowPolicy.BLOCK, false, p -> p.getMetadata().getName());
+
+    for (int i = 0; i <= ProcessorListener.DRAIN_BATCH_SIZE; i++) {
+      listener.add(new ProcessorListener.AddNotification<>(pod("p" + i)));
+    }
+
+    // the first task gives up the thread after a batch, and submits the rest
+    tasks.get(0).run();
+    assertEquals(ProcessorListener.DRAIN_BATCH_SIZE, added.size());
+    assertEquals(2, tasks.size());
+    tasks.get(1).run();
+    assertEquals(ProcessorListener.DRAIN_BATCH_SIZE + 1, added.size());
+    assertEquals(0, listener.getQueueSize());
+    assertEquals(2, tasks.size());
+  }
+
+  @Test
+  void testRejectedDeliveryDoesNotBlockProducers() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    executor.shutdown();
+    List<String> added = new ArrayList<>();
+    ProcessorListener<Pod> listener = new ProcessorListener<>(addRecorder(added), 0, executor, 1,
+      QueueOverflowPolicy.BLOCK, false, p -> p.getMetadata().getName());
+
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      listener.add(new ProcessorListener.AddNotification<>(pod("a")));
+      // the queue would be full if the first notification had been kept
+      listener.add(new ProcessorListener.AddNotification<>(pod("b")));
+    });
+
+    assertEquals(0, listener.getQueueSize());
+    assertTrue(added.isEmpty());
+  }
+
+  private static Pod pod(String name) {
+    return new PodBuilder().withNewMetadata().withName(name).endMetadata().build();
+  }
+
+  private static ResourceEventHandler<Pod> addRecorder(List<String> added) {
+    return addRecorder(added, new CountDownLatch(0));
+  }
+
+  private static ResourceEventHandler<Pod> addRecorder(List<String> added, CountDownLatch latch) {
+    return new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        added.add(obj.getMetadata().getName());
+        latch.countDown();
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      }
+    };
+  }
+
+  @Test
+  void testCoalescedUpdatesAreDeliveredOnce() {
+    List<Pod[]> updates = new ArrayList<>();
+    List<String> added = new ArrayList<>();
+    List<Runnable> tasks = new ArrayList<>();
+    ProcessorListener<Pod> listener = new ProcessorListener<>(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        added.add(obj.getMetadata().getName());
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+        updates.add(new Pod[] { oldObj, newObj });
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      }
+    }, 0, tasks::add, Integer.MAX_VALUE, QueueOverflowPolicy.BLOCK, true, p -> p.getMetadata().getName());
+
+    Pod a1 = pod("a");
+    Pod a2 = pod("a");
+    Pod a3 = pod("a");
+    Pod b1 = pod("b");
+    Pod b2 = pod("b");
+    listener.add(new ProcessorListener.UpdateNotification<>(a1, a2));
+    listener.add(new ProcessorListener.UpdateNotification<>(b1, b2));
+    listener.add(new ProcessorListener.UpdateNotification<>(a2, a3));
+    // an add breaks the chain, so the following update is not merged past it
+    listener.add(new ProcessorListener.AddNotification<>(pod("a")));
+    listener.add(new ProcessorListener.UpdateNotification<>(a3, a1));
+
+    assertEquals(4, listener.getQueueSize());
+    tasks.get(0).run();
+
+    assertEquals(3, updates.size());
+    assertSame(a1, updates.get(0)[0]);
+    assertSame(a3, updates.get(0)[1]);
+    assertSame(b2, updates.get(1)[1]);
+    assertSame(a1, updates.get(2)[1]);
+    assertEquals(Collections.singletonList("a"), added);
+  }
 }
@@ -113,4 +113,44 @@ class ProcessorStoreTest {
     assertTrue(syncCaptor.getAllValues().subList(4, 6).stream().allMatch(s -> !s.booleanValue()));
   }
 
+  @Test
+  void testUpdateWithSameResourceVersionIsIgnored() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = Mockito.mock(SharedProcessor.class);
+    ProcessorStore<Pod> processorStore = new ProcessorStore<>(podCache, processor);
+
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("1").endMetadata().build();
+    processorStore.add(pod);
+
+    // as seen on relist - a different instance of the same version
+    processorStore.update(new PodBuilder(pod).build());
+
+    Mockito.verify(processor, Mockito.times(1)).distribute(Mockito.any(Notification.class), Mockito.eq(false));
+    assertThat(podCache.getByKey("pod")).isSameAs(pod);
+  }
+
+  @Test
+  void testTransformIsAppliedBeforeStore() {
+    ArgumentCaptor<Notification<Pod>> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = Mockito.mock(SharedProcessor.class);
+    ProcessorStore<Pod> processorStore = new ProcessorStore<>(podCache, processor);
+    processorStore.setTransform(p -> {
+      p.getMetadata().setManagedFields(null);
+      p.setSpec(null);
+      return p;
+    });
+
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("1")
+        .addNewManagedField().withManager("test").endManagedField().endMetadata()
+        .withNewSpec().withNodeName("node").endSpec().build();
+    processorStore.add(pod);
+
+    Pod stored = podCache.getByKey("pod");
+    assertThat(stored.getMetadata().getManagedFields()).isNullOrEmpty();
+    assertThat(stored.getSpec()).isNull();
+    Mockito.verify(processor).distribute(notificationCaptor.capture(), Mockito.eq(false));
+    assertThat(((AddNotification<Pod>) notificationCaptor.getValue()).getNewObject()).isSameAs(stored);
+  }
+
 }
@@ -17,15 +17,26 @@
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.informers.CountingInformerMetrics;
 import io.fabric8.kubernetes.client.informers.ListerWatcher;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -86,4 +97,117 @@ class ReflectorTest {
     assertFalse(reflector.isRunning());
   }
 
+  @Test
+  void testPaginatedListOnSingleThreadExecutor() throws Exception {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").endMetadata().build();
+    Pod pod3 = new PodBuilder().withNewMetadata().withName("pod3").endMetadata().build();
+    PodList first = new PodListBuilder().withNewMetadata().withContinue("2").endMetadata().withItems(pod1).build();
+    PodList second = new PodListBuilder().withNewMetadata().withContinue("3").endMetadata().withItems(pod2).build();
+    PodList third = new PodListBuilder().withNewMetadata().withResourceVersion("3").endMetadata().withItems(pod3).build();
+    Mockito.when(mock.list(Mockito.argThat(o -> o != null && o.getContinue() == null))).thenReturn(first);
+    // the next pages are completed by a thread other than the informer thread, as the http client would
+    Mockito.when(mock.submitList(Mockito.argThat(o -> o != null && "2".equals(o.getContinue()))))
+        .thenAnswer(invocation -> CompletableFuture.supplyAsync(() -> second));
+    Mockito.when(mock.submitList(Mockito.argThat(o -> o != null && "3".equals(o.getContinue()))))
+        .thenAnswer(invocation -> CompletableFuture.supplyAsync(() -> third));
+    Mockito.when(mock.watch(Mockito.any(), Mockito.any())).thenReturn(Mockito.mock(Watch.class));
+    SyncableStore<Pod> store = Mockito.mock(SyncableStore.class);
+    Mockito.when(store.getKey(Mockito.any())).then(invocation -> invocation.getArgument(0, Pod.class).getMetadata().getName());
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      Reflector<Pod, PodList> reflector = new Reflector<>(Pod.class, mock, store);
+      // the informer executor runs the list itself, so it must not also be needed to fetch the pages
+      executor.submit(reflector::listSyncAndWatch).get(5, TimeUnit.SECONDS);
+
+      Mockito.verify(store).update(pod1);
+      Mockito.verify(store).update(pod2);
+      Mockito.verify(store).update(pod3);
+      Mockito.verify(store).retainAll(new LinkedHashSet<>(Arrays.asList("pod1", "pod2", "pod3")));
+      Mockito.verify(mock, Mockito.times(1)).list(Mockito.any());
+      assertEquals("3", reflector.getLastSyncResourceVersion());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testStartListsAndWatchesWithoutBlocking() throws Exception {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").endMetadata().build();
+    PodList first = new PodListBuilder().withNewMetadata().withContinue("2").endMetadata().withItems(pod1).build();
+    PodList second = new PodListBuilder().withNewMetadata().withResourceVersion("2").endMetadata().withItems(pod2).build();
+    CompletableFuture<PodList> firstPage = new CompletableFuture<>();
+    Mockito.when(mock.submitList(Mockito.argThat(o -> o != null && o.getContinue() == null))).thenReturn(firstPage);
+    Mockito.when(mock.submitList(Mockito.argThat(o -> o != null && "2".equals(o.getContinue()))))
+        .thenAnswer(invocation -> CompletableFuture.supplyAsync(() -> second));
+    Mockito.when(mock.watch(Mockito.any(), Mockito.any())).thenReturn(Mockito.mock(Watch.class));
+    SyncableStore<Pod> store = Mockito.mock(SyncableStore.class);
+    Mockito.when(store.getKey(Mockito.any())).then(invocation -> invocation.getArgument(0, Pod.class).getMetadata().getName());
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(Pod.class, mock, store);
+    CompletableFuture<Void> started = reflector.start();
+
+    // nothing is waiting on the first page
+    assertFalse(started.isDone());
+    firstPage.complete(first);
+    started.get(5, TimeUnit.SECONDS);
+
+    Mockito.verify(store).update(pod1);
+    Mockito.verify(store).update(pod2);
+    Mockito.verify(store).retainAll(new LinkedHashSet<>(Arrays.asList("pod1", "pod2")));
+    Mockito.verify(mock, Mockito.never()).list(Mockito.any());
+    assertEquals("2", reflector.getLastSyncResourceVersion());
+    assertTrue(reflector.isWatching());
+  }
+
+  @Test
+  void testBookmarkUpdatesResourceVersion() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
+    Mockito.when(mock.list(Mockito.any())).thenReturn(list);
+    Mockito.when(mock.watch(Mockito.argThat(o -> Boolean.TRUE.equals(o.getAllowWatchBookmarks())), Mockito.any()))
+        .thenReturn(Mockito.mock(Watch.class));
+    SyncableStore<Pod> store = Mockito.mock(SyncableStore.class);
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(Pod.class, mock, store);
+    reflector.listSyncAndWatch();
+    assertTrue(reflector.isWatching());
+
+    reflector.getWatcher().eventReceived(Action.BOOKMARK,
+        new PodBuilder().withNewMetadata().withResourceVersion("5").endMetadata().build());
+
+    assertEquals("5", reflector.getLastSyncResourceVersion());
+    Mockito.verify(store, Mockito.never()).update(Mockito.any());
+  }
+
+  @Test
+  void testMetrics() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("1").endMetadata().build();
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().withItems(pod).build();
+    Mockito.when(mock.list(Mockito.any())).thenReturn(list);
+    Mockito.when(mock.watch(Mockito.any(), Mockito.any())).thenReturn(Mockito.mock(Watch.class));
+    CountingInformerMetrics metrics = new CountingInformerMetrics();
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(Pod.class, mock, Mockito.mock(SyncableStore.class));
+    reflector.setMetrics(metrics);
+    reflector.listSyncAndWatch();
+
+    reflector.getWatcher().eventReceived(Action.MODIFIED, pod);
+    reflector.getWatcher().eventReceived(Action.DELETED, pod);
+    reflector.getWatcher().onClose(new WatcherException("gone", new KubernetesClientException("gone", 410, null)));
+
+    assertEquals(2, metrics.getLists());
+    assertEquals(1, metrics.getRelists());
+    assertEquals(2, metrics.getListedItems());
+    assertEquals(2, metrics.getWatchStarts());
+    assertEquals(1, metrics.getAppliedEvents(Action.MODIFIED));
+    assertEquals(2, metrics.getAppliedEvents());
+    Mockito.verify(mock).setMetrics(metrics);
+  }
+
 }
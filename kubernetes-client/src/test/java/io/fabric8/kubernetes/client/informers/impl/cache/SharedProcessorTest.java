@@ -17,9 +17,24 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.CountingInformerMetrics;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 
 class SharedProcessorTest {
@@ -62,6 +77,102 @@ class SharedProcessorTest {
     sharedProcessor.distribute(addNotification, false);
   }
 
+  @Test
+  void testBlockedDistributeDoesNotHoldTheLock() throws Exception {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(executor, null);
+    sharedProcessor.setEventQueueLimit(1, QueueOverflowPolicy.BLOCK);
+    CountDownLatch handling = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    sharedProcessor.addProcessorListener(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        handling.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) { }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) { }
+    }, 0, Collections::emptyList);
+
+    try {
+      // the first notification is being handled and the second fills the queue
+      sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("a")), false);
+      assertTrue(handling.await(10, TimeUnit.SECONDS));
+      sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("b")), false);
+
+      // so the third waits for capacity
+      CompletableFuture<Thread> distributing = new CompletableFuture<>();
+      Future<?> blocked = executor.submit(() -> {
+        distributing.complete(Thread.currentThread());
+        sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("c")), false);
+      });
+      Thread thread = distributing.get(10, TimeUnit.SECONDS);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertFalse(blocked.isDone());
+
+      // listeners can still be added and the metrics changed while it waits
+      CompletableFuture.runAsync(() -> {
+        sharedProcessor.addProcessorListener(new ResourceEventHandler<Pod>() {
+          @Override
+          public void onAdd(Pod obj) { }
+
+          @Override
+          public void onUpdate(Pod oldObj, Pod newObj) { }
+
+          @Override
+          public void onDelete(Pod obj, boolean deletedFinalStateUnknown) { }
+        }, 0, Collections::emptyList);
+        sharedProcessor.setMetrics(new CountingInformerMetrics());
+      }, executor).get(10, TimeUnit.SECONDS);
+
+      release.countDown();
+      blocked.get(10, TimeUnit.SECONDS);
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testNotificationDuringListenerAdditionFollowsInitialItems() {
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>();
+    List<String> added = new ArrayList<>();
+
+    sharedProcessor.addProcessorListener(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        added.add(obj.getMetadata().getName());
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) { }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) { }
+    }, 0, () -> {
+      // a change made after the listener is registered but before it has its initial items
+      sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("b")), false);
+      return Collections.singletonList(pod("a"));
+    });
+
+    assertEquals(Arrays.asList("a", "b"), added);
+  }
+
+  private static Pod pod(String name) {
+    return new PodBuilder().withNewMetadata().withName(name).withNamespace("default").endMetadata().build();
+  }
+
   private static class ExpectingNotificationHandler<T> extends ProcessorListener<T> {
     ExpectingNotificationHandler(Notification<T> notification) {
       this(new ResourceEventHandler<T>() {
@@ -86,11 +197,12 @@ class SharedProcessorTest {
     private boolean satisfied;
 
     @Override
-    public void add(Notification<T> obj) {
-      super.add(obj);
+    public boolean tryAdd(Notification<T> obj) {
+      boolean added = super.tryAdd(obj);
       if (!satisfied) {
         satisfied = obj.equals(expectingNotification);
       }
+      return added;
     }
 
     boolean isSatisfied() {
@@ -16,12 +16,22 @@
 
 package io.fabric8.kubernetes.client.internal;
 
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.ReplicationController;
 import io.fabric8.kubernetes.api.model.ReplicationControllerBuilder;
 import io.fabric8.kubernetes.client.internal.PatchUtils.Format;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class PatchUtilsTest {
 
@@ -54,4 +64,70 @@ class PatchUtilsTest {
         PatchUtils.jsonDiff(rc1, rc2, false));
   }
 
+  @Test
+  void testDiffUnchanged() {
+    ReplicationController rc = new ReplicationControllerBuilder().withNewStatus().withFullyLabeledReplicas(1).endStatus()
+        .withNewMetadata().withName("x").endMetadata().build();
+
+    assertEquals("[]", PatchUtils.jsonDiff(rc, Serialization.clone(rc), false));
+  }
+
+  @Test
+  void testDiffNestedChangeWithUnchangedSiblings() {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("x").addToLabels("a", "b").endMetadata()
+        .withNewSpec().addNewContainer().withName("c1").withImage("i1").endContainer().endSpec()
+        .withNewStatus().withPhase("Running").withMessage("large").endStatus().build();
+
+    Pod pod2 = new PodBuilder(pod1).editSpec().editFirstContainer().withImage("i2").endContainer().endSpec()
+        .editMetadata().withResourceVersion("2").endMetadata().build();
+
+    assertEquals("[{\"op\":\"replace\",\"path\":\"/spec/containers/0/image\",\"value\":\"i2\"}]",
+        PatchUtils.jsonDiff(pod1, pod2, false));
+  }
+
+  @Test
+  void testDiffAddToUnchangedLabels() {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("x").addToLabels("a", "b").endMetadata().build();
+
+    Pod pod2 = new PodBuilder(pod1).editMetadata().addToLabels("c", "d").endMetadata().build();
+
+    assertEquals("[{\"op\":\"add\",\"path\":\"/metadata/labels/c\",\"value\":\"d\"}]",
+        PatchUtils.jsonDiff(pod1, pod2, false));
+  }
+
+  @Test
+  void testDiffAdditionalProperties() {
+    GenericKubernetesResource resource1 = new GenericKubernetesResource();
+    resource1.setKind("Thing");
+    Map<String, Object> spec = new HashMap<>();
+    spec.put("same", Collections.singletonMap("large", "value"));
+    spec.put("replicas", 1);
+    resource1.setAdditionalProperty("spec", spec);
+    resource1.setAdditionalProperty("status", Collections.singletonMap("ready", true));
+
+    GenericKubernetesResource resource2 = Serialization.clone(resource1);
+    ((Map<String, Object>) resource2.getAdditionalProperties().get("spec")).put("replicas", 2);
+    resource2.getAdditionalProperties().remove("status");
+
+    assertEquals("[{\"op\":\"replace\",\"path\":\"/spec/replicas\",\"value\":2},{\"op\":\"remove\",\"path\":\"/status\"}]",
+        PatchUtils.jsonDiff(resource1, resource2, false));
+  }
+
+  @Test
+  void testPruneUnchangedFields() {
+    UnchangedValuePruner pruner = new UnchangedValuePruner(Serialization.jsonMapper());
+    ReplicationController rc1 = new ReplicationControllerBuilder().withNewStatus().withFullyLabeledReplicas(1).endStatus()
+        .withNewMetadata().withName("x").endMetadata().build();
+    ReplicationController rc2 = new ReplicationControllerBuilder(rc1).editMetadata().withName("y").endMetadata().build();
+
+    Object[] pruned = pruner.prune(rc1, rc2);
+
+    assertNull(((ReplicationController) pruned[0]).getStatus());
+    assertEquals("x", ((ReplicationController) pruned[0]).getMetadata().getName());
+    assertEquals("y", ((ReplicationController) pruned[1]).getMetadata().getName());
+    assertEquals(1, rc2.getStatus().getFullyLabeledReplicas());
+    Object value = "value";
+    assertSame(value, pruner.prune(value, "other")[0]);
+  }
+
 }
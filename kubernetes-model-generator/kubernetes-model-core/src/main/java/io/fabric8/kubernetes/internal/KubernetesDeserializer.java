@@ -30,9 +30,12 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.KubernetesResourceMappingProvider;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
@@ -89,6 +92,12 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
 
     @Override
     public KubernetesResource deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp.currentToken() == JsonToken.START_OBJECT) {
+            return fromObject(jp, ctxt);
+        }
+        if (jp.currentToken() == JsonToken.START_ARRAY) {
+            return fromArray(jp, ctxt);
+        }
         JsonNode node = jp.readValueAsTree();
         if (node.isObject()) {
             return fromObjectNode(jp, node);
@@ -99,6 +108,54 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
         }
     }
 
+    private static KubernetesResource fromArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        List<HasMetadata> list = new ArrayList<>();
+        while (jp.nextToken() != JsonToken.END_ARRAY) {
+            if (jp.currentToken() == JsonToken.START_OBJECT) {
+                KubernetesResource resource = fromObject(jp, ctxt);
+                if (resource instanceof HasMetadata) {
+                    list.add((HasMetadata)resource);
+                }
+            } else {
+                jp.skipChildren();
+            }
+        }
+        return new KubernetesListBuilder().withItems(list).build();
+    }
+
+    /**
+     * Buffers the object as tokens, rather than a tree, so that the type can be determined
+     * from the kind and apiVersion without materializing intermediate nodes.
+     */
+    private static KubernetesResource fromObject(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        TokenBuffer buffer = ctxt.bufferAsCopyOfValue(jp);
+        ObjectCodec codec = jp.getCodec();
+        String apiVersion = null;
+        String kind = null;
+        try (JsonParser peek = buffer.asParser(codec)) {
+            peek.nextToken();
+            while (peek.nextToken() == JsonToken.FIELD_NAME && (apiVersion == null || kind == null)) {
+                String field = peek.getCurrentName();
+                JsonToken token = peek.nextToken();
+                if (token == JsonToken.VALUE_STRING && API_VERSION.equals(field)) {
+                    apiVersion = peek.getText();
+                } else if (token == JsonToken.VALUE_STRING && KIND.equals(field)) {
+                    kind = peek.getText();
+                } else {
+                    peek.skipChildren();
+                }
+            }
+        }
+        Class<? extends KubernetesResource> resourceType = getResourceType(mapping.createKey(apiVersion, kind));
+        if (resourceType == null) {
+            return null;
+        }
+        try (JsonParser parser = buffer.asParser(codec)) {
+            parser.nextToken();
+            return readInContext(resourceType, () -> codec.readValue(parser, resourceType));
+        }
+    }
+
     private KubernetesResource fromArrayNode(JsonParser jp, JsonNode node) throws IOException {
         Iterator<JsonNode> iterator = node.elements();
         List<HasMetadata> list = new ArrayList<>();
@@ -115,29 +172,45 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
     }
 
     private static KubernetesResource fromObjectNode(JsonParser jp, JsonNode node) throws IOException {
-        TypeKey key = getKey(node);
-        if (key != null) {
-            Class<? extends KubernetesResource> resourceType = mapping.getForKey(key);
-            if (resourceType == null) {
-              return jp.getCodec().treeToValue(node, GenericKubernetesResource.class);
-            } else if (KubernetesResource.class.isAssignableFrom(resourceType)){
-              boolean inTemplate = false;
-              if (TEMPLATE_CLASS_NAME.equals(resourceType.getName())) {
-                inTemplate = true;
-                IN_TEMPLATE.set(true);
-              }
-              try {
-                return jp.getCodec().treeToValue(node, resourceType);
-              } finally {
-                if (inTemplate) {
-                  IN_TEMPLATE.remove();
-                }
-              }
-            }
+        Class<? extends KubernetesResource> resourceType = getResourceType(getKey(node));
+        if (resourceType == null) {
+            return null;
+        }
+        return readInContext(resourceType, () -> jp.getCodec().treeToValue(node, resourceType));
+    }
+
+    private static Class<? extends KubernetesResource> getResourceType(TypeKey key) {
+        if (key == null) {
+            return null;
+        }
+        Class<? extends KubernetesResource> resourceType = mapping.getForKey(key);
+        if (resourceType == null) {
+            return GenericKubernetesResource.class;
+        } else if (KubernetesResource.class.isAssignableFrom(resourceType)) {
+            return resourceType;
         }
         return null;
     }
 
+    private interface Reader {
+        KubernetesResource read() throws IOException;
+    }
+
+    private static KubernetesResource readInContext(Class<? extends KubernetesResource> resourceType, Reader reader) throws IOException {
+        boolean inTemplate = false;
+        if (TEMPLATE_CLASS_NAME.equals(resourceType.getName())) {
+            inTemplate = true;
+            IN_TEMPLATE.set(true);
+        }
+        try {
+            return reader.read();
+        } finally {
+            if (inTemplate) {
+                IN_TEMPLATE.remove();
+            }
+        }
+    }
+
     /**
      * Return a string representation of the key of the type: <version>#<kind>.
      */
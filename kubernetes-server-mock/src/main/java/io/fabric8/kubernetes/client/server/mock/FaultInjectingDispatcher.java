@@ -0,0 +1,298 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock;
+
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.ByteString;
+
+import java.net.HttpURLConnection;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Applies the latency, errors and watch stream faults of a {@link LoadProfile} to the responses of another
+ * dispatcher. Without a profile requests are passed through unchanged.
+ */
+class FaultInjectingDispatcher extends Dispatcher {
+
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+  private final Dispatcher delegate;
+  private volatile Faults faults;
+
+  FaultInjectingDispatcher(Dispatcher delegate) {
+    this.delegate = delegate;
+  }
+
+  Dispatcher getDelegate() {
+    return delegate;
+  }
+
+  void setLoadProfile(LoadProfile profile) {
+    this.faults = profile == null ? null : new Faults(profile);
+  }
+
+  @Override
+  public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+    Faults current = this.faults;
+    if (current == null) {
+      return delegate.dispatch(request);
+    }
+    Random random = current.randomFor(request);
+    long latency = current.nextLatencyMillis(random);
+    if (latency > 0) {
+      TimeUnit.MILLISECONDS.sleep(latency);
+    }
+    Integer errorCode = current.nextErrorCode(random);
+    if (errorCode != null) {
+      return errorResponse(errorCode);
+    }
+    MockResponse response = delegate.dispatch(request);
+    WebSocketListener listener = response.getWebSocketListener();
+    if (listener != null && current.affectsWatches()) {
+      response.withWebSocketUpgrade(new FaultInjectingWebSocketListener(listener, current, new Random(random.nextLong())));
+    }
+    return response;
+  }
+
+  @Override
+  public MockResponse peek() {
+    return delegate.peek();
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  private static MockResponse errorResponse(int code) {
+    Status status = new StatusBuilder().withStatus("Failure")
+        .withCode(code)
+        .withReason(reason(code))
+        .withMessage("injected by the mock server load profile")
+        .build();
+    MockResponse response = new MockResponse().setResponseCode(code).setBody(Serialization.asJson(status));
+    if (code == HTTP_TOO_MANY_REQUESTS) {
+      response.setHeader("Retry-After", "1");
+    }
+    return response;
+  }
+
+  private static String reason(int code) {
+    switch (code) {
+      case HTTP_TOO_MANY_REQUESTS:
+        return "TooManyRequests";
+      case HttpURLConnection.HTTP_GONE:
+        return "Expired";
+      case HttpURLConnection.HTTP_INTERNAL_ERROR:
+        return "InternalError";
+      case HttpURLConnection.HTTP_UNAVAILABLE:
+        return "ServiceUnavailable";
+      default:
+        return "";
+    }
+  }
+
+  /**
+   * Rather than one generator shared by all requests, which would make the choices depend on how concurrent
+   * requests interleave, each request gets its own generator. It is seeded from the profile seed, the method and
+   * path, and how many times that method and path have been requested. Each watch stream in turn gets a generator
+   * seeded from its request's.
+   */
+  private static final class Faults {
+    private final long seed;
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+    private final ToLongFunction<Random> latencyMillis;
+    private final Map<Integer, Double> errorRates;
+    private final long watchEventDelayMillis;
+    private final double watchDropProbability;
+
+    private Faults(LoadProfile profile) {
+      this.seed = profile.getSeed();
+      this.latencyMillis = profile.getLatencyMillis();
+      this.errorRates = profile.getErrorRates();
+      this.watchEventDelayMillis = profile.getWatchEventDelayMillis();
+      this.watchDropProbability = profile.getWatchDropProbability();
+    }
+
+    private Random randomFor(RecordedRequest request) {
+      String key = request.getMethod() + " " + request.getPath();
+      long count = requestCounts.computeIfAbsent(key, k -> new AtomicLong()).getAndIncrement();
+      // Random's first values are close for close seeds, so the seed is mixed (the murmur3 finalizer)
+      long mixed = (seed * 31 + key.hashCode()) * 31 + count;
+      mixed = (mixed ^ (mixed >>> 33)) * 0xff51afd7ed558ccdL;
+      mixed = (mixed ^ (mixed >>> 33)) * 0xc4ceb9fe1a85ec53L;
+      return new Random(mixed ^ (mixed >>> 33));
+    }
+
+    private long nextLatencyMillis(Random random) {
+      return latencyMillis == null ? 0 : latencyMillis.applyAsLong(random);
+    }
+
+    /**
+     * @return the code to fail the request with, or null if it should not fail
+     */
+    private Integer nextErrorCode(Random random) {
+      if (errorRates.isEmpty()) {
+        return null;
+      }
+      double roll = random.nextDouble();
+      for (Map.Entry<Integer, Double> rate : errorRates.entrySet()) {
+        roll -= rate.getValue();
+        if (roll < 0) {
+          return rate.getKey();
+        }
+      }
+      return null;
+    }
+
+    private boolean affectsWatches() {
+      return watchEventDelayMillis > 0 || watchDropProbability > 0;
+    }
+
+    private boolean nextDrop(Random random) {
+      return watchDropProbability > 0 && random.nextDouble() < watchDropProbability;
+    }
+  }
+
+  /**
+   * Passes the callbacks on with a {@link WebSocket} that delays or drops the messages sent
+   */
+  private static final class FaultInjectingWebSocketListener extends WebSocketListener {
+    private final WebSocketListener delegate;
+    private final Faults faults;
+    private final Random random;
+    private volatile WebSocket webSocket;
+
+    private FaultInjectingWebSocketListener(WebSocketListener delegate, Faults faults, Random random) {
+      this.delegate = delegate;
+      this.faults = faults;
+      this.random = random;
+    }
+
+    private WebSocket wrap(WebSocket socket) {
+      if (webSocket == null) {
+        webSocket = new FaultInjectingWebSocket(socket, faults, random);
+      }
+      return webSocket;
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket, Response response) {
+      delegate.onOpen(wrap(webSocket), response);
+    }
+
+    @Override
+    public void onMessage(WebSocket webSocket, String text) {
+      delegate.onMessage(wrap(webSocket), text);
+    }
+
+    @Override
+    public void onMessage(WebSocket webSocket, ByteString bytes) {
+      delegate.onMessage(wrap(webSocket), bytes);
+    }
+
+    @Override
+    public void onClosing(WebSocket webSocket, int code, String reason) {
+      delegate.onClosing(wrap(webSocket), code, reason);
+    }
+
+    @Override
+    public void onClosed(WebSocket webSocket, int code, String reason) {
+      delegate.onClosed(wrap(webSocket), code, reason);
+    }
+
+    @Override
+    public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+      delegate.onFailure(wrap(webSocket), t, response);
+    }
+  }
+
+  private static final class FaultInjectingWebSocket implements WebSocket {
+    private final WebSocket delegate;
+    private final Faults faults;
+    private final Random random;
+
+    private FaultInjectingWebSocket(WebSocket delegate, Faults faults, Random random) {
+      this.delegate = delegate;
+      this.faults = faults;
+      this.random = random;
+    }
+
+    /**
+     * Called on the thread sending the stream's messages, so sleeping delays this stream only and keeps
+     * its messages in order.
+     */
+    private boolean beforeSend() {
+      if (faults.nextDrop(random)) {
+        delegate.cancel();
+        return false;
+      }
+      if (faults.watchEventDelayMillis > 0) {
+        try {
+          TimeUnit.MILLISECONDS.sleep(faults.watchEventDelayMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public Request request() {
+      return delegate.request();
+    }
+
+    @Override
+    public long queueSize() {
+      return delegate.queueSize();
+    }
+
+    @Override
+    public boolean send(String text) {
+      return beforeSend() && delegate.send(text);
+    }
+
+    @Override
+    public boolean send(ByteString bytes) {
+      return beforeSend() && delegate.send(bytes);
+    }
+
+    @Override
+    public boolean close(int code, String reason) {
+      return delegate.close(code, reason);
+    }
+
+    @Override
+    public void cancel() {
+      delegate.cancel();
+    }
+  }
+}
@@ -28,6 +28,7 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -37,6 +38,7 @@ import io.fabric8.mockwebserver.crud.AttributeSet;
 import io.fabric8.mockwebserver.crud.CrudDispatcher;
 import io.fabric8.zjsonpatch.JsonDiff;
 import io.fabric8.zjsonpatch.JsonPatch;
+import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -48,19 +50,30 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -72,16 +85,30 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
   private static final String RESOURCE_VERSION = "resourceVersion";
   private static final String GENERATION = "generation";
   private static final String STATUS = "status";
+  private static final int DEFAULT_EVENT_HISTORY_LIMIT = 1000;
+  private static final long DEFAULT_BOOKMARK_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
 
   private static final Logger LOGGER = LoggerFactory.getLogger(KubernetesCrudDispatcher.class);
   public static final int HTTP_UNPROCESSABLE_ENTITY = 422;
   private final Set<WatchEventsListener> watchEventListeners = new CopyOnWriteArraySet<>();
   private final CustomResourceDefinitionProcessor crdProcessor;
   private final KubernetesAttributesExtractor kubernetesAttributesExtractor;
+  private final KubernetesCrudIndex index = new KubernetesCrudIndex();
 
   private AtomicLong resourceVersion = new AtomicLong();
   private KubernetesResponseComposer kubernetesResponseComposer;
 
+  // writes are serialized so that events are recorded in resourceVersion order. Reads, including the start
+  // of watches, hold the read lock so they see the state at a single resourceVersion
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // guarded by lock
+  private final Deque<WatchHistoryEvent> eventHistory = new ArrayDeque<>();
+  private long compactedResourceVersion;
+  private volatile int eventHistoryLimit = DEFAULT_EVENT_HISTORY_LIMIT;
+  private volatile long bookmarkIntervalMillis = DEFAULT_BOOKMARK_INTERVAL_MILLIS;
+  // the kind last stored under each api, version and plural, used for the objects of bookmarks
+  private final Map<List<String>, String> kinds = new ConcurrentHashMap<>();
+
   public KubernetesCrudDispatcher() {
     this(Collections.emptyList());
   }
@@ -98,6 +125,38 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
     crdProcessor = new CustomResourceDefinitionProcessor(kubernetesAttributesExtractor);
   }
 
+  /**
+   * Sets how many events are kept for watches that resume from a resourceVersion. A watch from an
+   * older resourceVersion fails with 410 Gone, as it would after compaction on a real cluster.
+   *
+   * @param eventHistoryLimit the number of events to keep
+   */
+  public void setEventHistoryLimit(int eventHistoryLimit) {
+    if (eventHistoryLimit < 0) {
+      throw new IllegalArgumentException("Invalid eventHistoryLimit provided, It should not be negative");
+    }
+    lock.writeLock().lock();
+    try {
+      this.eventHistoryLimit = eventHistoryLimit;
+      compactEventHistory();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Sets how often watches that allow bookmarks are sent a BOOKMARK event
+   *
+   * @param interval the time between bookmarks
+   * @param unit the unit of interval
+   */
+  public void setBookmarkInterval(long interval, TimeUnit unit) {
+    if (interval <= 0) {
+      throw new IllegalArgumentException("Invalid bookmark interval provided, It should be a positive value");
+    }
+    this.bookmarkIntervalMillis = unit.toMillis(interval);
+  }
+
   /**
    * Adds the specified object to the in-memory db.
    *
@@ -107,7 +166,12 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
    */
   @Override
   public MockResponse handleCreate(String path, String s) {
-    return validateRequestBodyAndHandleRequest(s, h -> doCreateOrModify(path, s, h, Action.ADDED));
+    lock.writeLock().lock();
+    try {
+      return validateRequestBodyAndHandleRequest(s, h -> doCreateOrModify(path, s, h, Action.ADDED));
+    } finally {
+      lock.writeLock().unlock();
+    }
   }
 
   /**
@@ -119,7 +183,12 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
    */
   @Override
   public MockResponse handleUpdate(String path, String s) {
-    return validateRequestBodyAndHandleRequest(s, h -> doCreateOrModify(path, s, h, Action.MODIFIED));
+    lock.writeLock().lock();
+    try {
+      return validateRequestBodyAndHandleRequest(s, h -> doCreateOrModify(path, s, h, Action.MODIFIED));
+    } finally {
+      lock.writeLock().unlock();
+    }
   }
 
   /**
@@ -136,30 +205,102 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
     MockResponse response = new MockResponse();
     List<String> items = new ArrayList<>();
     AttributeSet query = attributeExtractor.fromPath(path);
-
-    synchronized (map) {
-      map.entrySet().stream()
-          .filter(entry -> entry.getKey().matches(query))
-          .forEach(entry -> {
-            LOGGER.debug("Entry found for query {} : {}", query, entry);
-            items.add(entry.getValue());
-          });
+    String listResourceVersion;
+    List<KubernetesCrudIndex.Entry> entries;
+    // the items must be exactly those at the list resourceVersion, so that a watch from it neither misses
+    // nor repeats a change
+    lock.readLock().lock();
+    try {
+      listResourceVersion = String.valueOf(resourceVersion.get());
+      entries = findEntries(path, query, null);
+    } finally {
+      lock.readLock().unlock();
     }
 
     if (query.containsKey(KubernetesAttributesExtractor.NAME)) {
-      if (!items.isEmpty()) {
-        response.setBody(items.get(0));
+      if (!entries.isEmpty()) {
+        response.setBody(entries.get(0).getValue());
         response.setResponseCode(HttpURLConnection.HTTP_OK);
       } else {
         response.setResponseCode(HttpURLConnection.HTTP_NOT_FOUND);
       }
+      return response;
+    }
+
+    String limitParameter = queryParameter(path, "limit");
+    String continueParameter = queryParameter(path, "continue");
+    String continueToken = null;
+    if (Utils.isNotNullOrEmpty(limitParameter) || Utils.isNotNullOrEmpty(continueParameter)) {
+      // pages are in key order, continuing after the last key returned
+      entries.sort(Comparator.comparing(KubernetesCrudIndex.Entry::getSortKey));
+      String after = null;
+      if (Utils.isNotNullOrEmpty(continueParameter)) {
+        String[] token = decodeContinue(continueParameter);
+        if (token == null) {
+          return new MockResponse().setResponseCode(HttpURLConnection.HTTP_BAD_REQUEST);
+        }
+        if (!token[0].equals(listResourceVersion)) {
+          // only the current state is kept, so a later page can't be consistent with the first
+          return expiredContinue();
+        }
+        after = token[1];
+      }
+      int limit;
+      try {
+        limit = Utils.isNullOrEmpty(limitParameter) ? 0 : Integer.parseInt(limitParameter);
+      } catch (NumberFormatException e) {
+        return new MockResponse().setResponseCode(HttpURLConnection.HTTP_BAD_REQUEST);
+      }
+      String lastKey = null;
+      for (KubernetesCrudIndex.Entry entry : entries) {
+        if (after != null && entry.getSortKey().compareTo(after) <= 0) {
+          continue;
+        }
+        if (limit > 0 && items.size() == limit) {
+          continueToken = encodeContinue(listResourceVersion, lastKey);
+          break;
+        }
+        items.add(entry.getValue());
+        lastKey = entry.getSortKey();
+      }
     } else {
-      response.setBody(kubernetesResponseComposer.compose(items, String.valueOf(resourceVersion.get())));
-      response.setResponseCode(HttpURLConnection.HTTP_OK);
+      entries.forEach(entry -> {
+        LOGGER.debug("Entry found for query {} : {}", query, entry);
+        items.add(entry.getValue());
+      });
     }
+
+    response.setBody(kubernetesResponseComposer.compose(items, listResourceVersion, continueToken));
+    response.setResponseCode(HttpURLConnection.HTTP_OK);
     return response;
   }
 
+  private static MockResponse expiredContinue() {
+    Status expired = new StatusBuilder().withStatus("Failure")
+        .withReason("Expired")
+        .withMessage("The provided continue parameter is too old to display a consistent list result."
+            + " You can start a new list without the continue parameter.")
+        .withCode(HttpURLConnection.HTTP_GONE)
+        .build();
+    return new MockResponse().setResponseCode(HttpURLConnection.HTTP_GONE).setBody(Serialization.asJson(expired));
+  }
+
+  private static String encodeContinue(String listResourceVersion, String lastKey) {
+    return Base64.getUrlEncoder().encodeToString((listResourceVersion + "\n" + lastKey).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return the list resourceVersion and the last key returned, or null if the token is not valid
+   */
+  private static String[] decodeContinue(String continueToken) {
+    try {
+      String[] token = new String(Base64.getUrlDecoder().decode(continueToken), StandardCharsets.UTF_8).split("\n", 2);
+      return token.length == 2 ? token : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
   /**
    * Patches the specified object to the in-memory db.
    *
@@ -167,6 +308,15 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
    */
   @Override
   public MockResponse handlePatch(RecordedRequest request) {
+    lock.writeLock().lock();
+    try {
+      return doPatch(request);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private MockResponse doPatch(RecordedRequest request) {
     final String path = request.getPath();
     final String requestBody = request.getBody().readUtf8();
     final String contentType = request.getHeader("Content-Type");
@@ -174,12 +324,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
 
     AttributeSet query = attributeExtractor.fromPath(path);
 
-    Optional<Map.Entry<AttributeSet, String>> bodyEntry;
-    synchronized (map) {
-      bodyEntry = map.entrySet().stream()
-          .filter(entry -> entry.getKey().matches(query))
-          .findFirst();
-    }
+    Optional<KubernetesCrudIndex.Entry> bodyEntry = findEntries(path, query, null).stream().findFirst();
 
     if (!bodyEntry.isPresent()) {
       response.setResponseCode(HttpURLConnection.HTTP_NOT_FOUND);
@@ -241,10 +386,10 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
         String updatedAsString = Serialization.asJson(updated);
 
         return validateRequestBodyAndHandleRequest(updatedAsString, h -> {
-          processEvent(path, query, bodyEntry.get().getKey(), updatedAsString);
+          String stored = processEvent(path, query, bodyEntry.get().getKey(), updatedAsString);
 
           response.setResponseCode(HttpURLConnection.HTTP_ACCEPTED);
-          response.setBody(updatedAsString);
+          response.setBody(stored);
           return response;
         });
       } catch (JsonProcessingException e) {
@@ -262,7 +407,12 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
    */
   @Override
   public MockResponse handleDelete(String path) {
-    return new MockResponse().setResponseCode(doDelete(path));
+    lock.writeLock().lock();
+    try {
+      return new MockResponse().setResponseCode(doDelete(path));
+    } finally {
+      lock.writeLock().unlock();
+    }
   }
 
   /**
@@ -278,19 +428,95 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
     if (resourceName != null) {
       query = query.add(new Attribute("name", resourceName));
     }
+    AttributeSet watchQuery = query;
+    String watchResourceVersion = queryParameter(path, RESOURCE_VERSION);
+    boolean bookmarks = Boolean.parseBoolean(queryParameter(path, "allowWatchBookmarks"));
     WatchEventsListener watchEventListener = new WatchEventsListener(context, query, watchEventListeners, LOGGER,
         watch -> {
-          synchronized (map) {
-            map.entrySet().stream()
-                .filter(entry -> watch.attributeMatches(entry.getKey()))
-                .forEach(entry -> watch.sendWebSocketResponse(entry.getValue(), Action.ADDED));
+          lock.readLock().lock();
+          try {
+            if (!startWatch(watch, path, watchQuery, resourceName, watchResourceVersion)) {
+              return;
+            }
+            // only added once the initial events are queued, so that later events are sent after them
+            watchEventListeners.add(watch);
+          } finally {
+            lock.readLock().unlock();
+          }
+          if (bookmarks) {
+            Map<String, String> pathValues = kubernetesAttributesExtractor.fromKubernetesPath(path);
+            watch.scheduleBookmarks(w -> sendBookmark(w, pathValues), bookmarkIntervalMillis);
           }
         });
-    watchEventListeners.add(watchEventListener);
     mockResponse.setSocketPolicy(SocketPolicy.KEEP_OPEN);
     return mockResponse.withWebSocketUpgrade(watchEventListener);
   }
 
+  /**
+   * Send the initial events of a watch, either the current state as ADDED events or, if the watch
+   * resumes from a resourceVersion, the events that followed it.
+   *
+   * @return false if the resourceVersion has been compacted, in which case the watch is sent a 410 Gone error
+   */
+  private boolean startWatch(WatchEventsListener watch, String path, AttributeSet query, String resourceName,
+      String watchResourceVersion) {
+    long from = parseResourceVersion(watchResourceVersion);
+    if (from <= 0) {
+      findEntries(path, query, resourceName).forEach(entry -> watch.sendWebSocketResponse(entry.getValue(), Action.ADDED));
+      return true;
+    }
+    if (from < compactedResourceVersion) {
+      Status gone = new StatusBuilder().withStatus("Failure")
+          .withReason("Expired")
+          .withMessage("too old resource version: " + from + " (" + compactedResourceVersion + ")")
+          .withCode(HttpURLConnection.HTTP_GONE)
+          .build();
+      watch.sendWebSocketResponse(Serialization.asJson(gone), Action.ERROR);
+      return false;
+    }
+    for (WatchHistoryEvent event : eventHistory) {
+      if (event.resourceVersion > from) {
+        sendEvent(watch, event);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Called from the watch to queue a bookmark. This holds the read lock so that the bookmark follows
+   * any event it covers.
+   */
+  private void sendBookmark(WatchEventsListener watch, Map<String, String> pathValues) {
+    String api = pathValues.get(KubernetesAttributesExtractor.API);
+    String version = pathValues.get(KubernetesAttributesExtractor.VERSION);
+    String plural = pathValues.get(KubernetesAttributesExtractor.PLURAL);
+    String apiVersion = ApiVersionUtil.joinApiGroupAndVersion(api, version);
+    CustomResourceDefinitionContext crdContext = kubernetesAttributesExtractor.getCrdContext(api, version, plural);
+    String kind = crdContext != null ? crdContext.getKind() : kinds.get(Arrays.asList(api, version, plural));
+    lock.readLock().lock();
+    try {
+      watch.sendBookmark(String.valueOf(resourceVersion.get()), kind, apiVersion);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static long parseResourceVersion(String value) {
+    if (Utils.isNullOrEmpty(value)) {
+      return 0;
+    }
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static String queryParameter(String path, String name) {
+    HttpUrl url = HttpUrl.parse("http://localhost" + (path.startsWith("/") ? path : "/" + path));
+    return url == null ? null : url.queryParameter(name);
+  }
+
   private boolean detectWatchMode(String path) {
     String queryString = null;
     try {
@@ -330,7 +556,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
 
   private int doDelete(String path) {
     AttributeSet fromPath = attributeExtractor.fromPath(path);
-    List<AttributeSet> items = findItems(fromPath);
+    List<AttributeSet> items = findItems(path, fromPath, null);
 
     if (items.isEmpty())
       return HttpURLConnection.HTTP_NOT_FOUND;
@@ -339,41 +565,134 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
     return HttpURLConnection.HTTP_OK;
   }
 
-  private void processEvent(String path, AttributeSet pathAttributes, AttributeSet oldAttributes, String newState) {
-    String existing = map.remove(oldAttributes);
+  /**
+   * Store the new state, which is null for a delete, and notify the watches. Must be called holding the write lock.
+   *
+   * @return the stored state, which has a new resourceVersion if it changed
+   */
+  private String processEvent(String path, AttributeSet pathAttributes, AttributeSet oldAttributes, String newState) {
+    String existing = index.remove(oldAttributes);
+    if (oldAttributes != null) {
+      map.remove(oldAttributes);
+    }
+    boolean changed = !sameState(existing, newState);
+    if (changed) {
+      // every change, including status updates and deletes, is given a resourceVersion after the previous one
+      if (newState != null) {
+        newState = withNewResourceVersion(newState);
+      } else if (existing != null) {
+        existing = withResourceVersion(existing, resourceVersion.incrementAndGet());
+      }
+    }
     AttributeSet newAttributes = null;
     if (newState != null) {
-      newAttributes = kubernetesAttributesExtractor.fromResource(newState);
+      HasMetadata resource = toKubernetesResource(newState);
+      newAttributes = resource != null ? kubernetesAttributesExtractor.extract(resource) : new AttributeSet();
+      String plural = kubernetesAttributesExtractor.fromKubernetesPath(path).get(KubernetesAttributesExtractor.PLURAL);
       // corner case - we need to get the plural from the path
       if (!newAttributes.containsKey(KubernetesAttributesExtractor.PLURAL)) {
         newAttributes = AttributeSet.merge(pathAttributes, newAttributes);
+      } else if (plural != null
+          && !newAttributes.matches(new AttributeSet().add(new Attribute(KubernetesAttributesExtractor.PLURAL, plural)))) {
+        // the resource declares a different plural, so it can't be indexed under the path's
+        plural = null;
+      }
+      index.put(newAttributes, newState, plural, resource);
+      if (plural != null && resource != null && resource.getKind() != null && resource.getApiVersion() != null) {
+        kinds.put(Arrays.asList(ApiVersionUtil.trimGroupOrNull(resource.getApiVersion()),
+            ApiVersionUtil.trimVersion(resource.getApiVersion()), plural), resource.getKind());
       }
       map.put(newAttributes, newState);
     }
-    if (!Objects.equals(existing, newState)) {
-      AttributeSet finalAttributeSet = newAttributes;
-      watchEventListeners.forEach(listener -> {
-        boolean matchesOld = oldAttributes != null && listener.attributeMatches(oldAttributes);
-        boolean matchesNew = finalAttributeSet != null && listener.attributeMatches(finalAttributeSet);
-        if (matchesOld && matchesNew) {
-          listener.sendWebSocketResponse(newState, Action.MODIFIED);
-        } else if (matchesOld) {
-          listener.sendWebSocketResponse(existing, Action.DELETED);
-        } else if (matchesNew) {
-          listener.sendWebSocketResponse(newState, Action.ADDED);
-        }
-      });
+    if (changed) {
+      WatchHistoryEvent event = new WatchHistoryEvent(resourceVersion.get(), oldAttributes, existing, newAttributes,
+          newState);
+      eventHistory.add(event);
+      compactEventHistory();
+      watchEventListeners.forEach(listener -> sendEvent(listener, event));
 
       crdProcessor.process(path, Utils.getNonNullOrElse(newState, existing), newState == null);
     }
+    return newState;
+  }
+
+  /**
+   * A write that leaves the resource as it was is not a change, even if it is serialized differently
+   */
+  private boolean sameState(String existing, String newState) {
+    if (Objects.equals(existing, newState)) {
+      return true;
+    }
+    if (existing == null || newState == null) {
+      return false;
+    }
+    try {
+      return context.getMapper().readTree(existing).equals(context.getMapper().readTree(newState));
+    } catch (JsonProcessingException e) {
+      return false;
+    }
+  }
+
+  private static void sendEvent(WatchEventsListener listener, WatchHistoryEvent event) {
+    boolean matchesOld = event.oldAttributes != null && listener.attributeMatches(event.oldAttributes);
+    boolean matchesNew = event.newAttributes != null && listener.attributeMatches(event.newAttributes);
+    if (matchesOld && matchesNew) {
+      listener.sendWebSocketResponse(event.newState, Action.MODIFIED);
+    } else if (matchesOld) {
+      listener.sendWebSocketResponse(event.oldState, Action.DELETED);
+    } else if (matchesNew) {
+      listener.sendWebSocketResponse(event.newState, Action.ADDED);
+    }
+  }
+
+  private void compactEventHistory() {
+    while (eventHistory.size() > eventHistoryLimit) {
+      compactedResourceVersion = eventHistory.poll().resourceVersion;
+    }
   }
 
-  private List<AttributeSet> findItems(AttributeSet query) {
-    synchronized (map) {
-      return map.keySet().stream()
-          .filter(entry -> entry.matches(query))
-          .collect(Collectors.toList());
+  /**
+   * @return the state with a resourceVersion greater than any previous event
+   */
+  private String withNewResourceVersion(String state) {
+    HasMetadata resource = toKubernetesResource(state);
+    long current = resource == null ? 0 : parseResourceVersion(resource.getMetadata().getResourceVersion());
+    WatchHistoryEvent last = eventHistory.peekLast();
+    long lastEvent = last == null ? compactedResourceVersion : last.resourceVersion;
+    if (current > lastEvent && current == resourceVersion.get()) {
+      return state;
     }
+    return withResourceVersion(state, resourceVersion.incrementAndGet());
+  }
+
+  private String withResourceVersion(String state, long version) {
+    try {
+      JsonNode node = context.getMapper().readTree(state);
+      JsonNode metadata = node.get("metadata");
+      if (!(metadata instanceof ObjectNode)) {
+        return state;
+      }
+      ((ObjectNode) metadata).put(RESOURCE_VERSION, String.valueOf(version));
+      return context.getMapper().writeValueAsString(node);
+    } catch (JsonProcessingException e) {
+      return state;
+    }
+  }
+
+  private List<AttributeSet> findItems(String path, AttributeSet query, String name) {
+    return findEntries(path, query, name).stream().map(Map.Entry::getKey).collect(Collectors.toList());
+  }
+
+  /**
+   * @param name the name to look up if it is not part of the path
+   */
+  private List<KubernetesCrudIndex.Entry> findEntries(String path, AttributeSet query, String name) {
+    Map<String, String> pathValues = kubernetesAttributesExtractor.fromKubernetesPath(path);
+    if (name != null) {
+      pathValues = new HashMap<>(pathValues);
+      pathValues.put(KubernetesAttributesExtractor.NAME, name);
+    }
+    return index.find(query, pathValues, KubernetesCrudIndex.labelRequirements(path));
   }
 
   private MockResponse doCreateOrModify(String path, String initial, HasMetadata value, Action event) {
@@ -392,7 +711,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
 
       if (event == Action.ADDED) {
         attributes = attributes.add(new Attribute(KubernetesAttributesExtractor.NAME, KubernetesResourceUtil.getName(value)));
-        List<AttributeSet> items = findItems(attributes);
+        List<AttributeSet> items = findItems(path, attributes, KubernetesResourceUtil.getName(value));
         if (items.isEmpty()) {
           if (statusSubresource) {
             removeStatus(updated);
@@ -402,12 +721,12 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
           responseCode = HttpURLConnection.HTTP_CONFLICT;
         }
       } else {
-        List<AttributeSet> items = findItems(attributes);
+        List<AttributeSet> items = findItems(path, attributes, null);
         if (items.isEmpty()) {
           responseCode = HttpURLConnection.HTTP_NOT_FOUND;
         } else {
           existingAttributes = items.get(0);
-          String existing = map.get(existingAttributes);
+          String existing = index.get(existingAttributes);
           JsonNode existingNode = context.getMapper().readTree(existing);
           if (isStatusPath(path)) {
             JsonNode status = removeStatus(updated);
@@ -426,8 +745,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
 
       if (responseCode == HttpURLConnection.HTTP_OK) {
         String s = context.getMapper().writeValueAsString(updated);
-        processEvent(path, attributes, existingAttributes, s);
-        mockResponse.setBody(s);
+        mockResponse.setBody(processEvent(path, attributes, existingAttributes, s));
       }
       mockResponse.setResponseCode(responseCode);
       return mockResponse;
@@ -578,6 +896,32 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Resetabl
 
   @Override
   public void reset() {
-    map.clear();
+    lock.writeLock().lock();
+    try {
+      map.clear();
+      index.clear();
+      kinds.clear();
+      eventHistory.clear();
+      compactedResourceVersion = resourceVersion.get();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private static final class WatchHistoryEvent {
+    private final long resourceVersion;
+    private final AttributeSet oldAttributes;
+    private final String oldState;
+    private final AttributeSet newAttributes;
+    private final String newState;
+
+    private WatchHistoryEvent(long resourceVersion, AttributeSet oldAttributes, String oldState,
+        AttributeSet newAttributes, String newState) {
+      this.resourceVersion = resourceVersion;
+      this.oldAttributes = oldAttributes;
+      this.oldState = oldState;
+      this.newAttributes = newAttributes;
+      this.newState = newState;
+    }
   }
 }
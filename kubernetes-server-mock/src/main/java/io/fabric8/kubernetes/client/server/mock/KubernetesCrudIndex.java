@@ -0,0 +1,259 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.mockwebserver.crud.AttributeSet;
+import okhttp3.HttpUrl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The objects held by the {@link KubernetesCrudDispatcher}, indexed by plural, namespace, name and label.
+ * <p>
+ * A query is answered from the smallest index bucket that applies to it, and the candidates are then
+ * checked with {@link AttributeSet#matches(AttributeSet)}, so the results are the same as a scan of every
+ * object. Objects are returned in the order they were last written.
+ * <p>
+ * Reads don't take a lock, writes are serialized.
+ */
+class KubernetesCrudIndex {
+
+  private static final Pattern LABEL_EQUALITY = Pattern.compile("(?<key>[a-zA-Z0-9-_./]+)==?(?<value>[a-zA-Z0-9-_.]+)");
+
+  static final class Entry implements Map.Entry<AttributeSet, String> {
+    private final AttributeSet attributes;
+    private final String value;
+    private final long sequence;
+    private final String plural;
+    private final String namespace;
+    private final String name;
+    private final Map<String, String> labels;
+
+    private Entry(AttributeSet attributes, String value, long sequence, String plural, HasMetadata resource) {
+      this.attributes = attributes;
+      this.value = value;
+      this.sequence = sequence;
+      this.plural = plural;
+      this.namespace = resource == null ? null : resource.getMetadata().getNamespace();
+      this.name = resource == null ? null : resource.getMetadata().getName();
+      Map<String, String> resourceLabels = resource == null ? null : resource.getMetadata().getLabels();
+      this.labels = resourceLabels == null ? Collections.emptyMap() : new LinkedHashMap<>(resourceLabels);
+    }
+
+    @Override
+    public AttributeSet getKey() {
+      return attributes;
+    }
+
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public String setValue(String value) {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @return namespace/name, which is the order of a paginated list
+     */
+    String getSortKey() {
+      return (namespace == null ? "" : namespace) + "/" + name;
+    }
+  }
+
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<AttributeSet, Entry> entries = new ConcurrentHashMap<>();
+  // plural -> namespace / name / label -> entries, objects without a known plural are only in entries
+  private final Map<String, Map<String, Set<Entry>>> byNamespace = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Set<Entry>>> byName = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Set<Entry>>> byLabel = new ConcurrentHashMap<>();
+  private final Set<Entry> unknownPlural = ConcurrentHashMap.newKeySet();
+
+  /**
+   * @param plural the plural the object is found with, or null if it isn't known
+   * @param resource the parsed object, may be null if it is not a resource
+   * @return the value previously held for the attributes
+   */
+  synchronized String put(AttributeSet attributes, String value, String plural, HasMetadata resource) {
+    String existing = remove(attributes);
+    Entry entry = new Entry(attributes, value, sequence.incrementAndGet(), plural, resource);
+    entries.put(attributes, entry);
+    if (entry.plural == null) {
+      unknownPlural.add(entry);
+    } else {
+      bucket(byNamespace, entry.plural, String.valueOf(entry.namespace)).add(entry);
+      bucket(byName, entry.plural, String.valueOf(entry.name)).add(entry);
+      entry.labels.forEach((k, v) -> bucket(byLabel, entry.plural, labelKey(k, v)).add(entry));
+    }
+    return existing;
+  }
+
+  synchronized String remove(AttributeSet attributes) {
+    if (attributes == null) {
+      return null;
+    }
+    Entry entry = entries.remove(attributes);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.plural == null) {
+      unknownPlural.remove(entry);
+    } else {
+      removeFromBucket(byNamespace, entry.plural, String.valueOf(entry.namespace), entry);
+      removeFromBucket(byName, entry.plural, String.valueOf(entry.name), entry);
+      entry.labels.forEach((k, v) -> removeFromBucket(byLabel, entry.plural, labelKey(k, v), entry));
+    }
+    return entry.value;
+  }
+
+  String get(AttributeSet attributes) {
+    Entry entry = entries.get(attributes);
+    return entry == null ? null : entry.value;
+  }
+
+  synchronized void clear() {
+    entries.clear();
+    byNamespace.clear();
+    byName.clear();
+    byLabel.clear();
+    unknownPlural.clear();
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * Find the objects whose attributes match the query
+   *
+   * @param query the attributes to match
+   * @param pathValues the plural, namespace and name of the query, see
+   *        {@link KubernetesAttributesExtractor#fromKubernetesPath(String)}
+   * @param labels label equality requirements of the query
+   */
+  List<Entry> find(AttributeSet query, Map<String, String> pathValues, Map<String, String> labels) {
+    Collection<Entry> candidates = candidates(pathValues, labels);
+    List<Entry> matches = new ArrayList<>();
+    for (Entry entry : candidates) {
+      if (entry.attributes.matches(query)) {
+        matches.add(entry);
+      }
+    }
+    if (candidates != entries.values()) {
+      for (Entry entry : unknownPlural) {
+        if (entry.attributes.matches(query)) {
+          matches.add(entry);
+        }
+      }
+    }
+    matches.sort(Comparator.comparingLong(e -> e.sequence));
+    return matches;
+  }
+
+  private Collection<Entry> candidates(Map<String, String> pathValues, Map<String, String> labels) {
+    String plural = pathValues.get(KubernetesAttributesExtractor.PLURAL);
+    if (plural == null) {
+      return entries.values();
+    }
+    Collection<Entry> smallest = null;
+    String name = pathValues.get(KubernetesAttributesExtractor.NAME);
+    if (name != null) {
+      smallest = smaller(smallest, get(byName, plural, name));
+    }
+    String namespace = pathValues.get(KubernetesAttributesExtractor.NAMESPACE);
+    if (namespace != null) {
+      smallest = smaller(smallest, get(byNamespace, plural, namespace));
+    }
+    for (Map.Entry<String, String> label : labels.entrySet()) {
+      smallest = smaller(smallest, get(byLabel, plural, labelKey(label.getKey(), label.getValue())));
+    }
+    if (smallest == null) {
+      // everything with the plural
+      List<Entry> all = new ArrayList<>();
+      byNamespace.getOrDefault(plural, Collections.emptyMap()).values().forEach(all::addAll);
+      return all;
+    }
+    return smallest;
+  }
+
+  private static Collection<Entry> smaller(Collection<Entry> current, Collection<Entry> other) {
+    return current == null || other.size() < current.size() ? other : current;
+  }
+
+  private static Collection<Entry> get(Map<String, Map<String, Set<Entry>>> index, String plural, String key) {
+    return index.getOrDefault(plural, Collections.emptyMap()).getOrDefault(key, Collections.emptySet());
+  }
+
+  private static Set<Entry> bucket(Map<String, Map<String, Set<Entry>>> index, String plural, String key) {
+    return index.computeIfAbsent(plural, p -> new ConcurrentHashMap<>())
+        .computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+  }
+
+  private static void removeFromBucket(Map<String, Map<String, Set<Entry>>> index, String plural, String key,
+      Entry entry) {
+    Map<String, Set<Entry>> byKey = index.get(plural);
+    if (byKey != null) {
+      Set<Entry> bucket = byKey.get(key);
+      if (bucket != null) {
+        bucket.remove(entry);
+        if (bucket.isEmpty()) {
+          byKey.remove(key);
+        }
+      }
+    }
+  }
+
+  private static String labelKey(String key, String value) {
+    return key + "=" + value;
+  }
+
+  /**
+   * @return the label equality requirements in the labelSelector of the path, which every match must have
+   */
+  static Map<String, String> labelRequirements(String path) {
+    if (path == null || path.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    HttpUrl url = HttpUrl.parse("http://localhost" + (path.startsWith("/") ? path : "/" + path));
+    String labelSelector = url == null ? null : url.queryParameter("labelSelector");
+    if (labelSelector == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, String> result = new LinkedHashMap<>();
+    for (String requirement : labelSelector.split(",")) {
+      Matcher m = LABEL_EQUALITY.matcher(requirement);
+      if (m.matches()) {
+        result.put(m.group("key"), m.group("value"));
+      }
+    }
+    return result;
+  }
+
+}
@@ -67,6 +67,10 @@ public class KubernetesMixedDispatcher extends Dispatcher implements Resetable {
     return kubernetesCrudDispatcher.dispatch(request);
   }
 
+  KubernetesCrudDispatcher getKubernetesCrudDispatcher() {
+    return kubernetesCrudDispatcher;
+  }
+
   @Override
   public void reset() {
     this.kubernetesCrudDispatcher.reset();
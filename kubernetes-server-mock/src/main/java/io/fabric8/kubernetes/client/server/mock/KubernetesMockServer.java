@@ -39,6 +39,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 public class KubernetesMockServer extends DefaultMockServer implements Resetable {
@@ -48,6 +52,8 @@ public class KubernetesMockServer extends DefaultMockServer implements Resetable
   private final Map<ServerRequest, Queue<ServerResponse>> responses;
   private final VersionInfo versionInfo;
   private Dispatcher dispatcher;
+  private final FaultInjectingDispatcher faultInjectingDispatcher;
+  private ScheduledExecutorService churnExecutor;
   private List<Pattern> unsupportedPatterns = Collections.emptyList();
 
   public KubernetesMockServer() {
@@ -75,8 +81,14 @@ public class KubernetesMockServer extends DefaultMockServer implements Resetable
 
   public KubernetesMockServer(Context context, MockWebServer server, Map<ServerRequest, Queue<ServerResponse>> responses,
       Dispatcher dispatcher, boolean useHttps, VersionInfo versionInfo) {
-    super(context, server, responses, dispatcher, useHttps);
-    this.dispatcher = dispatcher;
+    this(context, server, responses, new FaultInjectingDispatcher(dispatcher), useHttps, versionInfo);
+  }
+
+  private KubernetesMockServer(Context context, MockWebServer server, Map<ServerRequest, Queue<ServerResponse>> responses,
+      FaultInjectingDispatcher faultInjectingDispatcher, boolean useHttps, VersionInfo versionInfo) {
+    super(context, server, responses, faultInjectingDispatcher, useHttps);
+    this.faultInjectingDispatcher = faultInjectingDispatcher;
+    this.dispatcher = faultInjectingDispatcher.getDelegate();
     this.responses = responses;
     this.versionInfo = versionInfo;
   }
@@ -96,6 +108,7 @@ public class KubernetesMockServer extends DefaultMockServer implements Resetable
   }
 
   public void destroy() {
+    setLoadProfile(null);
     shutdown();
   }
 
@@ -141,6 +154,53 @@ public class KubernetesMockServer extends DefaultMockServer implements Resetable
     }
   }
 
+  /**
+   * Applies the latency, errors, watch stream faults and resource churn of the given profile to this server,
+   * replacing any profile applied before.
+   * <p>
+   * Resource churn requires the server to be in CRUD mode.
+   *
+   * @param profile the profile to apply, or null to stop generating load and injecting faults
+   */
+  public synchronized void setLoadProfile(LoadProfile profile) {
+    if (churnExecutor != null) {
+      churnExecutor.shutdownNow();
+      churnExecutor = null;
+    }
+    faultInjectingDispatcher.setLoadProfile(profile);
+    if (profile == null || profile.getChurns().isEmpty()) {
+      return;
+    }
+    KubernetesCrudDispatcher crudDispatcher = getKubernetesCrudDispatcher();
+    if (crudDispatcher == null) {
+      faultInjectingDispatcher.setLoadProfile(null);
+      throw new IllegalStateException("Resource churn requires the mock server to be in CRUD mode");
+    }
+    List<LoadProfile.Churn> churns = profile.getChurns();
+    AtomicInteger threadCount = new AtomicInteger();
+    churnExecutor = Executors.newScheduledThreadPool(churns.size(), r -> {
+      Thread thread = new Thread(r, "mock-server-churn-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    for (int i = 0; i < churns.size(); i++) {
+      LoadProfile.Churn churn = churns.get(i);
+      long periodNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / churn.eventsPerSecond));
+      churnExecutor.scheduleAtFixedRate(new ResourceChurn(crudDispatcher, churn, profile.getSeed() + i), 0, periodNanos,
+          TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private KubernetesCrudDispatcher getKubernetesCrudDispatcher() {
+    if (dispatcher instanceof KubernetesCrudDispatcher) {
+      return (KubernetesCrudDispatcher) dispatcher;
+    }
+    if (dispatcher instanceof KubernetesMixedDispatcher) {
+      return ((KubernetesMixedDispatcher) dispatcher).getKubernetesCrudDispatcher();
+    }
+    return null;
+  }
+
   /**
    * Removes all recorded expectations.
    */
@@ -160,6 +220,7 @@ public class KubernetesMockServer extends DefaultMockServer implements Resetable
 
   @Override
   public void reset() {
+    setLoadProfile(null);
     clearExpectations();
     onStart();
     unsupportedPatterns.clear();
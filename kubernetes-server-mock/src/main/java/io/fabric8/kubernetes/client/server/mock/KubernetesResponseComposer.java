@@ -27,9 +27,17 @@ public class KubernetesResponseComposer implements ResponseComposer {
   }
 
   public String compose(Collection<String> collection, String resourceVersion) {
+    return compose(collection, resourceVersion, null);
+  }
+
+  /**
+   * @param continueToken the token for the next page of a paginated list, or null if this is the last page
+   */
+  public String compose(Collection<String> collection, String resourceVersion, String continueToken) {
     return String.format(
         "{\"apiVersion\":\"v1\",\"kind\":\"List\", \"items\": [%s], " +
-         "\"metadata\": {\"resourceVersion\": \"%s\", \"selfLink\": \"\"}}",
-        String.join(",", collection), resourceVersion);
+         "\"metadata\": {\"resourceVersion\": \"%s\", \"selfLink\": \"\"%s}}",
+        String.join(",", collection), resourceVersion,
+        continueToken == null ? "" : String.format(", \"continue\": \"%s\"", continueToken));
   }
 }
@@ -0,0 +1,210 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Describes synthetic load and faults for a {@link KubernetesMockServer}, for measuring client throughput and
+ * informer lag without a cluster.
+ * <p>
+ * A profile may add latency to each request, fail requests with a given status code at a given probability, slow
+ * down or drop watch streams, and create, modify and delete resources at a given rate so that watches receive a
+ * steady stream of events. All random choices are made from generators seeded with {@link #withSeed(long)}. Each
+ * request has its own generator, derived from the seed, its method and path, and how many times they have been
+ * requested, so the same sequence of requests to a path gets the same faults however requests to other paths
+ * interleave with it.
+ * <p>
+ * A profile is applied with {@link KubernetesMockServer#setLoadProfile(LoadProfile)}, changes made to it afterwards
+ * have no effect until it is applied again.
+ */
+public class LoadProfile {
+
+  private long seed;
+  private ToLongFunction<Random> latencyMillis;
+  private final Map<Integer, Double> errorRates = new LinkedHashMap<>();
+  private long watchEventDelayMillis;
+  private double watchDropProbability;
+  private final List<Churn> churns = new ArrayList<>();
+
+  /**
+   * Sets the seed for the random choices, the default is 0
+   *
+   * @param seed the seed
+   * @return this
+   */
+  public LoadProfile withSeed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  /**
+   * Delays each request by a time chosen uniformly between min and max
+   *
+   * @param min the minimum delay
+   * @param max the maximum delay
+   * @param unit the unit of min and max
+   * @return this
+   */
+  public LoadProfile withLatency(long min, long max, TimeUnit unit) {
+    if (min < 0 || max < min) {
+      throw new IllegalArgumentException("Invalid latency provided, It should be a non negative range");
+    }
+    long minMillis = unit.toMillis(min);
+    long range = unit.toMillis(max) - minMillis + 1;
+    return withLatency(random -> minMillis + (long) (random.nextDouble() * range));
+  }
+
+  /**
+   * Delays each request by a time in milliseconds chosen by the given distribution, for example
+   * {@code random -> (long) (-Math.log(1 - random.nextDouble()) * 20)} for an exponential distribution with a mean of
+   * 20 milliseconds.
+   *
+   * @param distribution returns a delay in milliseconds using the given generator, or null for no delay
+   * @return this
+   */
+  public LoadProfile withLatency(ToLongFunction<Random> distribution) {
+    this.latencyMillis = distribution;
+    return this;
+  }
+
+  /**
+   * Fails requests with the given status code at the given probability, for example 429 to exercise client side
+   * throttling, 500 for server errors or 410 for expired resource versions. The response has a
+   * {@link io.fabric8.kubernetes.api.model.Status} body, and a Retry-After header for 429.
+   *
+   * @param code the http status code
+   * @param probability the probability of a request failing with code
+   * @return this
+   */
+  public LoadProfile withErrorRate(int code, double probability) {
+    if (probability < 0 || probability > 1) {
+      throw new IllegalArgumentException("Invalid probability provided, It should be between 0 and 1");
+    }
+    errorRates.put(code, probability);
+    if (errorRates.values().stream().mapToDouble(Double::doubleValue).sum() > 1) {
+      errorRates.remove(code);
+      throw new IllegalArgumentException("Invalid probability provided, The error rates should not add up to more than 1");
+    }
+    return this;
+  }
+
+  /**
+   * Delays each message sent on a watch stream, messages are still sent in order so a stream can't deliver more
+   * than one message per delay.
+   *
+   * @param delay the delay
+   * @param unit the unit of delay
+   * @return this
+   */
+  public LoadProfile withSlowWatches(long delay, TimeUnit unit) {
+    if (delay < 0) {
+      throw new IllegalArgumentException("Invalid delay provided, It should not be negative");
+    }
+    this.watchEventDelayMillis = unit.toMillis(delay);
+    return this;
+  }
+
+  /**
+   * Abruptly closes a watch stream instead of sending a message at the given probability, the message is lost.
+   *
+   * @param probability the probability of a message dropping the stream
+   * @return this
+   */
+  public LoadProfile withDroppedWatches(double probability) {
+    if (probability < 0 || probability > 1) {
+      throw new IllegalArgumentException("Invalid probability provided, It should be between 0 and 1");
+    }
+    this.watchDropProbability = probability;
+    return this;
+  }
+
+  /**
+   * Creates, modifies and deletes resources based on the template at the given rate. This requires the server to
+   * be in CRUD mode.
+   * <p>
+   * Each event picks one of objectCount resources named after the template. A resource that does not exist is
+   * created, one that does is deleted one time in ten and otherwise modified. Each write sets the
+   * mock.fabric8.io/churn-timestamp annotation to the time in epoch milliseconds so that the time to
+   * observe the event can be measured.
+   *
+   * @param collectionPath the path of the resources, for example /api/v1/namespaces/test/pods
+   * @param template the resource to base the resources on, which must have a name
+   * @param objectCount the number of distinct resources
+   * @param eventsPerSecond the rate of events
+   * @return this
+   */
+  public LoadProfile withChurn(String collectionPath, HasMetadata template, int objectCount, double eventsPerSecond) {
+    if (template.getMetadata() == null || template.getMetadata().getName() == null) {
+      throw new IllegalArgumentException("Invalid template provided, It should have a name");
+    }
+    if (objectCount <= 0) {
+      throw new IllegalArgumentException("Invalid objectCount provided, It should be a positive value");
+    }
+    if (eventsPerSecond <= 0) {
+      throw new IllegalArgumentException("Invalid eventsPerSecond provided, It should be a positive value");
+    }
+    churns.add(new Churn(collectionPath, template, objectCount, eventsPerSecond));
+    return this;
+  }
+
+  long getSeed() {
+    return seed;
+  }
+
+  ToLongFunction<Random> getLatencyMillis() {
+    return latencyMillis;
+  }
+
+  Map<Integer, Double> getErrorRates() {
+    return Collections.unmodifiableMap(new LinkedHashMap<>(errorRates));
+  }
+
+  long getWatchEventDelayMillis() {
+    return watchEventDelayMillis;
+  }
+
+  double getWatchDropProbability() {
+    return watchDropProbability;
+  }
+
+  List<Churn> getChurns() {
+    return Collections.unmodifiableList(new ArrayList<>(churns));
+  }
+
+  static final class Churn {
+    final String collectionPath;
+    final HasMetadata template;
+    final int objectCount;
+    final double eventsPerSecond;
+
+    private Churn(String collectionPath, HasMetadata template, int objectCount, double eventsPerSecond) {
+      this.collectionPath = collectionPath;
+      this.template = template;
+      this.objectCount = objectCount;
+      this.eventsPerSecond = eventsPerSecond;
+    }
+  }
+}
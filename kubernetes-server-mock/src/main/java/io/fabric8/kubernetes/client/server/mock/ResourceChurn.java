@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okhttp3.mockwebserver.MockResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.HttpURLConnection;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Writes one {@link LoadProfile.Churn} event each time it is run, directly to a {@link KubernetesCrudDispatcher}
+ * so that the rate is not limited by http.
+ */
+class ResourceChurn implements Runnable {
+
+  static final String TIMESTAMP_ANNOTATION = "mock.fabric8.io/churn-timestamp";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResourceChurn.class);
+  private static final int DELETE_ONE_IN = 10;
+
+  private final KubernetesCrudDispatcher dispatcher;
+  private final String collectionPath;
+  private final ObjectNode template;
+  private final String namePrefix;
+  private final int objectCount;
+  private final Random random;
+  // only accessed from run, which is not called concurrently
+  private final BitSet existing = new BitSet();
+
+  ResourceChurn(KubernetesCrudDispatcher dispatcher, LoadProfile.Churn churn, long seed) {
+    this.dispatcher = dispatcher;
+    this.collectionPath = churn.collectionPath.endsWith("/")
+        ? churn.collectionPath.substring(0, churn.collectionPath.length() - 1)
+        : churn.collectionPath;
+    this.template = Serialization.jsonMapper().valueToTree(churn.template);
+    this.namePrefix = churn.template.getMetadata().getName();
+    this.objectCount = churn.objectCount;
+    this.random = new Random(seed);
+  }
+
+  @Override
+  public void run() {
+    try {
+      int index = random.nextInt(objectCount);
+      String name = namePrefix + "-" + index;
+      String path = collectionPath + "/" + name;
+      if (!existing.get(index)) {
+        int code = responseCode(dispatcher.handleCreate(collectionPath, body(name)));
+        // a conflict means it was created by someone else
+        existing.set(index, code < HttpURLConnection.HTTP_MULT_CHOICE || code == HttpURLConnection.HTTP_CONFLICT);
+      } else if (random.nextInt(DELETE_ONE_IN) == 0) {
+        dispatcher.handleDelete(path);
+        existing.clear(index);
+      } else if (responseCode(dispatcher.handleUpdate(path, body(name))) == HttpURLConnection.HTTP_NOT_FOUND) {
+        existing.clear(index);
+      }
+    } catch (RuntimeException e) {
+      // a failure must not cancel the periodic task
+      LOGGER.warn("Failed to write churn event for {}", collectionPath, e);
+    }
+  }
+
+  private static int responseCode(MockResponse response) {
+    // the status line is of the form HTTP/1.1 200 OK
+    String[] status = response.getStatus().split(" ");
+    return status.length > 1 ? Integer.parseInt(status[1]) : 0;
+  }
+
+  private String body(String name) {
+    ObjectNode resource = template.deepCopy();
+    ObjectNode metadata = resource.with("metadata");
+    metadata.put("name", name);
+    metadata.remove("resourceVersion");
+    metadata.with("annotations").put(TIMESTAMP_ANNOTATION, String.valueOf(System.currentTimeMillis()));
+    return Serialization.asJson(resource);
+  }
+}
@@ -16,6 +16,7 @@
 package io.fabric8.kubernetes.client.server.mock;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.client.Watcher;
@@ -95,6 +96,31 @@ class WatchEventsListener extends WebSocketListener {
   }
 
 
+  /**
+   * Periodically invoke the callback, which is expected to call {@link #sendBookmark(String, String, String)}
+   */
+  public void scheduleBookmarks(Consumer<WatchEventsListener> bookmark, long intervalMillis) {
+    executor.scheduleWithFixedDelay(() -> bookmark.accept(this), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Queue a BOOKMARK event, it is sent after any events that are already queued. The object has the kind
+   * and apiVersion of the watched resource, the kind is omitted if it is not known.
+   */
+  public void sendBookmark(String resourceVersion, String kind, String apiVersion) {
+    ObjectNode object = Serialization.jsonMapper().createObjectNode();
+    if (kind != null) {
+      object.put("kind", kind);
+    }
+    object.put("apiVersion", apiVersion);
+    object.putObject("metadata").put("resourceVersion", resourceVersion);
+    ObjectNode event = Serialization.jsonMapper().createObjectNode();
+    event.put("type", "BOOKMARK");
+    event.set("object", object);
+    String body = event.toString();
+    executor.execute(() -> webSocketRef.get().send(body));
+  }
+
   public void sendWebSocketResponse(String object, Watcher.Action action) {
     WebSocketMessage message = toWebSocketMessage(context, new WatchEvent(Serialization.unmarshal(object, KubernetesResource.class), action.name()));
     executor.schedule(() -> webSocketRef.get().send(message.getBody()), message.getDelay(), TimeUnit.SECONDS);
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.mockwebserver.crud.AttributeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KubernetesCrudIndexTest {
+
+  private final KubernetesAttributesExtractor extractor = new KubernetesAttributesExtractor();
+  private KubernetesCrudIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new KubernetesCrudIndex();
+    put(pod("ns1", "a", "blue"));
+    put(pod("ns1", "b", "red"));
+    put(pod("ns2", "a", "blue"));
+  }
+
+  @Test
+  @DisplayName("find, by namespace, returns the namespace objects in order")
+  void findByNamespace() {
+    assertThat(find("/api/v1/namespaces/ns1/pods")).containsExactly("ns1/a", "ns1/b");
+  }
+
+  @Test
+  @DisplayName("find, by name, returns the single object")
+  void findByName() {
+    assertThat(find("/api/v1/namespaces/ns2/pods/a")).containsExactly("ns2/a");
+    assertThat(find("/api/v1/namespaces/ns2/pods/b")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("find, by label across namespaces, returns the labelled objects")
+  void findByLabel() {
+    assertThat(find("/api/v1/pods?labelSelector=color%3Dblue")).containsExactly("ns1/a", "ns2/a");
+    assertThat(find("/api/v1/pods?labelSelector=color%21%3Dblue")).containsExactly("ns1/b");
+  }
+
+  @Test
+  @DisplayName("find, after update and remove, reflects the latest writes")
+  void findAfterUpdateAndRemove() {
+    // the labels are part of the attributes, so as in the dispatcher an update removes the previous version
+    index.remove(extractor.extract(pod("ns1", "a", "blue")));
+    AttributeSet attributes = put(pod("ns1", "a", "red"));
+    index.remove(extractor.extract(pod("ns1", "b", "red")));
+    put(pod("ns1", "b", "blue"));
+
+    assertThat(find("/api/v1/pods?labelSelector=color%3Dred")).containsExactly("ns1/a");
+    assertThat(find("/api/v1/namespaces/ns1/pods")).containsExactly("ns1/a", "ns1/b");
+
+    index.remove(attributes);
+
+    assertThat(find("/api/v1/namespaces/ns1/pods")).containsExactly("ns1/b");
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("find, other plurals and unknown plurals, are only returned when they match")
+  void findOtherPlurals() {
+    HasMetadata service = new ServiceBuilder()
+        .withNewMetadata().withNamespace("ns1").withName("a").endMetadata().build();
+    index.put(extractor.extract(service), Serialization.asJson(service), null, service);
+
+    assertThat(find("/api/v1/namespaces/ns1/pods")).containsExactly("ns1/a", "ns1/b");
+    assertThat(find("/api/v1/namespaces/ns1/services")).containsExactly("ns1/a");
+  }
+
+  private AttributeSet put(Pod pod) {
+    AttributeSet attributes = extractor.extract(pod);
+    index.put(attributes, Serialization.asJson(pod), "pods", pod);
+    return attributes;
+  }
+
+  private List<String> find(String path) {
+    Map<String, String> pathValues = extractor.fromKubernetesPath(path);
+    return index.find(extractor.fromPath(path), pathValues, KubernetesCrudIndex.labelRequirements(path)).stream()
+        .map(e -> Serialization.unmarshal(e.getValue(), HasMetadata.class).getMetadata())
+        .map(m -> m.getNamespace() + "/" + m.getName())
+        .collect(Collectors.toList());
+  }
+
+  private static Pod pod(String namespace, String name, String color) {
+    return new PodBuilder().withNewMetadata().withNamespace(namespace).withName(name).addToLabels("color", color)
+        .endMetadata().build();
+  }
+
+}
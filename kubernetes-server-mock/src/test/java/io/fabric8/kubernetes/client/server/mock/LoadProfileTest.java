@@ -0,0 +1,176 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.ServerRequest;
+import io.fabric8.mockwebserver.ServerResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadProfileTest {
+
+  private KubernetesMockServer server;
+  private KubernetesClient client;
+
+  @AfterEach
+  void tearDown() {
+    if (server != null) {
+      client.close();
+      server.destroy();
+    }
+  }
+
+  @Test
+  @DisplayName("withErrorRate, with probability 1, should fail every request until the profile is removed")
+  void errorRateFailsRequests() {
+    // Given
+    startServer(true);
+    server.setLoadProfile(new LoadProfile().withErrorRate(500, 1));
+    // When
+    assertThatThrownBy(() -> client.pods().inNamespace("test").list())
+      .isInstanceOf(KubernetesClientException.class)
+      .extracting(e -> ((KubernetesClientException) e).getCode())
+      .isEqualTo(500);
+    server.setLoadProfile(null);
+    // Then
+    assertThat(client.pods().inNamespace("test").list().getItems()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("withSeed, should fail the same requests to a path however requests to other paths interleave")
+  void seedMakesFaultsPerPathReproducible() {
+    // Given
+    startServer(true);
+    LoadProfile profile = new LoadProfile().withSeed(42).withErrorRate(400, 0.5);
+    server.setLoadProfile(profile);
+    List<Boolean> first = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      first.add(fails(() -> client.pods().inNamespace("a").list()));
+    }
+    // When
+    server.setLoadProfile(profile);
+    List<Boolean> second = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      fails(() -> client.pods().inNamespace("b").list());
+      second.add(fails(() -> client.pods().inNamespace("a").list()));
+    }
+    // Then
+    assertThat(second).isEqualTo(first).contains(true, false);
+  }
+
+  @Test
+  @DisplayName("withLatency, should delay requests")
+  void latencyDelaysRequests() {
+    // Given
+    startServer(false);
+    server.setLoadProfile(new LoadProfile().withLatency(200, 200, TimeUnit.MILLISECONDS));
+    // When
+    long start = System.nanoTime();
+    client.getKubernetesVersion();
+    // Then
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("withChurn, should send watch events for the generated resources")
+  void churnSendsWatchEvents() throws Exception {
+    // Given
+    startServer(true);
+    BlockingQueue<Pod> events = new LinkedBlockingQueue<>();
+    try (Watch watch = client.pods().inNamespace("test").watch(new Watcher<Pod>() {
+      @Override
+      public void eventReceived(Action action, Pod resource) {
+        events.add(resource);
+      }
+
+      @Override
+      public void onClose(WatcherException cause) {
+      }
+    })) {
+      // When
+      server.setLoadProfile(new LoadProfile()
+        .withChurn("/api/v1/namespaces/test/pods", new PodBuilder().withNewMetadata().withName("churn").endMetadata().build(),
+          5, 100));
+      // Then
+      for (int i = 0; i < 10; i++) {
+        Pod pod = events.poll(10, TimeUnit.SECONDS);
+        assertThat(pod).isNotNull();
+        assertThat(pod.getMetadata().getName()).startsWith("churn-");
+        assertThat(pod.getMetadata().getAnnotations()).containsKey("mock.fabric8.io/churn-timestamp");
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("withChurn, without CRUD mode, should throw exception")
+  void churnRequiresCrudMode() {
+    startServer(false);
+    LoadProfile profile = new LoadProfile()
+      .withChurn("/api/v1/namespaces/test/pods", new PodBuilder().withNewMetadata().withName("churn").endMetadata().build(),
+        1, 1);
+
+    assertThatThrownBy(() -> server.setLoadProfile(profile)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  @DisplayName("withErrorRate, with rates adding up to more than 1, should throw exception")
+  void errorRatesAddingUpToMoreThanOne() {
+    LoadProfile profile = new LoadProfile().withErrorRate(429, 0.6);
+
+    assertThatThrownBy(() -> profile.withErrorRate(500, 0.6)).isInstanceOf(IllegalArgumentException.class);
+    assertThat(profile.getErrorRates()).containsOnlyKeys(429);
+  }
+
+  private static boolean fails(Runnable request) {
+    try {
+      request.run();
+      return false;
+    } catch (KubernetesClientException e) {
+      return true;
+    }
+  }
+
+  private void startServer(boolean crud) {
+    final Map<ServerRequest, Queue<ServerResponse>> responses = new HashMap<>();
+    server = crud
+      ? new KubernetesMockServer(new Context(), new MockWebServer(), responses, new KubernetesMixedDispatcher(responses), false)
+      : new KubernetesMockServer(false);
+    server.init();
+    client = server.createClient();
+  }
+}
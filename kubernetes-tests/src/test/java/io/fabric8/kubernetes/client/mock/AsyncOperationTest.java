@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.dsl.internal.BaseOperation;
+import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperation;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@EnableKubernetesMockClient
+class AsyncOperationTest {
+
+  KubernetesMockServer server;
+  KubernetesClient client;
+
+  private final Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").endMetadata().build();
+
+  @Test
+  void testGetAsync() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod1).once();
+
+    Pod result = pod(client).getAsync().get(10, TimeUnit.SECONDS);
+
+    assertEquals("pod1", result.getMetadata().getName());
+  }
+
+  @Test
+  void testGetAsyncNotFound() throws Exception {
+    assertNull(pod(client).getAsync().get(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testListAsync() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/pods")
+        .andReturn(200, new PodListBuilder().addToItems(pod1).build()).once();
+
+    PodList result = pods(client).listAsync().get(10, TimeUnit.SECONDS);
+
+    assertEquals(1, result.getItems().size());
+  }
+
+  @Test
+  void testCreateAsync() throws Exception {
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(201, pod1).once();
+
+    Pod result = pods(client).createAsync(pod1).get(10, TimeUnit.SECONDS);
+
+    assertEquals("pod1", result.getMetadata().getName());
+  }
+
+  @Test
+  void testCreateAsyncFailure() {
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(409, pod1).once();
+
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> pods(client).createAsync(pod1).get(10, TimeUnit.SECONDS));
+
+    assertInstanceOf(KubernetesClientException.class, e.getCause());
+    assertEquals(409, ((KubernetesClientException) e.getCause()).getCode());
+  }
+
+  @Test
+  void testPatchAsync() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod1).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod1).once();
+
+    Pod result = pod(client)
+        .patchAsync(PatchContext.of(PatchType.JSON_MERGE), "{\"metadata\":{\"labels\":{\"app\":\"x\"}}}")
+        .get(10, TimeUnit.SECONDS);
+
+    assertEquals("pod1", result.getMetadata().getName());
+    assertEquals("PATCH", server.getLastRequest().getMethod());
+  }
+
+  @Test
+  void testRetryScheduled() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(500, "failed").once();
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod1).once();
+
+    Config config = new ConfigBuilder(client.getConfiguration())
+        .withRequestRetryBackoffLimit(1)
+        .withRequestRetryBackoffInterval(10)
+        .build();
+    try (KubernetesClient retryingClient = new DefaultKubernetesClient(config)) {
+      Pod result = pod(retryingClient).getAsync().get(10, TimeUnit.SECONDS);
+
+      assertEquals("pod1", result.getMetadata().getName());
+      assertEquals(2, server.getRequestCount());
+    }
+  }
+
+  private static BaseOperation<Pod, PodList, PodResource> pods(KubernetesClient client) {
+    return (BaseOperation<Pod, PodList, PodResource>) client.pods().inNamespace("test");
+  }
+
+  private static HasMetadataOperation<Pod, PodList, PodResource> pod(KubernetesClient client) {
+    return (HasMetadataOperation<Pod, PodList, PodResource>) client.pods().inNamespace("test").withName("pod1");
+  }
+
+}
@@ -0,0 +1,236 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.ServerRequest;
+import io.fabric8.mockwebserver.ServerResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CrudListWatchTest {
+
+  private KubernetesCrudDispatcher dispatcher;
+  private KubernetesMockServer server;
+  private KubernetesClient client;
+
+  @BeforeEach
+  void setUp() {
+    final Map<ServerRequest, Queue<ServerResponse>> responses = new HashMap<>();
+    dispatcher = new KubernetesCrudDispatcher();
+    server = new KubernetesMockServer(new Context(Serialization.jsonMapper()),
+      new MockWebServer(), responses, dispatcher, false);
+    client = server.createClient();
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.close();
+    server.destroy();
+  }
+
+  @Test
+  @DisplayName("list with limit, should return pages in name order with continue tokens")
+  void listWithLimitShouldReturnPages() {
+    // Given
+    for (String name : new String[] { "pod-c", "pod-a", "pod-e", "pod-b", "pod-d" }) {
+      client.pods().inNamespace("ns1").create(pod(name));
+    }
+    // When
+    List<String> names = new ArrayList<>();
+    List<String> resourceVersions = new ArrayList<>();
+    String continueToken = null;
+    int pages = 0;
+    do {
+      PodList page = client.pods().inNamespace("ns1")
+        .list(new ListOptionsBuilder().withLimit(2L).withContinue(continueToken).build());
+      page.getItems().forEach(p -> names.add(p.getMetadata().getName()));
+      resourceVersions.add(page.getMetadata().getResourceVersion());
+      continueToken = page.getMetadata().getContinue();
+      pages++;
+    } while (continueToken != null);
+    // Then
+    assertThat(pages).isEqualTo(3);
+    assertThat(names).containsExactly("pod-a", "pod-b", "pod-c", "pod-d", "pod-e");
+    assertThat(resourceVersions).containsOnly(resourceVersions.get(0));
+  }
+
+  @Test
+  @DisplayName("list with invalid continue token, should fail")
+  void listWithInvalidContinueShouldFail() {
+    client.pods().inNamespace("ns1").create(pod("pod-a"));
+
+    KubernetesClientException exception = assertThrows(KubernetesClientException.class,
+      () -> client.pods().inNamespace("ns1")
+        .list(new ListOptionsBuilder().withLimit(1L).withContinue("not-a-token!").build()));
+
+    assertThat(exception.getCode()).isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+  }
+
+  @Test
+  @DisplayName("list continue after a change, should fail with 410 Gone")
+  void listContinueAfterChangeShouldExpire() {
+    client.pods().inNamespace("ns1").create(pod("pod-a"));
+    client.pods().inNamespace("ns1").create(pod("pod-b"));
+    PodList first = client.pods().inNamespace("ns1").list(new ListOptionsBuilder().withLimit(1L).build());
+    client.pods().inNamespace("ns1").create(pod("pod-c"));
+
+    KubernetesClientException exception = assertThrows(KubernetesClientException.class,
+      () -> client.pods().inNamespace("ns1")
+        .list(new ListOptionsBuilder().withLimit(1L).withContinue(first.getMetadata().getContinue()).build()));
+
+    assertThat(exception.getCode()).isEqualTo(HttpURLConnection.HTTP_GONE);
+    assertThat(exception.getStatus().getReason()).isEqualTo("Expired");
+  }
+
+  @Test
+  @DisplayName("every change, including deletes, should have a new resourceVersion")
+  void changesShouldHaveIncreasingResourceVersions() {
+    Pod created = client.pods().inNamespace("ns1").create(pod("pod-a"));
+    Pod updated = client.pods().inNamespace("ns1").withName("pod-a")
+      .edit(p -> new PodBuilder(p).editMetadata().addToLabels("k", "v").endMetadata().build());
+    Pod status = client.pods().inNamespace("ns1").withName("pod-a")
+      .patchStatus(new PodBuilder(updated).editOrNewStatus().withPhase("Running").endStatus().build());
+    String listVersion = client.pods().inNamespace("ns1").list().getMetadata().getResourceVersion();
+
+    long createdVersion = Long.parseLong(created.getMetadata().getResourceVersion());
+    long updatedVersion = Long.parseLong(updated.getMetadata().getResourceVersion());
+    long statusVersion = Long.parseLong(status.getMetadata().getResourceVersion());
+    assertThat(updatedVersion).isGreaterThan(createdVersion);
+    assertThat(statusVersion).isGreaterThan(updatedVersion);
+    assertThat(Long.parseLong(listVersion)).isEqualTo(statusVersion);
+  }
+
+  @Test
+  @DisplayName("watch from a list resourceVersion, should receive only the later events")
+  void watchFromResourceVersionShouldReceiveLaterEvents() throws Exception {
+    // Given
+    client.pods().inNamespace("ns1").create(pod("pod-a"));
+    String listVersion = client.pods().inNamespace("ns1").list().getMetadata().getResourceVersion();
+    client.pods().inNamespace("ns1").create(pod("pod-b"));
+    client.pods().inNamespace("ns1").withName("pod-a").delete();
+    BlockingQueue<String> events = new LinkedBlockingQueue<>();
+    // When
+    try (Watch watch = client.pods().inNamespace("ns1")
+      .watch(new ListOptionsBuilder().withResourceVersion(listVersion).build(), new RecordingWatcher(events))) {
+      client.pods().inNamespace("ns1").create(pod("pod-c"));
+      // Then
+      List<String> received = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        received.add(events.poll(10, TimeUnit.SECONDS));
+      }
+      assertThat(received).containsExactly("ADDED pod-b", "DELETED pod-a", "ADDED pod-c");
+    }
+  }
+
+  @Test
+  @DisplayName("watch from a compacted resourceVersion, should be closed with 410 Gone")
+  void watchFromCompactedResourceVersionShouldBeGone() throws Exception {
+    // Given
+    dispatcher.setEventHistoryLimit(2);
+    client.pods().inNamespace("ns1").create(pod("pod-a"));
+    String listVersion = client.pods().inNamespace("ns1").list().getMetadata().getResourceVersion();
+    for (String name : new String[] { "pod-b", "pod-c", "pod-d" }) {
+      client.pods().inNamespace("ns1").create(pod(name));
+    }
+    CompletableFuture<WatcherException> closed = new CompletableFuture<>();
+    // When
+    try (Watch watch = client.pods().inNamespace("ns1")
+      .watch(new ListOptionsBuilder().withResourceVersion(listVersion).build(), new Watcher<Pod>() {
+        @Override
+        public void eventReceived(Action action, Pod resource) {
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+          closed.complete(cause);
+        }
+      })) {
+      // Then
+      assertThat(closed.get(10, TimeUnit.SECONDS).isHttpGone()).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("watch allowing bookmarks, should receive the current resourceVersion with the watched kind")
+  void watchWithBookmarksShouldReceiveBookmarks() throws Exception {
+    // Given
+    dispatcher.setBookmarkInterval(100, TimeUnit.MILLISECONDS);
+    client.pods().inNamespace("ns1").create(pod("pod-a"));
+    String listVersion = client.pods().inNamespace("ns1").list().getMetadata().getResourceVersion();
+    BlockingQueue<String> events = new LinkedBlockingQueue<>();
+    // When
+    try (Watch watch = client.pods().inNamespace("ns1")
+      .watch(new ListOptionsBuilder().withResourceVersion(listVersion).withAllowWatchBookmarks(true).build(),
+        new RecordingWatcher(events))) {
+      // Then
+      assertThat(events.poll(10, TimeUnit.SECONDS)).isEqualTo("BOOKMARK Pod v1 " + listVersion);
+    }
+  }
+
+  private static Pod pod(String name) {
+    return new PodBuilder().withNewMetadata().withName(name).endMetadata().build();
+  }
+
+  private static final class RecordingWatcher implements Watcher<Pod> {
+
+    private final BlockingQueue<String> events;
+
+    private RecordingWatcher(BlockingQueue<String> events) {
+      this.events = events;
+    }
+
+    @Override
+    public void eventReceived(Action action, Pod resource) {
+      events.add(action + " " + (action == Action.BOOKMARK
+        ? resource.getKind() + " " + resource.getApiVersion() + " " + resource.getMetadata().getResourceVersion()
+        : resource.getMetadata().getName()));
+    }
+
+    @Override
+    public void onClose(WatcherException cause) {
+    }
+  }
+}
@@ -22,14 +22,17 @@ import io.fabric8.kubernetes.api.model.ListMetaBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.Test;
 
 import java.net.HttpURLConnection;
@@ -38,6 +41,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -335,4 +339,110 @@ class InformTest {
     informer.stop();
   }
 
+  @Test
+  void testMetadataOnly() throws InterruptedException {
+    // Given
+    Pod pod1 = new PodBuilder().withNewMetadata().withNamespace("test").withName("pod1")
+        .withResourceVersion("1").endMetadata().build();
+
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods")
+        .andReturn(HttpURLConnection.HTTP_OK,
+            new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().withItems(pod1).build())
+        .once();
+
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?resourceVersion=1&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done()
+        .once();
+
+    // When
+    SharedIndexInformer<Pod> informer = client.pods().withMetadataOnly().inform();
+
+    // Then
+    RecordedRequest list = server.takeRequest(10, TimeUnit.SECONDS);
+    RecordedRequest watch = server.takeRequest(10, TimeUnit.SECONDS);
+    assertEquals("application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json",
+        list.getHeader("Accept"));
+    assertEquals("application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1,application/json",
+        watch.getHeader("Accept"));
+    assertEquals(1, informer.getStore().list().size());
+
+    informer.stop();
+  }
+
+  @Test
+  void testMetadataOnlyStoresInformerType() throws InterruptedException {
+    // Given
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods")
+        .andReturn(HttpURLConnection.HTTP_OK, "{\"apiVersion\":\"meta.k8s.io/v1\",\"kind\":\"PartialObjectMetadataList\","
+            + "\"metadata\":{\"resourceVersion\":\"1\"},\"items\":[{\"apiVersion\":\"meta.k8s.io/v1\","
+            + "\"kind\":\"PartialObjectMetadata\",\"metadata\":{\"name\":\"pod1\",\"namespace\":\"test\","
+            + "\"resourceVersion\":\"1\"}}]}")
+        .once();
+
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?resourceVersion=1&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(EVENT_WAIT_PERIOD_MS)
+        .andEmit("{\"type\":\"ADDED\",\"object\":{\"apiVersion\":\"meta.k8s.io/v1\",\"kind\":\"PartialObjectMetadata\","
+            + "\"metadata\":{\"name\":\"pod2\",\"namespace\":\"test\",\"resourceVersion\":\"2\"}}}")
+        .done()
+        .once();
+
+    final CountDownLatch addLatch = new CountDownLatch(2);
+    final ResourceEventHandler<Pod> handler = new ResourceEventHandler<Pod>() {
+
+      @Override
+      public void onAdd(Pod obj) {
+        addLatch.countDown();
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+      }
+
+    };
+
+    // When
+    SharedIndexInformer<Pod> informer = client.pods().withMetadataOnly().inform(handler);
+
+    // Then
+    assertTrue(addLatch.await(10, TimeUnit.SECONDS));
+    assertEquals(2, informer.getStore().list().size());
+    for (Pod pod : informer.getStore().list()) {
+      assertEquals("Pod", pod.getKind());
+      assertEquals("v1", pod.getApiVersion());
+      assertEquals("test", pod.getMetadata().getNamespace());
+    }
+
+    informer.stop();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testMetadataOnlyDoesNotAffectList() throws InterruptedException {
+    // Given
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods")
+        .andReturn(HttpURLConnection.HTTP_OK,
+            new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build())
+        .once();
+
+    // When - the operation returned is still listable, only its informers are metadata-only
+    ((Listable<PodList>) client.pods().withMetadataOnly()).list();
+
+    // Then
+    RecordedRequest list = server.takeRequest(10, TimeUnit.SECONDS);
+    assertFalse(String.valueOf(list.getHeader("Accept")).contains("PartialObjectMetadata"));
+  }
+
 }
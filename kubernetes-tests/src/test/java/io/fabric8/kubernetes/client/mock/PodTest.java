@@ -40,6 +40,7 @@ import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
 import io.fabric8.kubernetes.client.server.mock.OutputStreamMessage;
+import io.fabric8.kubernetes.client.utils.InputStreamPumper;
 import io.fabric8.kubernetes.client.utils.Utils;
 import okio.ByteString;
 import org.junit.Assert;
@@ -354,6 +355,24 @@ class PodTest {
     watch.close();
   }
 
+  @Test
+  void testExecRedirectingOutput() throws IOException {
+    String expectedOutput = "file1 file2";
+    server.expect().withPath("/api/v1/namespaces/test/pods/pod1/exec?command=ls&stdout=true")
+        .andUpgradeToWebSocket()
+        .open(new OutputStreamMessage(expectedOutput))
+        .done()
+        .always();
+
+    ExecWatch watch = client.pods().withName("pod1").redirectingOutput().exec("ls");
+
+    // the stream ends once the websocket closes
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    InputStreamPumper.transferTo(watch.getOutput(), baos::write);
+    assertEquals(expectedOutput, baos.toString());
+    watch.close();
+  }
+
   @Test
   void testWatch() throws InterruptedException {
     // Given
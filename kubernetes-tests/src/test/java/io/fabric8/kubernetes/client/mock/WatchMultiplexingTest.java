@@ -0,0 +1,200 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.BaseClient;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.Watcher.Action;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableKubernetesMockClient
+class WatchMultiplexingTest {
+
+  KubernetesMockServer server;
+  KubernetesClient client;
+
+  private KubernetesClient multiplexingClient;
+
+  private final Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test")
+      .addToLabels("app", "a").withResourceVersion("1").endMetadata().build();
+  private final Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withNamespace("test")
+      .addToLabels("app", "b").withResourceVersion("2").endMetadata().build();
+
+  @BeforeEach
+  void setUp() {
+    Config config = new ConfigBuilder(client.getConfiguration()).withWatchMultiplexing(true).build();
+    multiplexingClient = new DefaultKubernetesClient(config);
+  }
+
+  @AfterEach
+  void tearDown() {
+    multiplexingClient.close();
+  }
+
+  @Test
+  void testWatchesShareOneConnection() throws Exception {
+    server.expect().withPath("/api/v1/namespaces/test/pods?allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket().open()
+        .waitFor(100).andEmit(new WatchEvent(pod1, "ADDED"))
+        .waitFor(100).andEmit(new WatchEvent(pod2, "ADDED"))
+        .done().once();
+
+    RecordingWatcher a = new RecordingWatcher(1);
+    RecordingWatcher b = new RecordingWatcher(1);
+    Watch watchA = multiplexingClient.pods().inNamespace("test").withLabel("app", "a").watch(a);
+    Watch watchB = multiplexingClient.pods().inNamespace("test").withLabel("app", "b").watch(b);
+
+    assertTrue(a.latch.await(10, TimeUnit.SECONDS));
+    assertTrue(b.latch.await(10, TimeUnit.SECONDS));
+    assertEquals("pod1", a.names.get(0));
+    assertEquals("pod2", b.names.get(0));
+    assertEquals(1, ((BaseClient) multiplexingClient).getWatchMultiplexer().getUpstreamCount());
+
+    // a late watch still sees the current state
+    RecordingWatcher late = new RecordingWatcher(1);
+    Watch watchLate = multiplexingClient.pods().inNamespace("test").withName("pod2").watch(late);
+    assertTrue(late.latch.await(10, TimeUnit.SECONDS));
+    assertEquals("pod2", late.names.get(0));
+
+    watchA.close();
+    watchB.close();
+    watchLate.close();
+    assertEquals(0, ((BaseClient) multiplexingClient).getWatchMultiplexer().getUpstreamCount());
+    assertEquals(1, a.closed);
+  }
+
+  @Test
+  void testSelectorTransitionsAreAddedAndDeleted() throws Exception {
+    Pod pod1b = new PodBuilder(pod1).editMetadata().addToLabels("app", "b").withResourceVersion("3").endMetadata().build();
+    Pod pod1a = new PodBuilder(pod1).editMetadata().withResourceVersion("4").endMetadata().build();
+    server.expect().withPath("/api/v1/namespaces/test/pods?allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket().open()
+        // the delays are from when the websocket is opened
+        .waitFor(500).andEmit(new WatchEvent(pod1, "ADDED"))
+        .waitFor(600).andEmit(new WatchEvent(pod1b, "MODIFIED"))
+        .waitFor(700).andEmit(new WatchEvent(pod1a, "MODIFIED"))
+        .waitFor(800).andEmit(new WatchEvent(pod1a, "DELETED"))
+        .done().once();
+
+    RecordingWatcher a = new RecordingWatcher(4);
+    RecordingWatcher b = new RecordingWatcher(2);
+    Watch watchA = multiplexingClient.pods().inNamespace("test").withLabel("app", "a").watch(a);
+    Watch watchB = multiplexingClient.pods().inNamespace("test").withLabel("app", "b").watch(b);
+
+    assertTrue(a.latch.await(10, TimeUnit.SECONDS));
+    assertTrue(b.latch.await(10, TimeUnit.SECONDS));
+    // leaving the selector is a DELETED, entering it an ADDED
+    assertEquals(Arrays.asList(Action.ADDED, Action.DELETED, Action.ADDED, Action.DELETED), a.actions);
+    assertEquals(Arrays.asList(Action.ADDED, Action.DELETED), b.actions);
+    assertEquals("3", b.resourceVersions.get(0));
+    assertEquals("4", b.resourceVersions.get(1));
+
+    watchA.close();
+    watchB.close();
+  }
+
+  @Test
+  void testSlowWatcherDoesNotDelayOthers() throws Exception {
+    server.expect().withPath("/api/v1/namespaces/test/pods?allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket().open()
+        .waitFor(100).andEmit(new WatchEvent(pod1, "ADDED"))
+        .waitFor(100).andEmit(new WatchEvent(pod2, "ADDED"))
+        .done().once();
+
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingWatcher slow = new RecordingWatcher(2) {
+      @Override
+      public void eventReceived(Action action, Pod resource) {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        super.eventReceived(action, resource);
+      }
+    };
+    RecordingWatcher fast = new RecordingWatcher(2);
+    Watch watchSlow = multiplexingClient.pods().inNamespace("test").watch(slow);
+    Watch watchFast = multiplexingClient.pods().inNamespace("test").watch(fast);
+
+    try {
+      assertTrue(fast.latch.await(10, TimeUnit.SECONDS));
+      assertEquals(Arrays.asList("pod1", "pod2"), fast.names);
+      assertTrue(slow.names.isEmpty());
+    } finally {
+      release.countDown();
+    }
+    // the slow watcher still gets its events in order
+    assertTrue(slow.latch.await(10, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("pod1", "pod2"), slow.names);
+
+    watchSlow.close();
+    watchFast.close();
+  }
+
+  private static class RecordingWatcher implements Watcher<Pod> {
+    private final CountDownLatch latch;
+    private final List<String> names = new CopyOnWriteArrayList<>();
+    private final List<Action> actions = new CopyOnWriteArrayList<>();
+    private final List<String> resourceVersions = new CopyOnWriteArrayList<>();
+    private volatile int closed;
+
+    RecordingWatcher(int events) {
+      this.latch = new CountDownLatch(events);
+    }
+
+    @Override
+    public void eventReceived(Action action, Pod resource) {
+      names.add(resource.getMetadata().getName());
+      actions.add(action);
+      resourceVersions.add(resource.getMetadata().getResourceVersion());
+      latch.countDown();
+    }
+
+    @Override
+    public void onClose(WatcherException cause) {
+      closed++;
+    }
+
+    @Override
+    public void onClose() {
+      closed++;
+    }
+  }
+
+}
@@ -82,7 +82,8 @@ public class OpenShiftConfig extends Config {
       String trustStorePassphrase, String keyStoreFile, String keyStorePassphrase, String impersonateUsername,
       String[] impersonateGroups, Map<String, List<String>> impersonateExtras, OAuthTokenProvider oauthTokenProvider,
       Map<String, String> customHeaders, int requestRetryBackoffLimit, int requestRetryBackoffInterval,
-      int uploadConnectionTimeout, int uploadRequestTimeout, long buildTimeout,
+      int uploadConnectionTimeout, int uploadRequestTimeout, String oauthTokenExpirationTimestamp,
+      double maxRequestsPerSecond, int maxRequestBurst, boolean watchMultiplexing, long buildTimeout,
       boolean disableApiGroupCheck) {
     super(masterUrl, apiVersion, namespace, trustCerts, disableHostnameVerification, caCertFile, caCertData, clientCertFile,
         clientCertData, clientKeyFile, clientKeyData, clientKeyAlgo, clientKeyPassphrase, username, password, oauthToken,
@@ -91,7 +92,8 @@ public class OpenShiftConfig extends Config {
         errorMessages, userAgent, tlsVersions, websocketTimeout, websocketPingInterval, proxyUsername, proxyPassword,
         trustStoreFile, trustStorePassphrase, keyStoreFile, keyStorePassphrase, impersonateUsername, impersonateGroups,
         impersonateExtras, oauthTokenProvider, customHeaders, requestRetryBackoffLimit, requestRetryBackoffInterval,
-        uploadConnectionTimeout, uploadRequestTimeout);
+        uploadConnectionTimeout, uploadRequestTimeout, oauthTokenExpirationTimestamp, maxRequestsPerSecond, maxRequestBurst,
+        watchMultiplexing);
     this.setOapiVersion(oapiVersion);
     this.setBuildTimeout(buildTimeout);
     this.setDisableApiGroupCheck(disableApiGroupCheck);
@@ -130,6 +132,9 @@ public class OpenShiftConfig extends Config {
         kubernetesConfig.getOauthTokenProvider(), kubernetesConfig.getCustomHeaders(),
         kubernetesConfig.getRequestRetryBackoffLimit(), kubernetesConfig.getRequestRetryBackoffInterval(),
         kubernetesConfig.getUploadConnectionTimeout(), kubernetesConfig.getUploadRequestTimeout(),
+        kubernetesConfig.getOauthTokenExpirationTimestamp(),
+        kubernetesConfig.getMaxRequestsPerSecond(), kubernetesConfig.getMaxRequestBurst(),
+        kubernetesConfig.isWatchMultiplexing(),
         buildTimeout,
         false);
   }
@@ -28,6 +28,7 @@ import io.fabric8.openshift.api.model.RoleBindingBuilder;
 import io.fabric8.openshift.api.model.RoleBindingList;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -58,6 +59,11 @@ public class RoleBindingOperationsImpl extends HasMetadataOperation<RoleBinding,
     return super.handleCreate(enrichRoleBinding(resource));
   }
 
+  @Override
+  public CompletableFuture<RoleBinding> createAsync(RoleBinding item) {
+    return super.createAsync(enrichRoleBinding(item));
+  }
+
   @Override
   protected RoleBinding modifyItemForReplaceOrPatch(Supplier<RoleBinding> current, RoleBinding binding) {
     return enrichRoleBinding(binding);
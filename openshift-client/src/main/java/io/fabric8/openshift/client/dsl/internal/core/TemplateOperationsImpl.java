@@ -29,6 +29,7 @@ import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpRequest.Builder;
 import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.TemplateInterpolator;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
 import io.fabric8.openshift.api.model.Parameter;
@@ -41,6 +42,7 @@ import io.fabric8.openshift.client.dsl.TemplateResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -173,35 +175,33 @@ public class TemplateOperationsImpl
         .withItems(t != null && t.getObjects() != null ? t.getObjects() : Collections.<HasMetadata> emptyList())
         .build();
 
-    try {
-      String json = JSON_MAPPER.writeValueAsString(list);
-      if (parameters != null && !parameters.isEmpty()) {
-        // lets make a few passes in case there's expressions in values
-        for (int i = 0; i < 5; i++) {
-          for (Parameter parameter : parameters) {
-            String parameterName = parameter.getName();
-            String parameterValue;
-            if (valuesMap.containsKey(parameterName)) {
-              parameterValue = valuesMap.get(parameterName);
-            } else if (Utils.isNotNullOrEmpty(parameter.getValue())) {
-              parameterValue = parameter.getValue();
-            } else if (EXPRESSION.equals(parameter.getGenerate())) {
-              Generex generex = new Generex(parameter.getFrom());
-              parameterValue = generex.random();
-            } else if (parameter.getRequired() == null || !parameter.getRequired()) {
-              parameterValue = "";
-            } else {
-              throw new IllegalArgumentException("No value available for parameter name: " + parameterName);
-            }
-            if (parameterValue == null) {
-              logger.debug("Parameter {} has a null value", parameterName);
-              parameterValue = "";
-            }
-            json = Utils.interpolateString(json, Collections.singletonMap(parameterName, parameterValue));
-          }
-        }
+    Map<String, String> parameterValues = new HashMap<>();
+    for (Parameter parameter : parameters != null ? parameters : Collections.<Parameter> emptyList()) {
+      String parameterName = parameter.getName();
+      String parameterValue;
+      if (valuesMap.containsKey(parameterName)) {
+        parameterValue = valuesMap.get(parameterName);
+      } else if (Utils.isNotNullOrEmpty(parameter.getValue())) {
+        parameterValue = parameter.getValue();
+      } else if (EXPRESSION.equals(parameter.getGenerate())) {
+        Generex generex = new Generex(parameter.getFrom());
+        parameterValue = generex.random();
+      } else if (parameter.getRequired() == null || !parameter.getRequired()) {
+        parameterValue = "";
+      } else {
+        throw new IllegalArgumentException("No value available for parameter name: " + parameterName);
       }
+      if (parameterValue == null) {
+        logger.debug("Parameter {} has a null value", parameterName);
+        parameterValue = "";
+      }
+      parameterValues.put(parameterName, parameterValue);
+    }
 
+    // values that refer to other parameters are resolved once, then the objects are substituted in a single pass
+    // as they are parsed
+    TemplateInterpolator interpolator = TemplateInterpolator.compile(parameterValues);
+    try (InputStream json = interpolator.interpolate(new ByteArrayInputStream(JSON_MAPPER.writeValueAsBytes(list)))) {
       list = JSON_MAPPER.readValue(json, KubernetesList.class);
     } catch (IOException e) {
       throw KubernetesClientException.launderThrowable(e);